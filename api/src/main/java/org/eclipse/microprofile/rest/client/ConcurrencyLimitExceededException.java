@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client;
+
+import jakarta.ws.rs.ProcessingException;
+
+/**
+ * This exception is thrown by a client interface method, or completes the <code>CompletionStage</code> returned by an
+ * asynchronous client interface method, when the request is not sent because the concurrency limit of the client
+ * instance for the target host is reached.
+ *
+ * @see RestClientBuilder#concurrencyLimit(org.eclipse.microprofile.rest.client.ext.ConcurrencyLimit, int, int)
+ * @since 4.1
+ */
+public class ConcurrencyLimitExceededException extends ProcessingException {
+    static final long serialVersionUID = 6216310725316592811L;
+
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+
+    /**
+     * @return the concurrency limit in effect when the request was rejected
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
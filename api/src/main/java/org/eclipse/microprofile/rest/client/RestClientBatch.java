@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * A batch of invocations of a Rest Client instance, dispatched concurrently and returning their results in submission
+ * order. For example:
+ *
+ * <pre>
+ * RestClientBatch&lt;ProductClient, Product&gt; batch = RestClientBatch.of(client);
+ * for (String id : ids) {
+ *     batch.submitAsync(c -&gt; c.getAsync(id));
+ * }
+ * List&lt;Product&gt; products = batch.parallelism(8).execute();
+ * </pre>
+ * <p>
+ * At most {@link #parallelism(int)} invocations are in flight at any time. The invocations share the connections of the
+ * client instance: they are multiplexed over a single connection when the client uses HTTP/2, see
+ * {@link RestClientBuilder#httpVersion(org.eclipse.microprofile.rest.client.ext.HttpVersion)}, and spread over the
+ * connection pool otherwise, see {@link RestClientBuilder#maxConnectionsPerHost(int)}.
+ * <p>
+ * Invocations submitted with {@link #submitAsync(Function)} invoke asynchronous methods of the client instance, so they
+ * run on the executor of the client, see
+ * {@link RestClientBuilder#executorService(java.util.concurrent.ExecutorService)} and
+ * {@link RestClientBuilder#virtualThreads(boolean)}, and the batch does not hold a thread while they are in flight.
+ * Invocations submitted with {@link #submit(Function)} block until they complete, so they run on the executor specified
+ * with {@link #executor(Executor)}, which is required if the batch contains any. Context tied to the submitting thread,
+ * such as the CDI request context, is not available to blocking invocations unless that executor propagates it.
+ * <p>
+ * A batch is not thread safe and can only be executed once.
+ *
+ * @param <C>
+ *            the type of the client instance
+ * @param <R>
+ *            the type of the invocation results
+ * @since 4.1
+ */
+public final class RestClientBatch<C, R> {
+
+    /**
+     * The parallelism used when none is specified.
+     */
+    public static final int DEFAULT_PARALLELISM = 16;
+
+    private final C client;
+    private final List<Invocation<C, R>> invocations = new ArrayList<>();
+    private int parallelism = DEFAULT_PARALLELISM;
+    private Executor executor;
+    private boolean blocking;
+    private boolean executed;
+
+    private RestClientBatch(C client) {
+        this.client = client;
+    }
+
+    /**
+     * Creates an empty batch of invocations of the given client instance.
+     *
+     * @param client
+     *            the client instance built by a {@link RestClientBuilder} or injected via CDI - must be non-null
+     * @param <C>
+     *            the type of the client instance
+     * @param <R>
+     *            the type of the invocation results
+     * @return a new batch
+     * @throws NullPointerException
+     *             if the <code>client</code> parameter is null.
+     */
+    public static <C, R> RestClientBatch<C, R> of(C client) {
+        return new RestClientBatch<>(Objects.requireNonNull(client, "client"));
+    }
+
+    /**
+     * Adds a blocking invocation to the batch. It runs on the executor specified with {@link #executor(Executor)}.
+     *
+     * @param invocation
+     *            a function invoking a method of the client instance and returning its result - must be non-null
+     * @return this batch
+     * @throws IllegalStateException
+     *             if the batch has already been executed.
+     */
+    public RestClientBatch<C, R> submit(Function<? super C, ? extends R> invocation) {
+        checkNotExecuted();
+        Objects.requireNonNull(invocation, "invocation");
+        invocations.add((c, e) -> {
+            CompletableFuture<R> stage = new CompletableFuture<>();
+            e.execute(() -> {
+                try {
+                    stage.complete(invocation.apply(c));
+                } catch (Throwable t) {
+                    stage.completeExceptionally(t);
+                }
+            });
+            return stage;
+        });
+        blocking = true;
+        return this;
+    }
+
+    /**
+     * Adds an asynchronous invocation to the batch. The function is invoked once fewer than {@link #parallelism(int)}
+     * invocations are in flight, and the invocation is in flight until the returned stage completes.
+     *
+     * @param invocation
+     *            a function invoking an asynchronous method of the client instance and returning its
+     *            <code>CompletionStage</code> - must be non-null
+     * @return this batch
+     * @throws IllegalStateException
+     *             if the batch has already been executed.
+     */
+    public RestClientBatch<C, R> submitAsync(Function<? super C, ? extends CompletionStage<? extends R>> invocation) {
+        checkNotExecuted();
+        Objects.requireNonNull(invocation, "invocation");
+        invocations.add((c, e) -> invocation.apply(c));
+        return this;
+    }
+
+    /**
+     * Set the maximum number of invocations in flight at any time. Defaults to {@value #DEFAULT_PARALLELISM}.
+     *
+     * @param max
+     *            the maximum number of concurrent invocations - must be greater than 0.
+     * @return this batch
+     * @throws IllegalArgumentException
+     *             if the value of max is not positive.
+     */
+    public RestClientBatch<C, R> parallelism(int max) {
+        if (max <= 0) {
+            throw new IllegalArgumentException("parallelism must be greater than 0: " + max);
+        }
+        this.parallelism = max;
+        return this;
+    }
+
+    /**
+     * Specifies the executor running the blocking invocations submitted with {@link #submit(Function)}. Each of them
+     * holds a thread of the executor while it is in flight, so the executor should be able to run as many tasks
+     * concurrently as the parallelism of the batch. If the executor rejects an invocation, that invocation fails with
+     * the <code>RejectedExecutionException</code>.
+     *
+     * @param executor
+     *            the executor running the blocking invocations - must be non-null.
+     * @return this batch
+     */
+    public RestClientBatch<C, R> executor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Executes the invocations and waits for all of them to complete.
+     *
+     * @return the results of the invocations, in submission order
+     * @throws RestClientBatchException
+     *             if any invocation failed, with the failure of the first failed invocation, in submission order, as
+     *             its cause.
+     * @throws IllegalStateException
+     *             if the batch has already been executed, or if it contains blocking invocations and no executor was
+     *             specified.
+     */
+    public List<R> execute() {
+        try {
+            return executeAsync().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the invocations without waiting for them to complete.
+     *
+     * @return a stage completed with the results of the invocations, in submission order, once all of them have
+     *         completed, or completed exceptionally with a {@link RestClientBatchException} if any of them failed
+     * @throws IllegalStateException
+     *             if the batch has already been executed, or if it contains blocking invocations and no executor was
+     *             specified.
+     */
+    public CompletionStage<List<R>> executeAsync() {
+        checkNotExecuted();
+        if (blocking && executor == null) {
+            throw new IllegalStateException("The batch contains blocking invocations, which require an executor");
+        }
+        executed = true;
+
+        int count = invocations.size();
+        CompletableFuture<List<R>> result = new CompletableFuture<>();
+        if (count == 0) {
+            result.complete(new ArrayList<>());
+            return result;
+        }
+
+        Execution execution = new Execution(count, result);
+        for (int i = 0, inFlight = Math.min(parallelism, count); i < inFlight; i++) {
+            execution.startNext();
+        }
+        return result;
+    }
+
+    private void checkNotExecuted() {
+        if (executed) {
+            throw new IllegalStateException("The batch has already been executed");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Invocation<C, R> {
+        CompletionStage<? extends R> start(C client, Executor executor);
+    }
+
+    /*
+     * Every completed invocation starts the next pending one, so at most parallelism invocations are in flight. The
+     * last invocation to complete completes the result.
+     */
+    private final class Execution {
+        private final Object[] results;
+        private final Throwable[] failures;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final AtomicInteger starts = new AtomicInteger();
+        private final CompletableFuture<List<R>> result;
+
+        Execution(int count, CompletableFuture<List<R>> result) {
+            this.results = new Object[count];
+            this.failures = new Throwable[count];
+            this.remaining = new AtomicInteger(count);
+            this.result = result;
+        }
+
+        void startNext() {
+            // invocations completing while they are started request the next start on the same thread, the loop
+            // takes these requests over instead of recursing, so the stack does not grow with the size of the batch
+            if (starts.getAndIncrement() == 0) {
+                do {
+                    start(next.getAndIncrement());
+                } while (starts.decrementAndGet() != 0);
+            }
+        }
+
+        private void start(int index) {
+            if (index >= results.length) {
+                return;
+            }
+            CompletionStage<? extends R> stage;
+            try {
+                stage = Objects.requireNonNull(invocations.get(index).start(client, executor),
+                        "The invocation returned a null CompletionStage");
+            } catch (Throwable t) {
+                completed(index, null, t);
+                return;
+            }
+            stage.whenComplete((value, failure) -> completed(index, value, failure));
+        }
+
+        private void completed(int index, Object value, Throwable failure) {
+            if (failure != null) {
+                failures[index] = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+            } else {
+                results[index] = value;
+            }
+            // the decrement publishes the result of this invocation to the thread completing the batch
+            if (remaining.decrementAndGet() == 0) {
+                complete();
+            } else {
+                startNext();
+            }
+        }
+
+        private void complete() {
+            try {
+                completeResult();
+            } catch (Throwable t) {
+                // never leave the result incomplete, the caller may be waiting for it
+                result.completeExceptionally(t);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void completeResult() {
+            Map<Integer, Throwable> failed = new TreeMap<>();
+            for (int i = 0; i < failures.length; i++) {
+                if (failures[i] != null) {
+                    failed.put(i, failures[i]);
+                }
+            }
+            if (!failed.isEmpty()) {
+                result.completeExceptionally(new RestClientBatchException(
+                        failed.size() + " of " + failures.length + " invocations of the batch failed", failed));
+            } else {
+                result.complete((List<R>) new ArrayList<>(Arrays.asList(results)));
+            }
+        }
+    }
+}
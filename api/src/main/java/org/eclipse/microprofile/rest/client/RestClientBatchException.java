@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * This exception is thrown by {@link RestClientBatch#execute()}, or completes the <code>CompletionStage</code> returned
+ * by {@link RestClientBatch#executeAsync()}, when at least one invocation of the batch failed. Its cause is the failure
+ * of the first failed invocation in submission order, and {@link #getFailures()} returns the failures of all the failed
+ * invocations. The failures are reported as thrown: they are not modified, so the same instance may be reported by
+ * several invocations or batches.
+ *
+ * @since 4.1
+ */
+public class RestClientBatchException extends RuntimeException {
+    static final long serialVersionUID = -2186542519617262813L;
+
+    private final SortedMap<Integer, Throwable> failures;
+
+    /**
+     * @param message
+     *            the detail message
+     * @param failures
+     *            the failures of the failed invocations, by their index in submission order - must not be empty
+     * @throws IllegalArgumentException
+     *             if <code>failures</code> is empty.
+     */
+    public RestClientBatchException(String message, Map<Integer, ? extends Throwable> failures) {
+        this(message, new TreeMap<>(failures));
+    }
+
+    private RestClientBatchException(String message, TreeMap<Integer, Throwable> failures) {
+        super(message, failures.isEmpty() ? null : failures.firstEntry().getValue());
+        if (failures.isEmpty()) {
+            throw new IllegalArgumentException("A batch exception requires at least one failure");
+        }
+        this.failures = Collections.unmodifiableSortedMap(failures);
+    }
+
+    /**
+     * @return the failures of the failed invocations, by their index in submission order
+     */
+    public SortedMap<Integer, Throwable> getFailures() {
+        return failures;
+    }
+}
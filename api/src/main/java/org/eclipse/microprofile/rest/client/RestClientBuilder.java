@@ -21,13 +21,16 @@ import java.net.URL;
 import java.security.AccessController;
 import java.security.KeyStore;
 import java.security.PrivilegedAction;
-import java.util.ServiceLoader;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
+import org.eclipse.microprofile.rest.client.ext.ConcurrencyLimit;
+import org.eclipse.microprofile.rest.client.ext.ContextPropagator;
+import org.eclipse.microprofile.rest.client.ext.HttpVersion;
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderListener;
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
@@ -37,7 +40,9 @@ import jakarta.ws.rs.core.Configurable;
 /**
  * This is the main entry point for creating a Type Safe Rest Client.
  * <p>
- * Invoking {@link #newBuilder()} is intended to always create a new instance, not use a cached version.
+ * Invoking {@link #newBuilder()} is intended to always create a new instance, not use a cached version. The
+ * {@link RestClientBuilderListener} instances notified of each new builder are loaded once per context class loader,
+ * and are loaded again after the {@link RestClientBuilderResolver} instance changes.
  * </p>
  * <p>
  * The <code>RestClientBuilder</code> is a {@link Configurable} class as defined by Jakarta RESTful Web Services. This
@@ -51,13 +56,23 @@ import jakarta.ws.rs.core.Configurable;
 public interface RestClientBuilder extends Configurable<RestClientBuilder> {
 
     static RestClientBuilder newBuilder() {
-        RestClientBuilder builder = RestClientBuilderResolver.instance().newBuilder();
-        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
-            for (RestClientBuilderListener listener : ServiceLoader.load(RestClientBuilderListener.class)) {
+        RestClientBuilderResolver resolver = RestClientBuilderResolver.instance();
+        RestClientBuilder builder = resolver.newBuilder();
+        List<RestClientBuilderListener> listeners = RestClientBuilderListeners.get(resolver);
+        if (listeners.isEmpty()) {
+            return builder;
+        }
+        PrivilegedAction<Void> action = () -> {
+            for (RestClientBuilderListener listener : listeners) {
                 listener.onNewBuilder(builder);
             }
             return null;
-        });
+        };
+        if (System.getSecurityManager() == null) {
+            action.run();
+        } else {
+            AccessController.doPrivileged(action);
+        }
         return builder;
     }
 
@@ -184,6 +199,54 @@ public interface RestClientBuilder extends Configurable<RestClientBuilder> {
      */
     RestClientBuilder executorService(ExecutorService executor);
 
+    /**
+     * Specifies whether asynchronous Rest Client interface methods are invoked on virtual threads. When enabled, the
+     * request and the processing of the response - including filters, <code>MessageBodyReader</code>s and the
+     * <code>applyContext</code>/<code>removeContext</code> methods of <code>AsyncInvocationInterceptor</code>s - are
+     * executed on a new virtual thread per invocation, rather than on a thread from a pool of platform threads.
+     * <p>
+     * An <code>ExecutorService</code> specified via {@link #executorService(ExecutorService)} takes precedence over
+     * this setting. If the Java runtime does not support virtual threads, this setting is ignored.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/virtualThreads&quot; property is set via MicroProfile
+     * Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param enabled
+     *            - true if asynchronous methods should be invoked on virtual threads, false if not.
+     * @return the current builder with the virtualThreads property set.
+     * @since 4.1
+     */
+    RestClientBuilder virtualThreads(boolean enabled);
+
+    /**
+     * Specifies the <code>ContextPropagator</code> used to propagate context (for example the CDI request context, the
+     * security context, logging MDC or tracing context) to the threads processing asynchronous Rest Client interface
+     * method invocations.
+     * <p>
+     * The context is captured once per invocation, on the thread invoking the asynchronous method, and the captured
+     * snapshot is applied on every thread that takes part in the invocation - the request, the providers on the
+     * outbound and inbound flows, and the completion of the returned <code>CompletionStage</code> - and removed again
+     * afterwards. Context propagated this way is active before the <code>applyContext</code> methods of
+     * <code>AsyncInvocationInterceptor</code>s are invoked, and until their <code>removeContext</code> methods have
+     * returned. By default, no <code>ContextPropagator</code> is used.
+     * </p>
+     * <p>
+     * A MicroProfile Context Propagation <code>ThreadContext</code> can be used with
+     * <code>contextPropagator(threadContext::currentContextExecutor)</code>.
+     * </p>
+     *
+     * @param contextPropagator
+     *            - the propagator that captures and applies the context to propagate - must be non-null.
+     * @return the current builder with the contextPropagator set.
+     * @throws IllegalArgumentException
+     *             if the <code>contextPropagator</code> parameter is null.
+     * @since 4.1
+     */
+    RestClientBuilder contextPropagator(ContextPropagator contextPropagator);
+
     /**
      * Specifies the SSL context to use when creating secured transport connections to server endpoints from web targets
      * created by the client instance that is using this SSL context.
@@ -283,6 +346,322 @@ public interface RestClientBuilder extends Configurable<RestClientBuilder> {
      */
     RestClientBuilder header(String name, Object value);
 
+    /**
+     * Set the maximum number of pooled connections the client may keep open to a single host (scheme, host and port).
+     * <p>
+     * Requests that would exceed this limit wait for a connection to be released back to the pool, for at most the time
+     * specified by {@link #connectionAcquireTimeout(long, TimeUnit)}.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/connectionPool/maxConnectionsPerHost&quot; property is set
+     * via MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param max
+     *            the maximum number of connections per host - must be greater than 0.
+     * @return the current builder with the maximum number of connections per host set.
+     * @throws IllegalArgumentException
+     *             if the value of max is not positive.
+     * @since 4.1
+     */
+    RestClientBuilder maxConnectionsPerHost(int max);
+
+    /**
+     * Set the maximum total number of pooled connections the client may keep open, across all hosts.
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/connectionPool/maxConnections&quot; property is set via
+     * MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param max
+     *            the maximum total number of connections - must be greater than 0.
+     * @return the current builder with the maximum number of connections set.
+     * @throws IllegalArgumentException
+     *             if the value of max is not positive.
+     * @since 4.1
+     */
+    RestClientBuilder maxConnections(int max);
+
+    /**
+     * Set the time after which an idle pooled connection is closed and evicted from the pool.
+     * <p>
+     * Specifying a timeout of 0 means idle connections are never evicted, and negative values are not allowed.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/connectionPool/idleTimeout&quot; property is set via
+     * MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param timeout
+     *            the maximum time a connection may stay idle in the pool.
+     * @param unit
+     *            the time unit of the timeout argument.
+     * @return the current builder with the idle timeout set.
+     * @throws IllegalArgumentException
+     *             if the value of timeout is negative.
+     * @since 4.1
+     */
+    RestClientBuilder connectionIdleTimeout(long timeout, TimeUnit unit);
+
+    /**
+     * Set the maximum lifetime of a pooled connection. A connection that has been open longer than this is closed
+     * instead of being returned to the pool, once its current request completes.
+     * <p>
+     * Specifying a lifetime of 0 represents infinity, and negative values are not allowed.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/connectionPool/timeToLive&quot; property is set via
+     * MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param timeToLive
+     *            the maximum lifetime of a connection.
+     * @param unit
+     *            the time unit of the timeToLive argument.
+     * @return the current builder with the connection lifetime set.
+     * @throws IllegalArgumentException
+     *             if the value of timeToLive is negative.
+     * @since 4.1
+     */
+    RestClientBuilder connectionTimeToLive(long timeToLive, TimeUnit unit);
+
+    /**
+     * Set the maximum time to wait for a connection to become available when the pool is exhausted.
+     * <p>
+     * Specifying a timeout of 0 represents infinity, and negative values are not allowed. If the timeout is reached,
+     * the client interface method will throw a <code>jakarta.ws.rs.ProcessingException</code>.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/connectionPool/acquireTimeout&quot; property is set via
+     * MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param timeout
+     *            the maximum time to wait for a pooled connection.
+     * @param unit
+     *            the time unit of the timeout argument.
+     * @return the current builder with the acquire timeout set.
+     * @throws IllegalArgumentException
+     *             if the value of timeout is negative.
+     * @since 4.1
+     */
+    RestClientBuilder connectionAcquireTimeout(long timeout, TimeUnit unit);
+
+    /**
+     * Specifies the version of the HTTP protocol that client instances use to communicate with the remote endpoint.
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/httpVersion&quot; property is set via MicroProfile Config,
+     * that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param version
+     *            - the HTTP protocol version to use - must be non-null
+     * @return the current builder with the HTTP version set
+     * @throws NullPointerException
+     *             if the <code>version</code> parameter is null.
+     * @since 4.1
+     */
+    RestClientBuilder httpVersion(HttpVersion version);
+
+    /**
+     * Set the maximum number of concurrent streams the client opens on a single HTTP/2 connection. Requests exceeding
+     * this limit are sent on an additional connection, within the limits of the connection pool, or wait for a stream
+     * to complete.
+     * <p>
+     * The effective limit is the lower of this value and the <code>SETTINGS_MAX_CONCURRENT_STREAMS</code> value
+     * advertised by the server. This setting has no effect if the client uses HTTP/1.1.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/http2/maxConcurrentStreams&quot; property is set via
+     * MicroProfile Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param max
+     *            the maximum number of concurrent streams per connection - must be greater than 0.
+     * @return the current builder with the maximum number of concurrent streams set.
+     * @throws IllegalArgumentException
+     *             if the value of max is not positive.
+     * @since 4.1
+     */
+    RestClientBuilder maxConcurrentStreams(int max);
+
+    /**
+     * Enables transparent compression for client instances, using the given content codings in order of preference.
+     * <p>
+     * Requests carry an <code>Accept-Encoding</code> header listing these codings, unless the request already specifies
+     * one, and responses whose <code>Content-Encoding</code> is one of them are decoded as they are read, before the
+     * entity is passed to <code>ClientResponseFilter</code>s, <code>ResponseExceptionMapper</code>s and
+     * <code>MessageBodyReader</code>s. The bodies of requests sent by methods annotated with
+     * {@link org.eclipse.microprofile.rest.client.annotation.Compressed Compressed} are encoded with the first coding,
+     * unless the annotation specifies another one.
+     * </p>
+     * <p>
+     * Implementations must support the <code>gzip</code> and <code>deflate</code> codings, and may support others such
+     * as <code>br</code> and <code>zstd</code>. Calling this method with no codings disables compression, which is the
+     * default.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/compression&quot; property is set via MicroProfile Config,
+     * that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param encodings
+     *            the content codings to accept, such as <code>gzip</code>, in order of preference - must be non-null.
+     * @return the current builder with the accepted content codings set.
+     * @throws IllegalArgumentException
+     *             if a coding is not supported by the implementation.
+     * @since 4.1
+     */
+    RestClientBuilder compression(String... encodings);
+
+    /**
+     * Set the minimum size of a request body, in bytes, for it to be compressed by a method annotated with
+     * {@link org.eclipse.microprofile.rest.client.annotation.Compressed Compressed}. Smaller bodies are sent as is.
+     * Bodies whose size is not known before they are written, such as streamed bodies, are always compressed.
+     * <p>
+     * If not set, the threshold is 1024 bytes.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/compression/threshold&quot; property is set via MicroProfile
+     * Config, that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param minSize
+     *            the minimum size of a compressed request body - must not be negative.
+     * @return the current builder with the compression threshold set.
+     * @throws IllegalArgumentException
+     *             if the value of minSize is negative.
+     * @since 4.1
+     */
+    RestClientBuilder compressionThreshold(long minSize);
+
+    /**
+     * Enables an in-memory HTTP response cache for client instances, holding at most the given number of bytes of
+     * response bodies. The responses of methods annotated with
+     * {@link org.eclipse.microprofile.rest.client.annotation.Cacheable Cacheable} are stored and reused according to
+     * their <code>Cache-Control</code>, <code>Expires</code>, <code>ETag</code>, <code>Last-Modified</code> and
+     * <code>Vary</code> headers, following the rules of a private cache. Stale responses with a validator are
+     * revalidated with a conditional request.
+     * <p>
+     * Each client instance has its own cache. Specifying a size of 0 disables the cache, which is the default, and
+     * negative values are not allowed.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/cache/maxSize&quot; property is set via MicroProfile Config,
+     * that property's value will override, the value specified to this method.
+     * </p>
+     *
+     * @param maxSize
+     *            the maximum total size in bytes of the cached response bodies.
+     * @return the current builder with the response cache size set.
+     * @throws IllegalArgumentException
+     *             if the value of maxSize is negative.
+     * @since 4.1
+     */
+    RestClientBuilder responseCache(long maxSize);
+
+    /**
+     * Limits the number of requests client instances have in flight to a single host (scheme, host and port). Requests
+     * exceeding the limit are not sent: the client interface method throws a {@link ConcurrencyLimitExceededException},
+     * or the <code>CompletionStage</code> returned by an asynchronous method completes exceptionally with it.
+     * <p>
+     * With {@link ConcurrencyLimit#FIXED}, the limit is the initial limit. The adaptive algorithms start from the
+     * initial limit and adjust it between 1 and the maximum limit, based on the latency and the failures observed. Each
+     * client instance has its own limits. Specifying {@link ConcurrencyLimit#NONE} disables the limit, which is the
+     * default.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/concurrencyLimit/algorithm&quot;,
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/concurrencyLimit/initialLimit&quot; or
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/concurrencyLimit/maxLimit&quot; properties are set via
+     * MicroProfile Config, those properties' values will override, the values specified to this method.
+     * </p>
+     *
+     * @param algorithm
+     *            the algorithm computing the limit - must be non-null.
+     * @param initialLimit
+     *            the limit in effect when the client instance is built - must be greater than 0.
+     * @param maxLimit
+     *            the maximum limit - must not be lower than initialLimit. Ignored with {@link ConcurrencyLimit#FIXED}.
+     * @return the current builder with the concurrency limit set.
+     * @throws NullPointerException
+     *             if the <code>algorithm</code> parameter is null.
+     * @throws IllegalArgumentException
+     *             if the value of initialLimit is not positive, or if maxLimit is lower than initialLimit.
+     * @since 4.1
+     */
+    RestClientBuilder concurrencyLimit(ConcurrencyLimit algorithm, int initialLimit, int maxLimit);
+
+    /**
+     * Specifies the retry policy of the methods of client instances that are not annotated with
+     * {@link org.eclipse.microprofile.rest.client.annotation.RetryPolicy RetryPolicy}, nor declared in an interface
+     * annotated with it. The other attributes of the policy have the default values of the annotation.
+     * <p>
+     * Specifying a maximum of 1 attempt disables retries, which is the default.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/retry/maxAttempts&quot;,
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/retry/delay&quot; or
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/retry/maxDelay&quot; properties are set via MicroProfile
+     * Config, those properties' values will override, the values specified to this method and by the annotations.
+     * </p>
+     *
+     * @param maxAttempts
+     *            the maximum number of requests sent per invocation, including the first one - must be greater than 0.
+     * @param delay
+     *            the delay before the first retry, doubled for each subsequent retry.
+     * @param maxDelay
+     *            the maximum delay before a retry - must not be lower than delay.
+     * @param unit
+     *            the time unit of the delay and maxDelay arguments.
+     * @return the current builder with the retry policy set.
+     * @throws IllegalArgumentException
+     *             if the value of maxAttempts is not positive, if the value of delay is negative or if maxDelay is
+     *             lower than delay.
+     * @since 4.1
+     */
+    RestClientBuilder retryPolicy(int maxAttempts, long delay, long maxDelay, TimeUnit unit);
+
+    /**
+     * Set the retry budget of client instances, which prevents retries from multiplying the load of a server that is
+     * already failing. A failed request is only retried if the retries sent by the client instance during the last 10
+     * seconds, including this one, do not exceed the given ratio of the invocations made during the same period, plus
+     * the given number of retries per second.
+     * <p>
+     * The default budget is a ratio of 0.2 and 10 retries per second, and negative values are not allowed. Each client
+     * instance has its own budget.
+     * </p>
+     * <p>
+     * If the client instance is injected via CDI and the
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/retry/budget&quot; or
+     * &quot;<em>fully.qualified.InterfaceName</em>/mp-rest/retry/minRetriesPerSecond&quot; properties are set via
+     * MicroProfile Config, those properties' values will override, the values specified to this method.
+     * </p>
+     *
+     * @param ratio
+     *            the maximum ratio of retries to invocations.
+     * @param minRetriesPerSecond
+     *            the number of retries per second allowed regardless of the ratio, so that clients making few
+     *            invocations can still retry.
+     * @return the current builder with the retry budget set.
+     * @throws IllegalArgumentException
+     *             if the value of ratio or minRetriesPerSecond is negative.
+     * @since 4.1
+     */
+    RestClientBuilder retryBudget(double ratio, int minRetriesPerSecond);
+
     /**
      * Based on the configured RestClientBuilder, creates a new instance of the given REST interface to invoke API calls
      * against.
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client;
+
+import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.rest.client.spi.RestClientBuilderListener;
+import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
+
+/**
+ * Caches the {@link RestClientBuilderListener} instances loaded by {@link RestClientBuilder#newBuilder()}, per context
+ * class loader. The cache is discarded when the {@link RestClientBuilderResolver} instance changes, for example after
+ * {@link RestClientBuilderResolver#setInstance(RestClientBuilderResolver)}.
+ * <p>
+ * The cache does not keep context class loaders reachable. When some of the listeners are defined by the context class
+ * loader (or one of its descendants), the listeners are only weakly referenced from the cache and are kept alive by the
+ * class of such a listener instead, so that they can be collected together with the class loader.
+ * </p>
+ */
+final class RestClientBuilderListeners {
+
+    private static final Map<ClassLoader, Supplier<List<RestClientBuilderListener>>> LISTENERS = new WeakHashMap<>();
+    private static final ClassValue<AtomicReference<List<RestClientBuilderListener>>> DEFINED_LISTENERS =
+            new ClassValue<AtomicReference<List<RestClientBuilderListener>>>() {
+                @Override
+                protected AtomicReference<List<RestClientBuilderListener>> computeValue(Class<?> type) {
+                    return new AtomicReference<>();
+                }
+            };
+    private static RestClientBuilderResolver listenersResolver;
+
+    private static volatile Entry last;
+
+    private RestClientBuilderListeners() {
+    }
+
+    static List<RestClientBuilderListener> get(RestClientBuilderResolver resolver) {
+        ClassLoader classLoader = contextClassLoader();
+        Entry entry = last;
+        if (entry != null && entry.resolver == resolver && entry.classLoader.get() == classLoader) {
+            List<RestClientBuilderListener> listeners = entry.listeners.get();
+            if (listeners != null) {
+                return listeners;
+            }
+        }
+
+        Supplier<List<RestClientBuilderListener>> cached;
+        List<RestClientBuilderListener> listeners;
+        synchronized (LISTENERS) {
+            if (listenersResolver != resolver) {
+                LISTENERS.clear();
+                listenersResolver = resolver;
+            }
+            cached = LISTENERS.get(classLoader);
+            listeners = cached == null ? null : cached.get();
+            if (listeners == null) {
+                listeners = load(classLoader);
+                cached = cache(classLoader, listeners);
+                LISTENERS.put(classLoader, cached);
+            }
+        }
+        last = new Entry(resolver, classLoader, cached);
+        return listeners;
+    }
+
+    private static ClassLoader contextClassLoader() {
+        if (System.getSecurityManager() == null) {
+            return contextClassLoaderOrSystem();
+        }
+        return AccessController.doPrivileged(
+                (PrivilegedAction<ClassLoader>) RestClientBuilderListeners::contextClassLoaderOrSystem);
+    }
+
+    private static ClassLoader contextClassLoaderOrSystem() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        // ServiceLoader.load(Class) uses the system class loader when there is no context class loader
+        return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+    }
+
+    private static List<RestClientBuilderListener> load(ClassLoader classLoader) {
+        PrivilegedAction<List<RestClientBuilderListener>> action = () -> {
+            List<RestClientBuilderListener> listeners = new ArrayList<>();
+            for (RestClientBuilderListener listener : ServiceLoader.load(RestClientBuilderListener.class,
+                    classLoader)) {
+                listeners.add(listener);
+            }
+            return Collections.unmodifiableList(listeners);
+        };
+        return System.getSecurityManager() == null ? action.run() : AccessController.doPrivileged(action);
+    }
+
+    private static Supplier<List<RestClientBuilderListener>> cache(ClassLoader classLoader,
+            List<RestClientBuilderListener> listeners) {
+        PrivilegedAction<Class<?>> action = () -> definedListenerClass(classLoader, listeners);
+        Class<?> definedListenerClass =
+                System.getSecurityManager() == null ? action.run() : AccessController.doPrivileged(action);
+        if (definedListenerClass == null) {
+            // the listeners do not reference the class loader, so they can be cached along with it
+            return () -> listeners;
+        }
+        DEFINED_LISTENERS.get(definedListenerClass).set(listeners);
+        return new WeakReference<>(listeners)::get;
+    }
+
+    private static Class<?> definedListenerClass(ClassLoader classLoader,
+            List<RestClientBuilderListener> listeners) {
+        for (RestClientBuilderListener listener : listeners) {
+            for (ClassLoader cl = listener.getClass().getClassLoader(); cl != null; cl = cl.getParent()) {
+                if (cl == classLoader) {
+                    return listener.getClass();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class Entry {
+        private final RestClientBuilderResolver resolver;
+        private final WeakReference<ClassLoader> classLoader;
+        private final Supplier<List<RestClientBuilderListener>> listeners;
+
+        private Entry(RestClientBuilderResolver resolver, ClassLoader classLoader,
+                Supplier<List<RestClientBuilderListener>> listeners) {
+            this.resolver = resolver;
+            this.classLoader = new WeakReference<>(classLoader);
+            this.listeners = listeners;
+        }
+    }
+}
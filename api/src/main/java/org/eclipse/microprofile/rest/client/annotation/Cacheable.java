@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the responses of a client interface method may be served from the client's response cache, enabled
+ * with {@link org.eclipse.microprofile.rest.client.RestClientBuilder#responseCache(long)}. When the annotation is
+ * placed on the interface, it applies to every <code>GET</code> and <code>HEAD</code> method of the interface. For
+ * example:
+ *
+ * <pre>
+ * public interface CountryClient {
+ *     &#064;GET
+ *     &#064;Path("/countries/{code}")
+ *     &#064;Cacheable
+ *     Country get(&#064;PathParam("code") String code);
+ * }
+ * </pre>
+ * <p>
+ * Responses are cached and reused according to their own caching headers. The {@link #maxAge()} attribute supplies the
+ * freshness lifetime of responses that specify none, through neither a <code>max-age</code> directive nor an
+ * <code>Expires</code> header. Responses of methods without this annotation are never cached, and the annotation has no
+ * effect when the response cache is not enabled.
+ * <p>
+ * Placing this annotation on a method other than <code>GET</code> or <code>HEAD</code> results in a
+ * {@link org.eclipse.microprofile.rest.client.RestClientDefinitionException RestClientDefinitionException}.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Cacheable {
+
+    /**
+     * @return the freshness lifetime in seconds of responses without explicit freshness information, or a negative
+     *         value to treat them as stale, so that they are only reused after a successful revalidation
+     */
+    long maxAge() default -1;
+}
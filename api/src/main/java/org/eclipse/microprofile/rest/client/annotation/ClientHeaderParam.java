@@ -71,6 +71,19 @@ import java.lang.annotation.Target;
  * <p>
  * Note that if an interface method contains an argument annotated with <code>@HeaderParam</code>, that argument will
  * take priority over anything specified in a ClientHeaderParam annotation.
+ * <p>
+ * By default, the compute method is invoked for each request. Compute methods that are expensive, such as methods
+ * minting a signed token, can have their value reused with the <code>scope</code> and <code>cacheFor</code> attributes:
+ *
+ * <pre>
+ *    {@literal @}ClientHeaderParam(name="Authorization", value="{mintToken}", scope=Scope.PER_CLIENT, cacheFor=60000)
+ *    {@literal @}GET
+ *    Response useCachedHeaderValue();
+ * </pre>
+ *
+ * A computed value is cached per client instance and per annotation, and is only reused for requests of the methods to
+ * which the annotation applies. Exceptions thrown by the compute method are never cached. The implementation resolves
+ * the compute method when the client instance is built, so that invoking it does not require a reflective lookup.
  *
  * @since 1.2
  */
@@ -94,4 +107,41 @@ public @interface ClientHeaderParam {
      *         default) or just skip this header (false)
      */
     boolean required() default true;
+
+    /**
+     * @return how long a computed header value is reused - ignored if the header value is not computed
+     * @since 4.1
+     */
+    Scope scope() default Scope.PER_INVOCATION;
+
+    /**
+     * @return the time in milliseconds after which a cached header value is computed again, or a negative value
+     *         (default) to reuse it for the lifetime of the client instance - ignored with {@link Scope#PER_INVOCATION}
+     * @since 4.1
+     */
+    long cacheFor() default -1;
+
+    /**
+     * How long a computed header value is reused.
+     *
+     * @since 4.1
+     */
+    enum Scope {
+
+        /**
+         * The compute method is invoked for each request. This is the default.
+         */
+        PER_INVOCATION,
+
+        /**
+         * The computed value is reused by every request of the client instance, until it expires.
+         */
+        PER_CLIENT,
+
+        /**
+         * The computed value is reused by the requests of the client instance whose header values are computed on the
+         * same thread, until it expires.
+         */
+        PER_THREAD
+    }
 }
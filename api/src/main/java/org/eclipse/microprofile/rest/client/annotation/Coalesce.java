@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that concurrent identical invocations of a client interface method share a single in-flight request. When
+ * the annotation is placed on the interface, it applies to every <code>GET</code> and <code>HEAD</code> method of the
+ * interface. For example:
+ *
+ * <pre>
+ * public interface CatalogClient {
+ *     &#064;GET
+ *     &#064;Path("/products/{id}")
+ *     &#064;Coalesce(ignoreHeaders = "traceparent")
+ *     Product get(&#064;PathParam("id") String id);
+ * }
+ * </pre>
+ * <p>
+ * Two invocations are identical when their requests have the same HTTP method, the same resolved URI and the same
+ * headers, once the <code>ClientHeadersFactory</code> and <code>ClientRequestFilter</code> instances have been invoked,
+ * ignoring the headers listed in {@link #ignoreHeaders()}. An invocation made while an identical request is in flight
+ * does not send a request of its own, but completes with the outcome of the in-flight request: its result, or the
+ * exception it throws. Invocations made once the in-flight request has completed send a new request.
+ * <p>
+ * Both synchronous and asynchronous (<code>CompletionStage</code>) methods can be coalesced. Cancelling the
+ * <code>CompletionStage</code> of one invocation does not cancel the shared request while other invocations are waiting
+ * for it.
+ * <p>
+ * Placing this annotation on a method other than <code>GET</code> or <code>HEAD</code>, or on a method whose return
+ * type streams the response body, such as <code>InputStream</code> or <code>Publisher</code>, results in a
+ * {@link org.eclipse.microprofile.rest.client.RestClientDefinitionException RestClientDefinitionException}.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesce {
+
+    /**
+     * @return how the outcome of the shared request is delivered to the coalesced invocations
+     */
+    Delivery value() default Delivery.SHARED;
+
+    /**
+     * @return the names of the request headers whose values do not distinguish invocations, such as tracing headers
+     */
+    String[] ignoreHeaders() default {};
+
+    /**
+     * How the outcome of a shared request is delivered to coalesced invocations.
+     */
+    enum Delivery {
+
+        /**
+         * The response is processed once, by the response filters, the <code>ResponseExceptionMapper</code>s and the
+         * <code>MessageBodyReader</code>, and every invocation returns the same result object. This is the default.
+         * Methods returning <code>jakarta.ws.rs.core.Response</code> always use {@link #COPY}.
+         */
+        SHARED,
+
+        /**
+         * The response body is buffered, and each invocation processes its own copy of the response, so that each
+         * invocation returns its own result object that it may modify.
+         */
+        COPY
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the request body sent by a client interface method is compressed. For example:
+ *
+ * <pre>
+ * public interface ReportClient {
+ *     &#064;POST
+ *     &#064;Path("/reports")
+ *     &#064;Compressed
+ *     void upload(Report report);
+ * }
+ * </pre>
+ * <p>
+ * The body is encoded with the coding specified by {@link #value()}, or with the first coding passed to
+ * {@link org.eclipse.microprofile.rest.client.RestClientBuilder#compression(String...)} if none is specified, or with
+ * <code>gzip</code> if compression is not enabled on the client. The request carries the corresponding
+ * <code>Content-Encoding</code> header. Bodies smaller than the
+ * {@link org.eclipse.microprofile.rest.client.RestClientBuilder#compressionThreshold(long) compression threshold} are
+ * sent as is.
+ * <p>
+ * The body is encoded as it is written, so streamed bodies are compressed without being buffered. Request bodies of
+ * methods without this annotation are never compressed. A coding that is not supported by the implementation, or an
+ * annotation on a method without a request body, results in a
+ * {@link org.eclipse.microprofile.rest.client.RestClientDefinitionException RestClientDefinitionException}.
+ *
+ * @since 4.1
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Compressed {
+
+    /**
+     * @return the content coding used to compress the request body, such as <code>gzip</code>, or an empty string for
+     *         the client's preferred coding
+     */
+    String value() default "";
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that the requests of a client interface method are hedged: if a request has not been answered after the
+ * hedging delay, the same request is sent again, and the invocation completes with whichever response arrives first.
+ * When the annotation is placed on the interface, it applies to every idempotent method of the interface. For example:
+ *
+ * <pre>
+ * public interface CatalogClient {
+ *     &#064;GET
+ *     &#064;Path("/products/{id}")
+ *     &#064;Hedge(maxAttempts = 3)
+ *     CompletionStage&lt;Product&gt; get(&#064;PathParam("id") String id);
+ * }
+ * </pre>
+ * <p>
+ * At most {@link #maxAttempts()} requests are sent per invocation, each one after the previous one has been pending for
+ * the hedging delay. The hedging delay is {@link #delay()} if it is positive, or else the {@link #percentile()} of the
+ * latencies observed for the method by the client instance. Until the method has completed {@value #MIN_SAMPLES}
+ * requests, no additional requests are sent unless {@link #delay()} is positive.
+ * <p>
+ * The first response received, whatever its status, completes the invocation and is the only one processed by the
+ * response filters, the <code>ResponseExceptionMapper</code>s and the <code>MessageBodyReader</code>. The other
+ * requests are cancelled by the transport, by closing their connection or resetting their HTTP/2 stream. A request
+ * failing with a <code>jakarta.ws.rs.ProcessingException</code>, such as a refused connection, sends the next attempt
+ * immediately, and the invocation only fails with that exception if every attempt fails. Cancelling the
+ * <code>CompletionStage</code> returned by an asynchronous method cancels all the requests of the invocation.
+ * <p>
+ * The hedging delay and the number of attempts can also be overridden with the <code>mp-rest/hedge/delay</code> and
+ * <code>mp-rest/hedge/maxAttempts</code> MicroProfile Config properties, which take precedence over this annotation.
+ * <p>
+ * Placing this annotation on a method that is not idempotent, that is other than <code>GET</code>, <code>HEAD</code>,
+ * <code>OPTIONS</code>, <code>PUT</code> or <code>DELETE</code>, or on a method whose request entity or return type is
+ * streamed, such as <code>InputStream</code> or <code>Publisher</code>, results in a
+ * {@link org.eclipse.microprofile.rest.client.RestClientDefinitionException RestClientDefinitionException}.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Hedge {
+
+    /**
+     * The number of requests a method must have completed before a percentile based hedging delay applies.
+     */
+    int MIN_SAMPLES = 20;
+
+    /**
+     * @return the hedging delay in milliseconds, or 0 to use the {@link #percentile()} of the observed latencies
+     */
+    long delay() default 0;
+
+    /**
+     * @return the percentile of the observed latencies used as the hedging delay when {@link #delay()} is 0, between 0
+     *         (exclusive) and 100 (exclusive)
+     */
+    double percentile() default 95;
+
+    /**
+     * @return the maximum number of requests sent per invocation, including the first one - must be greater than 1
+     */
+    int maxAttempts() default 2;
+}
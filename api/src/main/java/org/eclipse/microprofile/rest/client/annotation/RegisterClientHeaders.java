@@ -22,6 +22,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.eclipse.microprofile.rest.client.ext.AsyncClientHeadersFactory;
 import org.eclipse.microprofile.rest.client.ext.ClientHeadersFactory;
 import org.eclipse.microprofile.rest.client.ext.DefaultClientHeadersFactoryImpl;
 
@@ -30,6 +31,10 @@ import org.eclipse.microprofile.rest.client.ext.DefaultClientHeadersFactoryImpl;
  * outbound request. When annotation is placed at the interface level of a Rest Client interface, the implementation
  * will invoke the ClientHeadersFactory's <code>update</code> method.
  * <p>
+ * If the specified class implements {@link AsyncClientHeadersFactory}, the implementation will invoke its
+ * <code>updateAsync</code> method for client interface methods returning a <code>CompletionStage</code> and will not
+ * block while the returned stage is pending.
+ * <p>
  * If no implementation class of the ClientHeadersFactory interface is specified in the annotation, then the
  * {@link DefaultClientHeadersFactoryImpl} will be used. This implementation will simply propagate headers (specified
  * via MP Config property) from an inbound Jakarta RESTful Web Services request (if applicable) to the outbound request.
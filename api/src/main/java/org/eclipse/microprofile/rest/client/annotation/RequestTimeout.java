@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the timeouts of the client instance for a client interface method. For example:
+ *
+ * <pre>
+ * public interface ReportClient {
+ *     &#064;GET
+ *     &#064;Path("/reports/{id}")
+ *     &#064;RequestTimeout(read = 60000, total = 300000)
+ *     InputStream download(&#064;PathParam("id") String id);
+ * }
+ * </pre>
+ * <p>
+ * The connect and read timeouts replace those specified with the <code>connectTimeout</code> and
+ * <code>readTimeout</code> methods of the <code>RestClientBuilder</code> or the <code>mp-rest/connectTimeout</code> and
+ * <code>mp-rest/readTimeout</code> MicroProfile Config properties. The total timeout bounds the whole invocation, from
+ * the moment the method is invoked until the response has been processed, including the time spent waiting for a
+ * connection, retrying and reading the response body. When it elapses, the method throws a
+ * <code>jakarta.ws.rs.ProcessingException</code> caused by a <code>java.util.concurrent.TimeoutException</code>, or the
+ * <code>CompletionStage</code> returned by an asynchronous method completes exceptionally with it.
+ * <p>
+ * Each timeout can also be overridden for the method with the
+ * <code>mp-rest/</code><em>methodName</em><code>/connectTimeout</code>,
+ * <code>mp-rest/</code><em>methodName</em><code>/readTimeout</code> and
+ * <code>mp-rest/</code><em>methodName</em><code>/totalTimeout</code> MicroProfile Config properties, which take
+ * precedence over this annotation.
+ *
+ * @see org.eclipse.microprofile.rest.client.ext.Deadline
+ * @since 4.1
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestTimeout {
+
+    /**
+     * @return the connect timeout in milliseconds, 0 for no timeout, or a negative value to use the connect timeout of
+     *         the client instance
+     */
+    long connect() default -1;
+
+    /**
+     * @return the read timeout in milliseconds, 0 for no timeout, or a negative value to use the read timeout of the
+     *         client instance
+     */
+    long read() default -1;
+
+    /**
+     * @return the total timeout in milliseconds, or a value of 0 or lower for no total timeout
+     */
+    long total() default 0;
+}
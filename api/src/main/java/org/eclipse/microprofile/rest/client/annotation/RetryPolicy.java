@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.io.IOException;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Specifies that failed invocations of a client interface method are retried, with an exponential backoff. When the
+ * annotation is placed on the interface, it applies to every method of the interface. For example:
+ *
+ * <pre>
+ * public interface CatalogClient {
+ *     &#064;GET
+ *     &#064;Path("/products/{id}")
+ *     &#064;RetryPolicy(maxAttempts = 4, delay = 200)
+ *     Product get(&#064;PathParam("id") String id);
+ * }
+ * </pre>
+ * <p>
+ * A request is retried if its response has one of the {@link #retryOn()} status codes, if it fails with a
+ * <code>jakarta.ws.rs.ProcessingException</code> caused by one of the {@link #retryOnExceptions()} types, or if a
+ * <code>ResponseExceptionMapper</code> that handles its response maps it to one of the {@link #retryOnExceptions()}
+ * types. Requests of methods that are not idempotent, that is other than <code>GET</code>, <code>HEAD</code>,
+ * <code>OPTIONS</code>, <code>PUT</code> or <code>DELETE</code>, are only retried if the connection could not be
+ * established, unless {@link #retryNonIdempotent()} is <code>true</code>.
+ * <p>
+ * The n-th retry waits for <code>delay &times; 2<sup>n-1</sup></code> milliseconds, at most {@link #maxDelay()},
+ * reduced by a random fraction of up to {@link #jitter()}. If the response has a <code>Retry-After</code> header, the
+ * retry waits for the time it specifies instead, and the response is not retried if that time exceeds
+ * {@link #maxDelay()}. Retries also stop when the retry budget of the client instance is exhausted. The last response
+ * or exception is then handled as if there had been no retries.
+ * <p>
+ * The number of attempts and the delays can also be overridden with the <code>mp-rest/retry/maxAttempts</code>,
+ * <code>mp-rest/retry/delay</code> and <code>mp-rest/retry/maxDelay</code> MicroProfile Config properties, which take
+ * precedence over this annotation.
+ *
+ * @see org.eclipse.microprofile.rest.client.RestClientBuilder#retryPolicy
+ * @see org.eclipse.microprofile.rest.client.RestClientBuilder#retryBudget(double, int)
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryPolicy {
+
+    /**
+     * @return the maximum number of requests sent per invocation, including the first one - 1 disables retries
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * @return the delay in milliseconds before the first retry
+     */
+    long delay() default 100;
+
+    /**
+     * @return the maximum delay in milliseconds before a retry
+     */
+    long maxDelay() default 10000;
+
+    /**
+     * @return the maximum fraction, between 0 and 1, by which each delay is randomly reduced, so that clients failing
+     *         together do not retry together
+     */
+    double jitter() default 0.5;
+
+    /**
+     * @return the response status codes that are retried
+     */
+    int[] retryOn() default {429, 502, 503, 504};
+
+    /**
+     * @return the exception types that are retried, matched against the causes of a
+     *         <code>jakarta.ws.rs.ProcessingException</code> and against the exceptions returned by
+     *         <code>ResponseExceptionMapper</code>s
+     */
+    Class<? extends Throwable>[] retryOnExceptions() default IOException.class;
+
+    /**
+     * @return whether requests of methods that are not idempotent are retried like those of idempotent methods
+     */
+    boolean retryNonIdempotent() default false;
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the buffer of server sent events received by a <code>Publisher</code> returned from a client interface
+ * method, but not yet requested by its subscriber. When the annotation is placed on the interface, it applies to every
+ * server sent event method of the interface that is not annotated itself. For example:
+ *
+ * <pre>
+ * public interface PriceFeedClient {
+ *     &#064;GET
+ *     &#064;Path("/prices")
+ *     &#064;Produces(MediaType.SERVER_SENT_EVENTS)
+ *     &#064;SseBuffer(size = 1024, overflow = SseBuffer.Overflow.DROP_OLDEST)
+ *     Publisher&lt;Price&gt; prices();
+ * }
+ * </pre>
+ * <p>
+ * Methods that are not annotated use a buffer of {@value #DEFAULT_SIZE} events with the {@link Overflow#PAUSE_READ}
+ * policy. The size and overflow policy can be overridden with the <code>mp-rest/sse/bufferSize</code> and
+ * <code>mp-rest/sse/overflow</code> MicroProfile Config properties, which take precedence over this annotation.
+ * <p>
+ * Server sent event methods may also return a <code>Publisher&lt;List&lt;T&gt;&gt;</code>, where <code>T</code> is any
+ * type supported as the element of a server sent event <code>Publisher</code>. Each element then delivers, as a single
+ * batch, all of the events buffered when the element is signalled, and contains at least one and at most
+ * {@link #size()} events.
+ * <p>
+ * A size that is not positive, or an annotation on a method that does not produce server sent events, results in a
+ * {@link org.eclipse.microprofile.rest.client.RestClientDefinitionException RestClientDefinitionException}.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SseBuffer {
+
+    /**
+     * The buffer size used when neither this annotation nor the <code>mp-rest/sse/bufferSize</code> MicroProfile Config
+     * property is specified.
+     */
+    int DEFAULT_SIZE = 256;
+
+    /**
+     * @return the maximum number of received events held until they are requested
+     */
+    int size() default DEFAULT_SIZE;
+
+    /**
+     * @return what to do when an event is received while the buffer is full
+     */
+    Overflow overflow() default Overflow.PAUSE_READ;
+
+    /**
+     * The policy applied when an event is received while the buffer is full.
+     */
+    enum Overflow {
+
+        /**
+         * Stop reading from the connection until the subscriber requests more events, so that the server is slowed down
+         * by the transport's flow control. No event is lost. This is the default.
+         */
+        PAUSE_READ,
+
+        /**
+         * Discard the oldest buffered event to make room for the received event.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Discard the received event, keeping the buffered events.
+         */
+        DROP_LATEST,
+
+        /**
+         * Signal <code>onError</code> with a <code>jakarta.ws.rs.ProcessingException</code> to the subscriber and close
+         * the connection. The buffered events are discarded.
+         */
+        ERROR
+    }
+}
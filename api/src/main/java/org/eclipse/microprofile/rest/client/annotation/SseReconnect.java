@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables automatic reconnection of a server sent event <code>Publisher</code> returned from a client interface method.
+ * When the annotation is placed on the interface, it applies to every server sent event method of the interface. For
+ * example:
+ *
+ * <pre>
+ * public interface PriceFeedClient {
+ *     &#064;GET
+ *     &#064;Path("/prices")
+ *     &#064;Produces(MediaType.SERVER_SENT_EVENTS)
+ *     &#064;SseReconnect(delay = 500)
+ *     Publisher&lt;InboundSseEvent&gt; prices();
+ * }
+ * </pre>
+ * <p>
+ * When the connection ends, whether it is closed by the server or fails, the implementation waits for the reconnection
+ * delay and sends the request again, with a <code>Last-Event-ID</code> header carrying the last event ID received, if
+ * any. The subscriber keeps its subscription and receives the events of the new connection as if the stream had not
+ * been interrupted. An event that was not completely received when the connection ended is discarded. The reconnection
+ * delay is the {@link #delay()} of this annotation until the server sends a <code>retry</code> field, whose value is
+ * used from then on.
+ * <p>
+ * The stream ends with <code>onComplete</code> when the server answers a request with <code>204 No Content</code>. It
+ * ends with <code>onError</code> when the server answers with any other status than <code>200 OK</code>, after the
+ * registered <code>ResponseExceptionMapper</code>s have been applied, or when {@link #maxAttempts()} consecutive
+ * attempts to connect have failed. No reconnection is attempted once the subscription is cancelled.
+ * <p>
+ * Reconnection can also be enabled or disabled, and the delay and number of attempts overridden, with the
+ * <code>mp-rest/sse/reconnect</code>, <code>mp-rest/sse/reconnectDelay</code> and
+ * <code>mp-rest/sse/reconnectMaxAttempts</code> MicroProfile Config properties, which take precedence over this
+ * annotation. Without this annotation or configuration, the stream ends when the connection ends.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SseReconnect {
+
+    /**
+     * The reconnection delay, in milliseconds, used when neither this annotation nor the
+     * <code>mp-rest/sse/reconnectDelay</code> MicroProfile Config property specifies one.
+     */
+    long DEFAULT_DELAY = 3000;
+
+    /**
+     * @return the delay in milliseconds before reconnecting, until the server sends a <code>retry</code> field
+     */
+    long delay() default DEFAULT_DELAY;
+
+    /**
+     * @return the number of consecutive failed attempts to connect after which the subscriber is signalled
+     *         <code>onError</code>, or a negative value to retry indefinitely
+     */
+    int maxAttempts() default -1;
+}
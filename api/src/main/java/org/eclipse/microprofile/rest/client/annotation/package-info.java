@@ -34,6 +34,6 @@
  * }
  * </pre>
  */
-@org.osgi.annotation.versioning.Version("1.1.1")
+@org.osgi.annotation.versioning.Version("1.2.0")
 @org.osgi.annotation.versioning.ProviderType
 package org.eclipse.microprofile.rest.client.annotation;
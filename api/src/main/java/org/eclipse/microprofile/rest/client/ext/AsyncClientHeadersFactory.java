@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * A {@link ClientHeadersFactory} that computes the HTTP headers to send asynchronously, for example when the headers
+ * contain a token that must first be fetched from an identity service. It is registered like any other
+ * ClientHeadersFactory, using the <code>{@literal @}RegisterClientHeaders</code> annotation on the client interface.
+ * <p>
+ * When a client interface method returns a <code>CompletionStage</code>, the implementation must invoke
+ * {@link #updateAsync(MultivaluedMap, MultivaluedMap) updateAsync} and compose the returned stage into the asynchronous
+ * invocation: the invoking thread must return without waiting for the stage to complete, and no thread may be blocked
+ * while it is pending. The remaining outbound processing (filters, entity providers, sending the request) continues
+ * once the stage completes. If the stage completes exceptionally, the request is not sent and the
+ * <code>CompletionStage</code> returned by the client method completes exceptionally with the same cause.
+ * <p>
+ * For synchronous methods the implementation may invoke {@link #update(MultivaluedMap, MultivaluedMap) update}, which
+ * by default waits for the result of <code>updateAsync</code> on the invoking thread.
+ * <p>
+ * The same rules regarding CDI and <code>{@literal @}Context</code> injection apply as for any other
+ * ClientHeadersFactory. Context injected via <code>{@literal @}Context</code> is only guaranteed to be available while
+ * <code>updateAsync</code> is executing on the invoking thread, not when the returned stage completes.
+ *
+ * @since 4.1
+ */
+public interface AsyncClientHeadersFactory extends ClientHeadersFactory {
+
+    /**
+     * Asynchronously computes the HTTP headers to send to the remote service. The parameters and the headers the
+     * returned stage completes with have the same meaning as for {@link #update(MultivaluedMap, MultivaluedMap)
+     * update}.
+     *
+     * @param incomingHeaders
+     *            - the map of headers from the inbound Jakarta RESTful Web Services request. This will be an empty map
+     *            if the associated client interface is not part of a Jakarta RESTful Web Services request.
+     * @param clientOutgoingHeaders
+     *            - the read-only map of header parameters specified on the client interface.
+     * @return a stage that completes with a map of HTTP headers to merge with the clientOutgoingHeaders to be sent to
+     *         the remote service.
+     */
+    CompletionStage<MultivaluedMap<String, String>> updateAsync(MultivaluedMap<String, String> incomingHeaders,
+            MultivaluedMap<String, String> clientOutgoingHeaders);
+
+    /**
+     * Invokes {@link #updateAsync(MultivaluedMap, MultivaluedMap) updateAsync} and waits for the returned stage to
+     * complete. This method is only invoked for synchronous client interface methods.
+     *
+     * @param incomingHeaders
+     *            - the map of headers from the inbound Jakarta RESTful Web Services request.
+     * @param clientOutgoingHeaders
+     *            - the read-only map of header parameters specified on the client interface.
+     * @return a map of HTTP headers to merge with the clientOutgoingHeaders to be sent to the remote service.
+     * @throws ProcessingException
+     *             if the stage returned by <code>updateAsync</code> completes exceptionally with a checked exception
+     */
+    @Override
+    default MultivaluedMap<String, String> update(MultivaluedMap<String, String> incomingHeaders,
+            MultivaluedMap<String, String> clientOutgoingHeaders) {
+        try {
+            return updateAsync(incomingHeaders, clientOutgoingHeaders).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ProcessingException(cause);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.ext;
+
+/**
+ * A ConcurrencyLimit enum is used to specify how a client instance limits the number of requests in flight to a single
+ * host (scheme, host and port):
+ *
+ * <pre>
+ * MyClientService service = RestClientBuilder.newBuilder()
+ *         .baseUri(uri)
+ *         .concurrencyLimit(ConcurrencyLimit.AIMD, 20, 200)
+ *         .build(MyClientService.class);
+ * </pre>
+ *
+ * Requests exceeding the current limit are not sent, and the client interface method fails immediately with a
+ * {@link org.eclipse.microprofile.rest.client.ConcurrencyLimitExceededException ConcurrencyLimitExceededException}.
+ * <p>
+ * The adaptive algorithms adjust the limit between 1 and the maximum limit. They treat a request as dropped if it fails
+ * with a <code>jakarta.ws.rs.ProcessingException</code>, such as a connect or read timeout, or if its response has the
+ * status <code>429 Too Many Requests</code> or <code>503 Service Unavailable</code>.
+ * </p>
+ *
+ * @since 4.1
+ */
+public enum ConcurrencyLimit {
+
+    /**
+     * No limit - requests are only bounded by the connection pool.
+     *
+     * This is the default if no limit is configured.
+     */
+    NONE,
+
+    /**
+     * A fixed limit, equal to the initial limit.
+     */
+    FIXED,
+
+    /**
+     * Additive increase, multiplicative decrease: the limit grows by 1 when a request completes without being dropped
+     * while at least half of the limit was in use, and is multiplied by 0.9, rounding down, when a request is dropped.
+     */
+    AIMD,
+
+    /**
+     * A latency gradient: when a request completes without being dropped, the limit is scaled by the ratio between the
+     * lowest latency observed during the last minute, which approximates the latency of the unloaded server, and the
+     * latency of the request, plus a small allowance for queueing. The limit therefore shrinks as soon as latency
+     * increases, before requests time out, and grows back once latency returns to normal. It is multiplied by 0.9,
+     * rounding down, when a request is dropped.
+     */
+    GRADIENT
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Propagates context (for example the CDI request context, the security context, logging MDC or tracing context) to the
+ * threads processing asynchronous Rest Client interface method invocations.
+ * <p>
+ * The MP Rest Client implementation runtime invokes {@link #captureContext()} once per asynchronous invocation, on the
+ * thread calling the async Rest Client interface method, and runs every part of the invocation that happens on another
+ * thread - the request, the providers on the outbound and inbound flows, and the completion of the returned
+ * <code>CompletionStage</code> - through the returned executor. The captured context is therefore active before the
+ * <code>applyContext</code> methods of the async invocation interceptors are invoked, and until their
+ * <code>removeContext</code> methods have returned.
+ * <p>
+ * This interface does not depend on MicroProfile Context Propagation, but a <code>ThreadContext</code> can be adapted
+ * with a method reference to its <code>currentContextExecutor</code> method:
+ *
+ * <pre>
+ * RestClientBuilder.newBuilder().contextPropagator(threadContext::currentContextExecutor);
+ * </pre>
+ *
+ * @since 4.1
+ */
+@FunctionalInterface
+public interface ContextPropagator {
+
+    /**
+     * Captures the context of the current thread.
+     *
+     * @return an executor that runs each task it is given synchronously, on the calling thread, with the captured
+     *         context applied, and removes the context again once the task has completed
+     */
+    Executor captureContext();
+}
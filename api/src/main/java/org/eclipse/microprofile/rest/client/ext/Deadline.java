@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A point in time by which the processing of a request, including the invocations of client interface methods made on
+ * its behalf, must complete. Deadlines propagate across services: each outbound request carries the time remaining
+ * before the deadline in the {@value #HEADER} header, and the receiving service activates a deadline that much later,
+ * so that the deadline shrinks by the time spent in each hop. For example:
+ *
+ * <pre>
+ * try (Deadline.Scope scope = Deadline.after(2, TimeUnit.SECONDS).activate()) {
+ *     Product product = catalogClient.get(id);
+ *     Stock stock = stockClient.get(id);
+ * }
+ * </pre>
+ * <p>
+ * While a deadline is active on a thread, the invocations of client interface methods from this thread, and the
+ * asynchronous invocations started from it, fail with a <code>jakarta.ws.rs.ProcessingException</code> caused by a
+ * <code>java.util.concurrent.TimeoutException</code> if they have not completed by the deadline. An invocation made
+ * once the deadline has passed fails without sending a request.
+ * <p>
+ * Implementations integrating with a Jakarta RESTful Web Services server activate the deadline carried by the
+ * {@value #HEADER} header of an incoming request, computed from the time the request was received, while the request is
+ * processed.
+ *
+ * @since 4.1
+ */
+public final class Deadline {
+
+    /**
+     * The name of the header carrying the time remaining before the deadline, in milliseconds.
+     */
+    public static final String HEADER = "Request-Deadline";
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline the given time from now.
+     *
+     * @param timeout
+     *            the time remaining before the deadline - negative values are treated as 0.
+     * @param unit
+     *            the time unit of the timeout argument.
+     * @return the deadline
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(Math.max(0, timeout)));
+    }
+
+    /**
+     * Creates a deadline from the value of a {@value #HEADER} header, measured from now.
+     *
+     * @param value
+     *            the header value, a number of milliseconds.
+     * @return the deadline, or an empty optional if the value is null or not a valid number of milliseconds
+     */
+    public static Optional<Deadline> fromHeader(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(after(Long.parseLong(value.trim()), TimeUnit.MILLISECONDS));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the deadline active on the current thread, if any
+     */
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Activates this deadline on the current thread, until the returned scope is closed. If a deadline is already
+     * active, the earlier of the two deadlines applies.
+     *
+     * @return the scope to close to restore the previously active deadline
+     */
+    public Scope activate() {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(previous == null || deadlineNanos - previous.deadlineNanos < 0 ? this : previous);
+        return new Scope(previous);
+    }
+
+    /**
+     * @param unit
+     *            the time unit of the result.
+     * @return the time remaining before the deadline, or 0 if it has passed
+     */
+    public long remaining(TimeUnit unit) {
+        return unit.convert(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return whether the deadline has passed
+     */
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @return the value of the {@value #HEADER} header carrying this deadline, the number of milliseconds remaining
+     */
+    public String toHeader() {
+        return Long.toString(remaining(TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * The activation of a deadline on a thread.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * Restores the deadline that was active when this scope was created.
+         */
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -16,14 +16,18 @@
 
 package org.eclipse.microprofile.rest.client.ext;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 
+import jakarta.ws.rs.core.AbstractMultivaluedMap;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 
@@ -34,12 +38,18 @@ import jakarta.ws.rs.core.MultivaluedMap;
  * <p>
  * The value of this property should be a comma-separated list of HTTP header names. If the headers specified in the
  * property exist in the inbound Jakarta RESTful Web Services request, this class will propagate those headers to the
- * outbound Rest Client request.
+ * outbound Rest Client request. Header names are matched case-insensitively.
  *
  * <p>
  * Any headers present on {@code clientOutgoingHeaders} will not be returned when calling the
  * {@link #update(MultivaluedMap, MultivaluedMap) update} method.
  *
+ * <p>
+ * The property is read once per {@link Config} instance and the resulting set of header names is cached, so that
+ * {@link #update(MultivaluedMap, MultivaluedMap) update} does not allocate when there is nothing to propagate - it then
+ * returns a shared, read-only empty map. Call {@link #refresh()} to pick up a changed property value from the same
+ * {@link Config} instance.
+ *
  * @since 1.2
  */
 public class DefaultClientHeadersFactoryImpl implements ClientHeadersFactory {
@@ -48,21 +58,44 @@ public class DefaultClientHeadersFactoryImpl implements ClientHeadersFactory {
     private final static String CLASS_NAME = DefaultClientHeadersFactoryImpl.class.getName();
     private final static Logger LOG = Logger.getLogger(CLASS_NAME);
 
-    private static Optional<Config> config() {
+    private final static MultivaluedMap<String, String> NO_HEADERS =
+            new AbstractMultivaluedMap<String, String>(Collections.<String, List<String>>emptyMap()) {
+            };
+
+    private volatile PropagatedHeaderNames propagatedHeaderNames;
+
+    private static Config config() {
         try {
-            return Optional.ofNullable(ConfigProvider.getConfig());
+            return ConfigProvider.getConfig();
         } catch (ExceptionInInitializerError | NoClassDefFoundError | IllegalStateException ex) {
             // expected if no MP Config implementation is available
-            return Optional.empty();
+            return null;
         }
     }
 
-    private static Optional<String> getHeadersProperty() {
-        Optional<Config> c = config();
-        if (c.isPresent()) {
-            return Optional.ofNullable(c.get().getOptionalValue(PROPAGATE_PROPERTY, String.class).orElse(null));
+    private PropagatedHeaderNames propagatedHeaderNames() {
+        PropagatedHeaderNames names = propagatedHeaderNames;
+        if (names != null && !names.configAvailable) {
+            // no MP Config implementation is available - don't look for one again until refreshed
+            return names;
+        }
+        Config c = config();
+        if (names == null || names.config != c) {
+            names = new PropagatedHeaderNames(c);
+            propagatedHeaderNames = names;
         }
-        return Optional.empty();
+        return names;
+    }
+
+    /**
+     * Discards the cached set of header names to propagate, so that the
+     * <code>org.eclipse.microprofile.rest.client.propagateHeaders</code> property is read again on the next call to
+     * {@link #update(MultivaluedMap, MultivaluedMap) update}.
+     *
+     * @since 4.1
+     */
+    public void refresh() {
+        propagatedHeaderNames = null;
     }
 
     @Override
@@ -72,19 +105,49 @@ public class DefaultClientHeadersFactoryImpl implements ClientHeadersFactory {
         if (LOG.isLoggable(Level.FINER)) {
             LOG.entering(CLASS_NAME, "update", new Object[]{incomingHeaders, clientOutgoingHeaders});
         }
-        MultivaluedMap<String, String> propagatedHeaders = new MultivaluedHashMap<>();
-        Optional<String> propagateHeaderString = getHeadersProperty();
-        if (propagateHeaderString.isPresent()) {
-            Arrays.stream(propagateHeaderString.get().split(","))
-                    .forEach(header -> {
-                        if (incomingHeaders.containsKey(header)) {
-                            propagatedHeaders.put(header, incomingHeaders.get(header));
-                        }
-                    });
+        MultivaluedMap<String, String> propagatedHeaders = NO_HEADERS;
+        Set<String> names = propagatedHeaderNames().names;
+        if (!names.isEmpty() && incomingHeaders != null && !incomingHeaders.isEmpty()) {
+            for (Map.Entry<String, List<String>> header : incomingHeaders.entrySet()) {
+                if (names.contains(header.getKey())) {
+                    if (propagatedHeaders == NO_HEADERS) {
+                        propagatedHeaders = new MultivaluedHashMap<>();
+                    }
+                    propagatedHeaders.put(header.getKey(), header.getValue());
+                }
+            }
         }
         if (LOG.isLoggable(Level.FINER)) {
             LOG.exiting(CLASS_NAME, "update", propagatedHeaders);
         }
         return propagatedHeaders;
     }
+
+    /**
+     * The immutable, case-insensitive set of header names to propagate, as read from a given {@link Config} instance.
+     */
+    private static final class PropagatedHeaderNames {
+        private final Config config;
+        private final boolean configAvailable;
+        private final Set<String> names;
+
+        PropagatedHeaderNames(Config config) {
+            this.config = config;
+            this.configAvailable = config != null;
+            String property = config == null
+                    ? null
+                    : config.getOptionalValue(PROPAGATE_PROPERTY, String.class)
+                            .orElse(null);
+            Set<String> headerNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            if (property != null) {
+                for (String header : property.split(",")) {
+                    String name = header.trim();
+                    if (!name.isEmpty()) {
+                        headerNames.add(name);
+                    }
+                }
+            }
+            this.names = headerNames.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(headerNames);
+        }
+    }
 }
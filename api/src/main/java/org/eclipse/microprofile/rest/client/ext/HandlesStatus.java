@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Declares the response status codes that a {@link ResponseExceptionMapper} may handle. The status codes may be listed
+ * individually, declared as inclusive ranges, or both:
+ *
+ * <pre>
+ * &#064;HandlesStatus(value = 404, ranges = &#064;HandlesStatus.Range(from = 500, to = 599))
+ * public class MyResponseExceptionMapper implements ResponseExceptionMapper&lt;MyException&gt; {
+ *     ...
+ * }
+ * </pre>
+ * <p>
+ * The implementation uses this declaration to build a status-indexed dispatch table when the client instance is built.
+ * A mapper annotated with {@code HandlesStatus} is only considered for responses with one of the declared status codes,
+ * and its {@link ResponseExceptionMapper#handles(int, MultivaluedMap) handles} method is not invoked for any other
+ * status code. Mappers without this annotation are considered for every response.
+ * <p>
+ * A range whose {@code from} value is greater than its {@code to} value does not match any status code.
+ *
+ * @since 4.1
+ */
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HandlesStatus {
+    /**
+     * @return the individual status codes handled by the annotated mapper
+     */
+    int[] value() default {};
+
+    /**
+     * @return the inclusive ranges of status codes handled by the annotated mapper
+     */
+    Range[] ranges() default {};
+
+    /**
+     * An inclusive range of response status codes.
+     */
+    @Target({})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Documented
+    @interface Range {
+        /**
+         * @return the lowest status code in this range
+         */
+        int from();
+
+        /**
+         * @return the highest status code in this range
+         */
+        int to();
+    }
+}
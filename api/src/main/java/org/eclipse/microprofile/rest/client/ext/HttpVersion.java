@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+/**
+ * A HttpVersion enum is used to specify which version of the HTTP protocol a client instance uses to communicate with
+ * the remote endpoint:
+ *
+ * <pre>
+ * MyClientService service = RestClientBuilder.newBuilder()
+ *         .baseUri(uri)
+ *         .httpVersion(HttpVersion.HTTP_2)
+ *         .build(MyClientService.class);
+ * </pre>
+ *
+ * With HTTP/2, concurrent requests to the same host are multiplexed as streams over a shared connection instead of each
+ * request occupying a connection of its own.
+ *
+ * @since 4.1
+ */
+public enum HttpVersion {
+
+    /**
+     * HTTP/1.1 - each in-flight request uses its own connection.
+     *
+     * This is the default if no version is configured.
+     */
+    HTTP_1_1,
+
+    /**
+     * HTTP/2, negotiated with the server. For <code>https</code> URIs the protocol is negotiated using TLS ALPN, for
+     * <code>http</code> URIs using the HTTP/1.1 <code>Upgrade: h2c</code> mechanism. If the server does not support
+     * HTTP/2, the client falls back to HTTP/1.1.
+     */
+    HTTP_2,
+
+    /**
+     * HTTP/2 without negotiation - the client assumes the server supports HTTP/2 and starts the connection with the
+     * HTTP/2 connection preface. This is mostly useful for cleartext (<code>h2c</code>) connections, where it avoids
+     * the additional round trip of the upgrade.
+     */
+    HTTP_2_PRIOR_KNOWLEDGE
+}
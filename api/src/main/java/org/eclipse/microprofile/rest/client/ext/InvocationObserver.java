@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+/**
+ * This is a provider interface for observing the invocations of Rest Client interface methods, for example to record
+ * metrics. Unlike filters, an observer sees the phases of an invocation that take place in the transport, such as
+ * waiting for a pooled connection, and it is notified about every invocation, including those that fail before a
+ * response is received.
+ * <p>
+ * The callbacks of an invocation are invoked in the following order:
+ * <ol>
+ * <li><code>onStart</code> - on the thread invoking the method, before any other provider is invoked</li>
+ * <li><code>onConnectionAcquired</code> - when a connection has been acquired from the pool or established, including
+ * host name resolution and the TLS handshake</li>
+ * <li><code>onRequestSent</code> - when the request, including its body, has been written to the connection</li>
+ * <li><code>onFirstByte</code> - when the first byte of the response has been received</li>
+ * <li><code>onBodyRead</code> - when the response body has been read completely, or the response has been closed</li>
+ * <li>exactly one of <code>onCompleted</code> or <code>onFailed</code></li>
+ * </ol>
+ * Callbacks of phases that do not take place are not invoked: when the invocation fails, <code>onFailed</code> is
+ * invoked right after the last phase reached, and when a request is not sent at all - for example because a
+ * <code>ClientRequestFilter</code> aborted it or it was served from the response cache - only <code>onStart</code> and
+ * <code>onCompleted</code> or <code>onFailed</code> are invoked. When a request is sent more than once, for example
+ * because it is retried or hedged, <code>onConnectionAcquired</code>, <code>onRequestSent</code> and
+ * <code>onFirstByte</code> are invoked for every attempt.
+ * <p>
+ * For methods returning a <code>Response</code>, an <code>InputStream</code> or another type that is read by the
+ * application after the method has returned, <code>onBodyRead</code> and <code>onCompleted</code> are invoked when the
+ * body has been consumed or closed. For methods returning server sent events, <code>onBodyRead</code> is invoked when
+ * the event stream ends or the subscription is cancelled.
+ * <p>
+ * Except for <code>onStart</code>, the callbacks may be invoked on threads of the transport, so they must not block.
+ * Exceptions thrown by a callback are logged by the implementation and otherwise ignored; they do not affect the
+ * invocation. When more than one observer is registered, they are invoked in the order of their priority.
+ * <p>
+ * Observers are registered like any other provider. To observe all client instances, register the observer from the
+ * <code>onNewClient</code> method of a <code>RestClientListener</code>.
+ *
+ * @see MetricsInvocationObserver
+ * @since 4.1
+ */
+public interface InvocationObserver {
+
+    /**
+     * Invoked when the invocation starts.
+     *
+     * @param invocation
+     *            - the observed invocation
+     */
+    default void onStart(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when a connection for the request has been acquired.
+     *
+     * @param invocation
+     *            - the observed invocation
+     */
+    default void onConnectionAcquired(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when the request has been sent.
+     *
+     * @param invocation
+     *            - the observed invocation, reporting the number of bytes of the request body
+     */
+    default void onRequestSent(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when the first byte of the response has been received.
+     *
+     * @param invocation
+     *            - the observed invocation
+     */
+    default void onFirstByte(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when the response body has been read.
+     *
+     * @param invocation
+     *            - the observed invocation, reporting the status and the number of bytes of the response body
+     */
+    default void onBodyRead(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when the invocation has completed successfully, i.e. it returned a value or completed the returned
+     * <code>CompletionStage</code> normally.
+     *
+     * @param invocation
+     *            - the observed invocation
+     */
+    default void onCompleted(ObservedInvocation invocation) {
+    }
+
+    /**
+     * Invoked when the invocation has failed, i.e. it threw an exception or completed the returned
+     * <code>CompletionStage</code> exceptionally. This includes exceptions returned by a
+     * <code>ResponseExceptionMapper</code>, in which case the status of the response is reported.
+     *
+     * @param invocation
+     *            - the observed invocation
+     * @param failure
+     *            - the exception the invocation failed with
+     */
+    default void onFailed(ObservedInvocation invocation, Throwable failure) {
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An {@link InvocationObserver} that maps the phases of an invocation to timers and distribution summaries, as known
+ * from MicroProfile Metrics and Micrometer, without depending on either. Subclasses record the measurements with the
+ * metrics library of their choice. With Micrometer, for example:
+ *
+ * <pre>
+ * public class MicrometerInvocationObserver extends MetricsInvocationObserver {
+ *     protected void recordTimer(String name, Map&lt;String, String&gt; tags, long durationNanos) {
+ *         Timer.builder(name).tags(toTags(tags)).register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+ *     }
+ *
+ *     protected void recordSize(String name, Map&lt;String, String&gt; tags, long bytes) {
+ *         DistributionSummary.builder(name).baseUnit("bytes").tags(toTags(tags)).register(registry).record(bytes);
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * The following measurements are recorded, all durations measured from the start of the invocation:
+ * <ul>
+ * <li>{@value #CONNECTION_ACQUIRE} - the time until a connection has been acquired, for every attempt</li>
+ * <li>{@value #FIRST_BYTE} - the time until the first byte of the response has been received, for every attempt</li>
+ * <li>{@value #REQUESTS} - the time until the invocation has completed or failed</li>
+ * <li>{@value #REQUEST_SIZE} and {@value #RESPONSE_SIZE} - the number of bytes of the request and response bodies, when
+ * the invocation has completed or failed and the body has been sent or received</li>
+ * </ul>
+ * All measurements are tagged with {@value #TAG_CLIENT}, {@value #TAG_METHOD} and {@value #TAG_URI}, the path template
+ * of the method. The measurements recorded when the invocation has completed or failed are also tagged with
+ * {@value #TAG_STATUS}, {@value #TAG_OUTCOME} and {@value #TAG_EXCEPTION}. Subclasses may add tags by overriding
+ * {@link #tags(ObservedInvocation)}.
+ *
+ * @since 4.1
+ */
+public abstract class MetricsInvocationObserver implements InvocationObserver {
+
+    /**
+     * The timer of the duration of invocations.
+     */
+    public static final String REQUESTS = "rest.client.requests";
+    /**
+     * The timer of the time until a connection has been acquired.
+     */
+    public static final String CONNECTION_ACQUIRE = "rest.client.connection.acquire";
+    /**
+     * The timer of the time until the first byte of the response has been received.
+     */
+    public static final String FIRST_BYTE = "rest.client.response.first.byte";
+    /**
+     * The distribution summary of the number of bytes of request bodies.
+     */
+    public static final String REQUEST_SIZE = "rest.client.request.size";
+    /**
+     * The distribution summary of the number of bytes of response bodies.
+     */
+    public static final String RESPONSE_SIZE = "rest.client.response.size";
+
+    /**
+     * The tag of the fully qualified name of the client interface.
+     */
+    public static final String TAG_CLIENT = "client";
+    /**
+     * The tag of the HTTP method.
+     */
+    public static final String TAG_METHOD = "method";
+    /**
+     * The tag of the path template of the invoked method.
+     */
+    public static final String TAG_URI = "uri";
+    /**
+     * The tag of the response status code, or <code>NONE</code> if no response has been received.
+     */
+    public static final String TAG_STATUS = "status";
+    /**
+     * The tag of the class of the response status code: <code>INFORMATIONAL</code>, <code>SUCCESS</code>,
+     * <code>REDIRECTION</code>, <code>CLIENT_ERROR</code>, <code>SERVER_ERROR</code> or <code>UNKNOWN</code>.
+     */
+    public static final String TAG_OUTCOME = "outcome";
+    /**
+     * The tag of the simple class name of the exception the invocation failed with, or <code>none</code>.
+     */
+    public static final String TAG_EXCEPTION = "exception";
+
+    /**
+     * Records a duration.
+     *
+     * @param name
+     *            - the name of the timer
+     * @param tags
+     *            - the tags of the measurement
+     * @param durationNanos
+     *            - the duration in nanoseconds
+     */
+    protected abstract void recordTimer(String name, Map<String, String> tags, long durationNanos);
+
+    /**
+     * Records a number of bytes.
+     *
+     * @param name
+     *            - the name of the distribution summary
+     * @param tags
+     *            - the tags of the measurement
+     * @param bytes
+     *            - the number of bytes
+     */
+    protected abstract void recordSize(String name, Map<String, String> tags, long bytes);
+
+    /**
+     * Returns the tags common to all measurements of an invocation. The returned map is modified by the caller.
+     *
+     * @param invocation
+     *            - the observed invocation
+     * @return a new, modifiable map of tags
+     */
+    protected Map<String, String> tags(ObservedInvocation invocation) {
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put(TAG_CLIENT, invocation.getClientInterface().getName());
+        tags.put(TAG_METHOD, invocation.getHttpMethod());
+        tags.put(TAG_URI, invocation.getTemplatePath());
+        return tags;
+    }
+
+    @Override
+    public void onConnectionAcquired(ObservedInvocation invocation) {
+        recordTimer(CONNECTION_ACQUIRE, tags(invocation), elapsedNanos(invocation));
+    }
+
+    @Override
+    public void onFirstByte(ObservedInvocation invocation) {
+        recordTimer(FIRST_BYTE, tags(invocation), elapsedNanos(invocation));
+    }
+
+    @Override
+    public void onCompleted(ObservedInvocation invocation) {
+        recordCompletion(invocation, null);
+    }
+
+    @Override
+    public void onFailed(ObservedInvocation invocation, Throwable failure) {
+        recordCompletion(invocation, failure);
+    }
+
+    private void recordCompletion(ObservedInvocation invocation, Throwable failure) {
+        long durationNanos = elapsedNanos(invocation);
+        int status = invocation.getStatus();
+        Map<String, String> tags = tags(invocation);
+        tags.put(TAG_STATUS, status < 0 ? "NONE" : Integer.toString(status));
+        tags.put(TAG_OUTCOME, outcome(status));
+        tags.put(TAG_EXCEPTION, failure == null ? "none" : failure.getClass().getSimpleName());
+
+        recordTimer(REQUESTS, tags, durationNanos);
+        if (invocation.getRequestBytes() >= 0) {
+            recordSize(REQUEST_SIZE, tags, invocation.getRequestBytes());
+        }
+        if (invocation.getResponseBytes() >= 0) {
+            recordSize(RESPONSE_SIZE, tags, invocation.getResponseBytes());
+        }
+    }
+
+    private static long elapsedNanos(ObservedInvocation invocation) {
+        return System.nanoTime() - invocation.getStartNanos();
+    }
+
+    static String outcome(int status) {
+        if (status >= 100 && status < 200) {
+            return "INFORMATIONAL";
+        }
+        if (status >= 200 && status < 300) {
+            return "SUCCESS";
+        }
+        if (status >= 300 && status < 400) {
+            return "REDIRECTION";
+        }
+        if (status >= 400 && status < 500) {
+            return "CLIENT_ERROR";
+        }
+        if (status >= 500 && status < 600) {
+            return "SERVER_ERROR";
+        }
+        return "UNKNOWN";
+    }
+}
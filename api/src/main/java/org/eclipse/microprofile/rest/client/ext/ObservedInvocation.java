@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+
+/**
+ * The invocation of a Rest Client interface method, as passed to the callbacks of an {@link InvocationObserver}. The
+ * values that are not yet known when a callback is invoked - such as the status before the response has been received -
+ * are reported as <code>-1</code>. The same instance is passed to all callbacks of an invocation.
+ *
+ * @since 4.1
+ */
+public interface ObservedInvocation {
+
+    /**
+     * @return the client interface the invoked client instance was built for.
+     */
+    Class<?> getClientInterface();
+
+    /**
+     * @return the invoked client interface method.
+     */
+    Method getMethod();
+
+    /**
+     * @return the HTTP method of the request, e.g. <code>GET</code>.
+     */
+    String getHttpMethod();
+
+    /**
+     * Returns the path template of the invoked method, combining the <code>{@literal @}Path</code> annotations of the
+     * client interface and of the method, with its parameters unresolved - e.g. <code>/users/{id}</code>. Unlike the
+     * resolved URI, it has a bounded number of values, which makes it suitable as a metric tag.
+     *
+     * @return the path template of the invoked method.
+     */
+    String getTemplatePath();
+
+    /**
+     * @return the resolved URI of the request.
+     */
+    URI getUri();
+
+    /**
+     * @return the status code of the response, or <code>-1</code> if no response has been received (yet).
+     */
+    int getStatus();
+
+    /**
+     * Returns the number of bytes of the request body as sent over the connection, i.e. after any compression, not
+     * including the headers.
+     *
+     * @return the number of bytes of the request body, or <code>-1</code> if the request has not been sent (yet).
+     */
+    long getRequestBytes();
+
+    /**
+     * Returns the number of bytes of the response body read from the connection so far, i.e. before any decompression,
+     * not including the headers.
+     *
+     * @return the number of bytes of the response body read so far, or <code>-1</code> if no response has been received
+     *         (yet).
+     */
+    long getResponseBytes();
+
+    /**
+     * @return the value of <code>System.nanoTime()</code> when the invocation started.
+     */
+    long getStartNanos();
+
+    /**
+     * Returns a property set by an observer for this invocation.
+     *
+     * @param name
+     *            - the name of the property.
+     * @return the value of the property, or <code>null</code> if it has not been set.
+     */
+    Object getProperty(String name);
+
+    /**
+     * Sets a property for this invocation, for example to keep state of an observer between its callbacks. Properties
+     * are shared between all observers of the invocation, so their names should be qualified, e.g. with the package
+     * name of the observer.
+     *
+     * @param name
+     *            - the name of the property.
+     * @param value
+     *            - the value of the property, or <code>null</code> to remove it.
+     */
+    void setProperty(String name, Object value);
+}
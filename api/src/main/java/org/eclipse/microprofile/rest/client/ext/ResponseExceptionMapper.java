@@ -16,8 +16,6 @@
 
 package org.eclipse.microprofile.rest.client.ext;
 
-import java.util.Optional;
-
 import jakarta.annotation.Priority;
 import jakarta.ws.rs.Priorities;
 import jakarta.ws.rs.core.MultivaluedMap;
@@ -44,8 +42,9 @@ public interface ResponseExceptionMapper<T extends Throwable> {
 
     /**
      * Whether or not this mapper will be used for the given response. By default, any response code of 400 or higher
-     * will be handled. Individual mappers may override this method if they want to more narrowly focus on certain
-     * response codes or headers.
+     * will be handled, unless the mapper is annotated with {@link HandlesStatus}, in which case only the declared
+     * response codes will be handled. Individual mappers may override this method if they want to more narrowly focus
+     * on certain response codes or headers.
      *
      * @param status
      *            the response status code indicating the HTTP response
@@ -54,18 +53,17 @@ public interface ResponseExceptionMapper<T extends Throwable> {
      * @return whether or not this mapper can convert the Response to a Throwable
      */
     default boolean handles(int status, MultivaluedMap<String, Object> headers) {
-        return status >= 400;
+        return ResponseExceptionMappers.of(getClass()).handles(status);
     }
 
     /**
      * The priority of this mapper. By default, it will use the {@link Priority} annotation's value as the priority. If
-     * no annotation is present, it uses a default priority of {@link Priorities#USER}.
+     * no annotation is present, it uses a default priority of {@link Priorities#USER}. The annotation is only read once
+     * per mapper class.
      *
      * @return the priority of this mapper
      */
     default int getPriority() {
-        return Optional.ofNullable(getClass().getAnnotation(Priority.class))
-                .map(Priority::value)
-                .orElse(DEFAULT_PRIORITY);
+        return ResponseExceptionMappers.of(getClass()).priority();
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import java.util.Arrays;
+
+import jakarta.annotation.Priority;
+
+/**
+ * Caches the annotation-derived metadata used by the default methods of {@link ResponseExceptionMapper}, so that the
+ * annotations of a mapper class are only read once.
+ */
+final class ResponseExceptionMappers {
+
+    private static final ClassValue<ResponseExceptionMappers> METADATA = new ClassValue<ResponseExceptionMappers>() {
+        @Override
+        protected ResponseExceptionMappers computeValue(Class<?> type) {
+            return new ResponseExceptionMappers(type);
+        }
+    };
+
+    private final int priority;
+    private final boolean statusDeclared;
+    private final int[] statuses;
+    private final int[] rangeBounds;
+
+    private ResponseExceptionMappers(Class<?> type) {
+        Priority priorityAnnotation = type.getAnnotation(Priority.class);
+        this.priority = priorityAnnotation == null
+                ? ResponseExceptionMapper.DEFAULT_PRIORITY
+                : priorityAnnotation.value();
+
+        HandlesStatus handlesStatus = type.getAnnotation(HandlesStatus.class);
+        this.statusDeclared = handlesStatus != null;
+        if (handlesStatus == null) {
+            this.statuses = new int[0];
+            this.rangeBounds = new int[0];
+        } else {
+            this.statuses = handlesStatus.value().clone();
+            Arrays.sort(this.statuses);
+            HandlesStatus.Range[] ranges = handlesStatus.ranges();
+            this.rangeBounds = new int[ranges.length * 2];
+            for (int i = 0; i < ranges.length; i++) {
+                rangeBounds[i * 2] = ranges[i].from();
+                rangeBounds[i * 2 + 1] = ranges[i].to();
+            }
+        }
+    }
+
+    static ResponseExceptionMappers of(Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    int priority() {
+        return priority;
+    }
+
+    boolean handles(int status) {
+        if (!statusDeclared) {
+            return status >= 400;
+        }
+        if (Arrays.binarySearch(statuses, status) >= 0) {
+            return true;
+        }
+        for (int i = 0; i < rangeBounds.length; i += 2) {
+            if (status >= rangeBounds[i] && status <= rangeBounds[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
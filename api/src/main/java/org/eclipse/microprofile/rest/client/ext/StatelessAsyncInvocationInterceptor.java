@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+/**
+ * A provider interface for intercepting asynchronous method invocations without allocating an interceptor per
+ * invocation. Unlike an {@link AsyncInvocationInterceptorFactory}, whose <code>newInterceptor</code> method is invoked
+ * for every asynchronous invocation, a single registered instance of this interface is used for all invocations of a
+ * client instance. It must be thread-safe and should not keep any per invocation state in its fields.
+ * <p>
+ * Instead, the MP Rest Client implementation runtime invokes {@link #prepareContext()} on the thread calling the async
+ * Rest Client interface method, and passes the returned snapshot to {@link #applyContext(Object) applyContext} and
+ * {@link #removeContext(Object) removeContext} on the "async" thread. The snapshot is opaque to the runtime, so the
+ * same snapshot instance may be returned for many invocations, for example an immutable value read from a
+ * <code>ThreadLocal</code>. If <code>prepareContext</code> returns <code>null</code>, there is nothing to propagate:
+ * the runtime will not invoke <code>applyContext</code> or <code>removeContext</code> for that invocation.
+ * <p>
+ * The lifecycle methods are invoked at the same points of an asynchronous invocation as the methods of an
+ * {@link AsyncInvocationInterceptor}, and both kinds of providers may be registered on the same client. The priority of
+ * this provider orders it together with the registered <code>AsyncInvocationInterceptorFactory</code> providers:
+ * <code>prepareContext</code> methods are invoked in ascending order and <code>applyContext</code> methods in
+ * descending order. The priority can be specified using the <code>jakarta.annotation.Priority</code> annotation or when
+ * registering the provider using the <code>RestClientBuilder</code>.
+ *
+ * @param <S>
+ *            the type of the context snapshot
+ * @since 4.1
+ */
+public interface StatelessAsyncInvocationInterceptor<S> {
+
+    /**
+     * This method will be invoked by the MP Rest Client runtime on the "main" thread (i.e. the thread calling the async
+     * Rest Client interface method) prior to returning control to the calling method.
+     *
+     * @return the snapshot of the context to propagate, or <code>null</code> if there is nothing to propagate
+     */
+    S prepareContext();
+
+    /**
+     * This method will be invoked by the MP Rest Client runtime on the "async" thread (i.e. the thread used to actually
+     * invoke the remote service and wait for the response) prior to sending the request.
+     *
+     * @param snapshot
+     *            - the non-null snapshot returned by <code>prepareContext</code> for this invocation
+     */
+    void applyContext(S snapshot);
+
+    /**
+     * This method will be invoked by the MP Rest Client runtime on the "async" thread (i.e. the thread used to actually
+     * invoke the remote service and wait for the response) after all providers on the inbound response flow have been
+     * invoked.
+     *
+     * @param snapshot
+     *            - the non-null snapshot returned by <code>prepareContext</code> for this invocation
+     */
+    void removeContext(S snapshot);
+}
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The model of a MP Rest Client interface. A client model holds everything an implementation needs to know about the
+ * Jakarta RESTful Web Services and MP Rest Client annotations of an interface, so that it can build a client instance
+ * without reflectively scanning the interface.
+ * <p>
+ * Client models are stored in the {@link #RESOURCE_PREFIX} directory of the archive containing the interface, in a
+ * resource named after the binary name of the interface with a {@code .properties} extension. The format is a
+ * {@link java.util.Properties} file, described in the specification, which is portable across implementations.
+ * <p>
+ * Implementations may use the model returned by {@link #load(Class)} instead of reflecting on the interface, unless the
+ * {@link #DISABLE_PROPERTY} property is set to {@code true}.
+ *
+ * @since 4.1
+ */
+public final class ClientModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The directory containing the client model resources.
+     */
+    public static final String RESOURCE_PREFIX = "META-INF/microprofile-rest-client/";
+
+    /**
+     * The version of the client model format written by this class. Models with a higher version are ignored by
+     * {@link #load(Class)}.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * The builder property or MicroProfile Config property that disables the use of generated client models.
+     */
+    public static final String DISABLE_PROPERTY = "microprofile.rest.client.disable.generated.model";
+
+    private final String interfaceName;
+    private final String path;
+    private final String baseUri;
+    private final String configKey;
+    private final String headersFactory;
+    private final List<String> consumes;
+    private final List<String> produces;
+    private final List<ProviderModel> providers;
+    private final List<HeaderModel> headers;
+    private final List<MethodModel> methods;
+
+    private ClientModel(Builder builder) {
+        this.interfaceName = Objects.requireNonNull(builder.interfaceName, "interfaceName");
+        this.path = builder.path;
+        this.baseUri = builder.baseUri;
+        this.configKey = builder.configKey;
+        this.headersFactory = builder.headersFactory;
+        this.consumes = Collections.unmodifiableList(new ArrayList<>(builder.consumes));
+        this.produces = Collections.unmodifiableList(new ArrayList<>(builder.produces));
+        this.providers = Collections.unmodifiableList(new ArrayList<>(builder.providers));
+        this.headers = Collections.unmodifiableList(new ArrayList<>(builder.headers));
+        this.methods = Collections.unmodifiableList(new ArrayList<>(builder.methods));
+    }
+
+    /**
+     * @param interfaceName
+     *            the binary name of the client interface
+     * @return a new builder for a client model
+     */
+    public static Builder builder(String interfaceName) {
+        return new Builder(interfaceName);
+    }
+
+    /**
+     * @param interfaceName
+     *            the binary name of the client interface
+     * @return the name of the resource holding the model of the given interface
+     */
+    public static String resourceName(String interfaceName) {
+        return RESOURCE_PREFIX + interfaceName + ".properties";
+    }
+
+    /**
+     * Loads the generated model of the given client interface from the interface's class loader.
+     *
+     * @param clientInterface
+     *            the client interface
+     * @return the model of the interface, or an empty Optional if no model was generated for the interface or if the
+     *         model was generated with an unsupported version of the format
+     * @throws IllegalStateException
+     *             if the model resource exists but cannot be read
+     */
+    public static Optional<ClientModel> load(Class<?> clientInterface) {
+        ClassLoader classLoader = clientInterface.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+        try (InputStream in = classLoader.getResourceAsStream(resourceName(clientInterface.getName()))) {
+            if (in == null) {
+                return Optional.empty();
+            }
+            return ClientModelFormat.read(in)
+                    .filter(model -> model.interfaceName.equals(clientInterface.getName()));
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Unable to read the client model of " + clientInterface.getName(), e);
+        }
+    }
+
+    /**
+     * Reads a client model in the portable format.
+     *
+     * @param in
+     *            the stream to read the model from
+     * @return the model, or an empty Optional if the model was written with an unsupported version of the format
+     * @throws IOException
+     *             if the model cannot be read
+     */
+    public static Optional<ClientModel> read(InputStream in) throws IOException {
+        return ClientModelFormat.read(in);
+    }
+
+    /**
+     * Writes this client model in the portable format. The output only depends on the content of the model, so
+     * generating the same model twice produces the same bytes.
+     *
+     * @param out
+     *            the stream to write the model to
+     * @throws IOException
+     *             if the model cannot be written
+     */
+    public void write(OutputStream out) throws IOException {
+        ClientModelFormat.write(this, out);
+    }
+
+    /**
+     * @return the binary name of the client interface
+     */
+    public String getInterfaceName() {
+        return interfaceName;
+    }
+
+    /**
+     * @return the value of the interface's {@code jakarta.ws.rs.Path} annotation, if any
+     */
+    public Optional<String> getPath() {
+        return Optional.ofNullable(path);
+    }
+
+    /**
+     * @return the {@code baseUri} of the interface's {@code RegisterRestClient} annotation, if any
+     */
+    public Optional<String> getBaseUri() {
+        return Optional.ofNullable(baseUri);
+    }
+
+    /**
+     * @return the {@code configKey} of the interface's {@code RegisterRestClient} annotation, if any
+     */
+    public Optional<String> getConfigKey() {
+        return Optional.ofNullable(configKey);
+    }
+
+    /**
+     * @return the binary name of the {@code ClientHeadersFactory} registered with the interface's
+     *         {@code RegisterClientHeaders} annotation, if any
+     */
+    public Optional<String> getHeadersFactory() {
+        return Optional.ofNullable(headersFactory);
+    }
+
+    /**
+     * @return the values of the interface's {@code jakarta.ws.rs.Consumes} annotation
+     */
+    public List<String> getConsumes() {
+        return consumes;
+    }
+
+    /**
+     * @return the values of the interface's {@code jakarta.ws.rs.Produces} annotation
+     */
+    public List<String> getProduces() {
+        return produces;
+    }
+
+    /**
+     * @return the providers registered with the interface's {@code RegisterProvider} annotations
+     */
+    public List<ProviderModel> getProviders() {
+        return providers;
+    }
+
+    /**
+     * @return the {@code ClientHeaderParam} annotations declared on the interface
+     */
+    public List<HeaderModel> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the abstract methods of the interface
+     */
+    public List<MethodModel> getMethods() {
+        return methods;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClientModel)) {
+            return false;
+        }
+        ClientModel that = (ClientModel) o;
+        return interfaceName.equals(that.interfaceName)
+                && Objects.equals(path, that.path)
+                && Objects.equals(baseUri, that.baseUri)
+                && Objects.equals(configKey, that.configKey)
+                && Objects.equals(headersFactory, that.headersFactory)
+                && consumes.equals(that.consumes)
+                && produces.equals(that.produces)
+                && providers.equals(that.providers)
+                && headers.equals(that.headers)
+                && methods.equals(that.methods);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(interfaceName, path, baseUri, configKey, headersFactory, consumes, produces, providers,
+                headers, methods);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientModel[" + interfaceName + ", methods=" + methods + "]";
+    }
+
+    /**
+     * Builder for {@link ClientModel} instances.
+     */
+    public static final class Builder {
+        private final String interfaceName;
+        private String path;
+        private String baseUri;
+        private String configKey;
+        private String headersFactory;
+        private final List<String> consumes = new ArrayList<>();
+        private final List<String> produces = new ArrayList<>();
+        private final List<ProviderModel> providers = new ArrayList<>();
+        private final List<HeaderModel> headers = new ArrayList<>();
+        private final List<MethodModel> methods = new ArrayList<>();
+
+        private Builder(String interfaceName) {
+            this.interfaceName = interfaceName;
+        }
+
+        /**
+         * @param path
+         *            the value of the interface's {@code jakarta.ws.rs.Path} annotation, or null
+         * @return this builder
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * @param baseUri
+         *            the {@code baseUri} of the interface's {@code RegisterRestClient} annotation, or null
+         * @return this builder
+         */
+        public Builder baseUri(String baseUri) {
+            this.baseUri = baseUri;
+            return this;
+        }
+
+        /**
+         * @param configKey
+         *            the {@code configKey} of the interface's {@code RegisterRestClient} annotation, or null
+         * @return this builder
+         */
+        public Builder configKey(String configKey) {
+            this.configKey = configKey;
+            return this;
+        }
+
+        /**
+         * @param headersFactory
+         *            the binary name of the {@code ClientHeadersFactory} registered on the interface, or null
+         * @return this builder
+         */
+        public Builder headersFactory(String headersFactory) {
+            this.headersFactory = headersFactory;
+            return this;
+        }
+
+        /**
+         * @param mediaType
+         *            a value of the interface's {@code jakarta.ws.rs.Consumes} annotation
+         * @return this builder
+         */
+        public Builder consumes(String mediaType) {
+            this.consumes.add(mediaType);
+            return this;
+        }
+
+        /**
+         * @param mediaType
+         *            a value of the interface's {@code jakarta.ws.rs.Produces} annotation
+         * @return this builder
+         */
+        public Builder produces(String mediaType) {
+            this.produces.add(mediaType);
+            return this;
+        }
+
+        /**
+         * @param provider
+         *            a provider registered on the interface
+         * @return this builder
+         */
+        public Builder provider(ProviderModel provider) {
+            this.providers.add(provider);
+            return this;
+        }
+
+        /**
+         * @param header
+         *            a {@code ClientHeaderParam} annotation declared on the interface
+         * @return this builder
+         */
+        public Builder header(HeaderModel header) {
+            this.headers.add(header);
+            return this;
+        }
+
+        /**
+         * @param method
+         *            an abstract method of the interface
+         * @return this builder
+         */
+        public Builder method(MethodModel method) {
+            this.methods.add(method);
+            return this;
+        }
+
+        /**
+         * @return a new, immutable client model
+         */
+        public ClientModel build() {
+            return new ClientModel(this);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+
+/**
+ * Reads and writes client models in the portable {@link Properties} format. Lists are stored as indexed keys, for
+ * example {@code method.0.parameter.1.kind}, and absent values are omitted.
+ */
+final class ClientModelFormat {
+
+    private ClientModelFormat() {
+    }
+
+    static Optional<ClientModel> read(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        String version = properties.getProperty("version");
+        if (version == null) {
+            throw new IllegalArgumentException("Missing client model format version");
+        }
+        if (Integer.parseInt(version) > ClientModel.FORMAT_VERSION) {
+            return Optional.empty();
+        }
+
+        String interfaceName = properties.getProperty("interface");
+        if (interfaceName == null) {
+            throw new IllegalArgumentException("Missing client interface name");
+        }
+        ClientModel.Builder builder = ClientModel.builder(interfaceName)
+                .path(properties.getProperty("path"))
+                .baseUri(properties.getProperty("baseUri"))
+                .configKey(properties.getProperty("configKey"))
+                .headersFactory(properties.getProperty("headersFactory"));
+        readList(properties, "consumes.").forEach(builder::consumes);
+        readList(properties, "produces.").forEach(builder::produces);
+        for (int i = 0; properties.containsKey("provider." + i + ".class"); i++) {
+            builder.provider(new ProviderModel(properties.getProperty("provider." + i + ".class"),
+                    Integer.parseInt(properties.getProperty("provider." + i + ".priority", "-1"))));
+        }
+        readHeaders(properties, "").forEach(builder::header);
+        for (int i = 0; properties.containsKey("method." + i + ".name"); i++) {
+            builder.method(readMethod(properties, "method." + i + "."));
+        }
+        return Optional.of(builder.build());
+    }
+
+    private static MethodModel readMethod(Properties properties, String prefix) {
+        MethodModel.Builder builder = MethodModel.builder(properties.getProperty(prefix + "name"))
+                .returnType(properties.getProperty(prefix + "returnType"))
+                .httpMethod(properties.getProperty(prefix + "httpMethod"))
+                .path(properties.getProperty(prefix + "path"));
+        readList(properties, prefix + "consumes.").forEach(builder::consumes);
+        readList(properties, prefix + "produces.").forEach(builder::produces);
+        readHeaders(properties, prefix).forEach(builder::header);
+        for (int i = 0; properties.containsKey(prefix + "parameter." + i + ".type"); i++) {
+            String parameterPrefix = prefix + "parameter." + i + ".";
+            builder.parameter(new ParameterModel(properties.getProperty(parameterPrefix + "type"),
+                    ParameterModel.Kind.valueOf(properties.getProperty(parameterPrefix + "kind")),
+                    properties.getProperty(parameterPrefix + "name"),
+                    properties.getProperty(parameterPrefix + "defaultValue")));
+        }
+        return builder.build();
+    }
+
+    private static List<HeaderModel> readHeaders(Properties properties, String prefix) {
+        List<HeaderModel> headers = new ArrayList<>();
+        for (int i = 0; properties.containsKey(prefix + "header." + i + ".name"); i++) {
+            String headerPrefix = prefix + "header." + i + ".";
+            headers.add(new HeaderModel(properties.getProperty(headerPrefix + "name"),
+                    readList(properties, headerPrefix + "value."),
+                    Boolean.parseBoolean(properties.getProperty(headerPrefix + "required", "true")),
+                    properties.getProperty(headerPrefix + "computeClass"),
+                    properties.getProperty(headerPrefix + "computeMethod"),
+                    readList(properties, headerPrefix + "computeParameterType."),
+                    ClientHeaderParam.Scope.valueOf(properties.getProperty(headerPrefix + "scope",
+                            ClientHeaderParam.Scope.PER_INVOCATION.name())),
+                    Long.parseLong(properties.getProperty(headerPrefix + "cacheFor", "-1"))));
+        }
+        return headers;
+    }
+
+    private static List<String> readList(Properties properties, String prefix) {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; properties.containsKey(prefix + i); i++) {
+            values.add(properties.getProperty(prefix + i));
+        }
+        return values;
+    }
+
+    static void write(ClientModel model, OutputStream out) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("version", String.valueOf(ClientModel.FORMAT_VERSION));
+        entries.put("interface", model.getInterfaceName());
+        model.getPath().ifPresent(path -> entries.put("path", path));
+        model.getBaseUri().ifPresent(baseUri -> entries.put("baseUri", baseUri));
+        model.getConfigKey().ifPresent(configKey -> entries.put("configKey", configKey));
+        model.getHeadersFactory().ifPresent(factory -> entries.put("headersFactory", factory));
+        putList(entries, "consumes.", model.getConsumes());
+        putList(entries, "produces.", model.getProduces());
+        for (int i = 0; i < model.getProviders().size(); i++) {
+            ProviderModel provider = model.getProviders().get(i);
+            entries.put("provider." + i + ".class", provider.getClassName());
+            entries.put("provider." + i + ".priority", String.valueOf(provider.getPriority()));
+        }
+        putHeaders(entries, "", model.getHeaders());
+        for (int i = 0; i < model.getMethods().size(); i++) {
+            putMethod(entries, "method." + i + ".", model.getMethods().get(i));
+        }
+
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.ISO_8859_1);
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            writer.write(entry.getKey());
+            writer.write('=');
+            writer.write(escape(entry.getValue()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private static void putMethod(Map<String, String> entries, String prefix, MethodModel method) {
+        entries.put(prefix + "name", method.getName());
+        entries.put(prefix + "returnType", method.getReturnType());
+        method.getHttpMethod().ifPresent(httpMethod -> entries.put(prefix + "httpMethod", httpMethod));
+        method.getPath().ifPresent(path -> entries.put(prefix + "path", path));
+        putList(entries, prefix + "consumes.", method.getConsumes());
+        putList(entries, prefix + "produces.", method.getProduces());
+        putHeaders(entries, prefix, method.getHeaders());
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            ParameterModel parameter = method.getParameters().get(i);
+            String parameterPrefix = prefix + "parameter." + i + ".";
+            entries.put(parameterPrefix + "type", parameter.getType());
+            entries.put(parameterPrefix + "kind", parameter.getKind().name());
+            parameter.getName().ifPresent(name -> entries.put(parameterPrefix + "name", name));
+            parameter.getDefaultValue().ifPresent(value -> entries.put(parameterPrefix + "defaultValue", value));
+        }
+    }
+
+    private static void putHeaders(Map<String, String> entries, String prefix, List<HeaderModel> headers) {
+        for (int i = 0; i < headers.size(); i++) {
+            HeaderModel header = headers.get(i);
+            String headerPrefix = prefix + "header." + i + ".";
+            entries.put(headerPrefix + "name", header.getName());
+            putList(entries, headerPrefix + "value.", header.getValues());
+            entries.put(headerPrefix + "required", String.valueOf(header.isRequired()));
+            header.getComputeClass().ifPresent(computeClass -> entries.put(headerPrefix + "computeClass",
+                    computeClass));
+            header.getComputeMethod().ifPresent(computeMethod -> entries.put(headerPrefix + "computeMethod",
+                    computeMethod));
+            putList(entries, headerPrefix + "computeParameterType.", header.getComputeParameterTypes());
+            if (header.getScope() != ClientHeaderParam.Scope.PER_INVOCATION) {
+                entries.put(headerPrefix + "scope", header.getScope().name());
+                entries.put(headerPrefix + "cacheFor", String.valueOf(header.getCacheFor()));
+            }
+        }
+    }
+
+    private static void putList(Map<String, String> entries, String prefix, List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            entries.put(prefix + i, values.get(i));
+        }
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                escaped.append("\\\\");
+            } else if (c == ' ' && i == 0) {
+                escaped.append("\\ ");
+            } else if (c < 0x20 || c > 0x7e) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+
+/**
+ * The model of a {@link org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam ClientHeaderParam}
+ * annotation. If the header value is computed, the compute method is resolved when the model is generated, so that
+ * implementations do not need to look it up.
+ *
+ * @since 4.1
+ */
+public final class HeaderModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final List<String> values;
+    private final boolean required;
+    private final String computeClass;
+    private final String computeMethod;
+    private final List<String> computeParameterTypes;
+    private final ClientHeaderParam.Scope scope;
+    private final long cacheFor;
+
+    /**
+     * @param name
+     *            the name of the header
+     * @param values
+     *            the values of the annotation, as declared
+     * @param required
+     *            whether the header is required
+     * @param computeClass
+     *            the binary name of the class declaring the compute method, or null if the header value is not computed
+     *            or the compute method could not be resolved
+     * @param computeMethod
+     *            the name of the compute method, or null if the header value is not computed or the compute method
+     *            could not be resolved
+     * @param computeParameterTypes
+     *            the parameter types of the compute method, as returned by {@link Class#getTypeName()}
+     * @param scope
+     *            how long a computed header value is reused
+     * @param cacheFor
+     *            the time in milliseconds after which a reused header value is computed again, or a negative value to
+     *            reuse it for the lifetime of the client instance
+     */
+    public HeaderModel(String name, List<String> values, boolean required, String computeClass,
+            String computeMethod, List<String> computeParameterTypes, ClientHeaderParam.Scope scope, long cacheFor) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.values = Collections.unmodifiableList(new ArrayList<>(values));
+        this.required = required;
+        this.computeClass = computeClass;
+        this.computeMethod = computeMethod;
+        this.computeParameterTypes = Collections.unmodifiableList(new ArrayList<>(computeParameterTypes));
+        this.scope = Objects.requireNonNull(scope, "scope");
+        this.cacheFor = cacheFor;
+    }
+
+    /**
+     * @return the name of the header
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the values of the annotation, as declared
+     */
+    public List<String> getValues() {
+        return values;
+    }
+
+    /**
+     * @return whether the header is required
+     */
+    public boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * @return the binary name of the class declaring the resolved compute method, if any
+     */
+    public Optional<String> getComputeClass() {
+        return Optional.ofNullable(computeClass);
+    }
+
+    /**
+     * @return the name of the resolved compute method, if any
+     */
+    public Optional<String> getComputeMethod() {
+        return Optional.ofNullable(computeMethod);
+    }
+
+    /**
+     * @return the parameter types of the resolved compute method, as returned by {@link Class#getTypeName()}
+     */
+    public List<String> getComputeParameterTypes() {
+        return computeParameterTypes;
+    }
+
+    /**
+     * @return how long a computed header value is reused
+     */
+    public ClientHeaderParam.Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * @return the time in milliseconds after which a reused header value is computed again, or a negative value to
+     *         reuse it for the lifetime of the client instance
+     */
+    public long getCacheFor() {
+        return cacheFor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HeaderModel)) {
+            return false;
+        }
+        HeaderModel that = (HeaderModel) o;
+        return required == that.required
+                && cacheFor == that.cacheFor
+                && name.equals(that.name)
+                && values.equals(that.values)
+                && Objects.equals(computeClass, that.computeClass)
+                && Objects.equals(computeMethod, that.computeMethod)
+                && computeParameterTypes.equals(that.computeParameterTypes)
+                && scope == that.scope;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, values, required, computeClass, computeMethod, computeParameterTypes, scope,
+                cacheFor);
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderModel[" + name + "=" + values + "]";
+    }
+}
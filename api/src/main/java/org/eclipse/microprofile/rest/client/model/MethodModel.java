@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The model of a single abstract method of a client interface, including the methods inherited from its
+ * super-interfaces.
+ *
+ * @since 4.1
+ */
+public final class MethodModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final String returnType;
+    private final String httpMethod;
+    private final String path;
+    private final List<String> consumes;
+    private final List<String> produces;
+    private final List<HeaderModel> headers;
+    private final List<ParameterModel> parameters;
+
+    private MethodModel(Builder builder) {
+        this.name = Objects.requireNonNull(builder.name, "name");
+        this.returnType = Objects.requireNonNull(builder.returnType, "returnType");
+        this.httpMethod = builder.httpMethod;
+        this.path = builder.path;
+        this.consumes = Collections.unmodifiableList(new ArrayList<>(builder.consumes));
+        this.produces = Collections.unmodifiableList(new ArrayList<>(builder.produces));
+        this.headers = Collections.unmodifiableList(new ArrayList<>(builder.headers));
+        this.parameters = Collections.unmodifiableList(new ArrayList<>(builder.parameters));
+    }
+
+    /**
+     * @param name
+     *            the name of the method
+     * @return a new builder for a method model
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * @return the name of the method
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the erased return type of the method, as returned by {@link Class#getTypeName()}
+     */
+    public String getReturnType() {
+        return returnType;
+    }
+
+    /**
+     * @return the HTTP method of the method, or an empty Optional if the method is a sub-resource locator
+     */
+    public Optional<String> getHttpMethod() {
+        return Optional.ofNullable(httpMethod);
+    }
+
+    /**
+     * @return the value of the method's {@code jakarta.ws.rs.Path} annotation, if any
+     */
+    public Optional<String> getPath() {
+        return Optional.ofNullable(path);
+    }
+
+    /**
+     * @return the values of the method's {@code jakarta.ws.rs.Consumes} annotation
+     */
+    public List<String> getConsumes() {
+        return consumes;
+    }
+
+    /**
+     * @return the values of the method's {@code jakarta.ws.rs.Produces} annotation
+     */
+    public List<String> getProduces() {
+        return produces;
+    }
+
+    /**
+     * @return the {@code ClientHeaderParam} annotations declared on the method
+     */
+    public List<HeaderModel> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the parameters of the method, in declaration order
+     */
+    public List<ParameterModel> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MethodModel)) {
+            return false;
+        }
+        MethodModel that = (MethodModel) o;
+        return name.equals(that.name)
+                && returnType.equals(that.returnType)
+                && Objects.equals(httpMethod, that.httpMethod)
+                && Objects.equals(path, that.path)
+                && consumes.equals(that.consumes)
+                && produces.equals(that.produces)
+                && headers.equals(that.headers)
+                && parameters.equals(that.parameters);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, returnType, httpMethod, path, consumes, produces, headers, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "MethodModel[" + httpMethod + " " + name + parameters + "]";
+    }
+
+    /**
+     * Builder for {@link MethodModel} instances.
+     */
+    public static final class Builder {
+        private final String name;
+        private String returnType;
+        private String httpMethod;
+        private String path;
+        private final List<String> consumes = new ArrayList<>();
+        private final List<String> produces = new ArrayList<>();
+        private final List<HeaderModel> headers = new ArrayList<>();
+        private final List<ParameterModel> parameters = new ArrayList<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * @param returnType
+         *            the erased return type of the method, as returned by {@link Class#getTypeName()}
+         * @return this builder
+         */
+        public Builder returnType(String returnType) {
+            this.returnType = returnType;
+            return this;
+        }
+
+        /**
+         * @param httpMethod
+         *            the HTTP method, or null for a sub-resource locator
+         * @return this builder
+         */
+        public Builder httpMethod(String httpMethod) {
+            this.httpMethod = httpMethod;
+            return this;
+        }
+
+        /**
+         * @param path
+         *            the value of the method's {@code jakarta.ws.rs.Path} annotation, or null
+         * @return this builder
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * @param mediaType
+         *            a value of the method's {@code jakarta.ws.rs.Consumes} annotation
+         * @return this builder
+         */
+        public Builder consumes(String mediaType) {
+            this.consumes.add(mediaType);
+            return this;
+        }
+
+        /**
+         * @param mediaType
+         *            a value of the method's {@code jakarta.ws.rs.Produces} annotation
+         * @return this builder
+         */
+        public Builder produces(String mediaType) {
+            this.produces.add(mediaType);
+            return this;
+        }
+
+        /**
+         * @param header
+         *            a {@code ClientHeaderParam} annotation declared on the method
+         * @return this builder
+         */
+        public Builder header(HeaderModel header) {
+            this.headers.add(header);
+            return this;
+        }
+
+        /**
+         * @param parameter
+         *            the next parameter of the method
+         * @return this builder
+         */
+        public Builder parameter(ParameterModel parameter) {
+            this.parameters.add(parameter);
+            return this;
+        }
+
+        /**
+         * @return a new, immutable method model
+         */
+        public MethodModel build() {
+            return new MethodModel(this);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The model of a single parameter of a client interface method.
+ *
+ * @since 4.1
+ */
+public final class ParameterModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How a parameter is sent to the remote service.
+     */
+    public enum Kind {
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.PathParam}.
+         */
+        PATH,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.QueryParam}.
+         */
+        QUERY,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.HeaderParam}.
+         */
+        HEADER,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.CookieParam}.
+         */
+        COOKIE,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.FormParam}.
+         */
+        FORM,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.MatrixParam}.
+         */
+        MATRIX,
+        /**
+         * The parameter is annotated with {@code jakarta.ws.rs.BeanParam}.
+         */
+        BEAN,
+        /**
+         * The parameter is not annotated, and is sent as the request entity.
+         */
+        ENTITY
+    }
+
+    private final String type;
+    private final Kind kind;
+    private final String name;
+    private final String defaultValue;
+
+    /**
+     * @param type
+     *            the erased type of the parameter, as returned by {@link Class#getTypeName()}
+     * @param kind
+     *            how the parameter is sent to the remote service
+     * @param name
+     *            the name declared in the parameter annotation, or null for {@link Kind#BEAN} and {@link Kind#ENTITY}
+     *            parameters
+     * @param defaultValue
+     *            the value of the {@code jakarta.ws.rs.DefaultValue} annotation, or null if the parameter is not
+     *            annotated with it
+     */
+    public ParameterModel(String type, Kind kind, String name, String defaultValue) {
+        this.type = Objects.requireNonNull(type, "type");
+        this.kind = Objects.requireNonNull(kind, "kind");
+        this.name = name;
+        this.defaultValue = defaultValue;
+    }
+
+    /**
+     * @return the erased type of the parameter, as returned by {@link Class#getTypeName()}
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * @return how the parameter is sent to the remote service
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return the name declared in the parameter annotation, if any
+     */
+    public Optional<String> getName() {
+        return Optional.ofNullable(name);
+    }
+
+    /**
+     * @return the value of the {@code jakarta.ws.rs.DefaultValue} annotation, if any
+     */
+    public Optional<String> getDefaultValue() {
+        return Optional.ofNullable(defaultValue);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ParameterModel)) {
+            return false;
+        }
+        ParameterModel that = (ParameterModel) o;
+        return type.equals(that.type)
+                && kind == that.kind
+                && Objects.equals(name, that.name)
+                && Objects.equals(defaultValue, that.defaultValue);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, kind, name, defaultValue);
+    }
+
+    @Override
+    public String toString() {
+        return "ParameterModel[" + kind + " " + type + (name == null ? "" : " " + name) + "]";
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The model of a provider registered on a client interface with the
+ * {@link org.eclipse.microprofile.rest.client.annotation.RegisterProvider RegisterProvider} annotation.
+ *
+ * @since 4.1
+ */
+public final class ProviderModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String className;
+    private final int priority;
+
+    /**
+     * @param className
+     *            the binary name of the provider class
+     * @param priority
+     *            the priority declared in the annotation, or -1 if the provider's own priority should be used
+     */
+    public ProviderModel(String className, int priority) {
+        this.className = Objects.requireNonNull(className, "className");
+        this.priority = priority;
+    }
+
+    /**
+     * @return the binary name of the provider class
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the priority declared in the annotation, or -1 if the provider's own priority should be used
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProviderModel)) {
+            return false;
+        }
+        ProviderModel that = (ProviderModel) o;
+        return priority == that.priority && className.equals(that.className);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(className, priority);
+    }
+
+    @Override
+    public String toString() {
+        return "ProviderModel[" + className + ", priority=" + priority + "]";
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * A portable, serializable model of a MP Rest Client interface, so that implementations do not need to reflectively
+ * scan the interface when building a client instance. Models are generated at compile time by the MicroProfile Rest
+ * Client annotation processor, and are loaded with {@link ClientModel#load(Class)}, for example:
+ *
+ * <pre>
+ * Optional&lt;ClientModel&gt; model = ClientModel.load(MyClientService.class);
+ * </pre>
+ *
+ * @since 4.1
+ */
+@org.osgi.annotation.versioning.Version("1.0")
+package org.eclipse.microprofile.rest.client.model;
@@ -114,6 +114,9 @@ public abstract class RestClientBuilderResolver {
 
     /**
      * Set the instance. It can be as an alternative to service loader pattern, e.g. in OSGi environment
+     * <p>
+     * Changing the instance also discards the {@link RestClientBuilderListener} instances cached by
+     * {@link RestClientBuilder#newBuilder()}.
      *
      * @param resolver
      *            instance.
@@ -25,6 +25,9 @@ import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
+import org.eclipse.microprofile.rest.client.ext.ConcurrencyLimit;
+import org.eclipse.microprofile.rest.client.ext.ContextPropagator;
+import org.eclipse.microprofile.rest.client.ext.HttpVersion;
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 
 import jakarta.annotation.Priority;
@@ -46,6 +49,16 @@ public class BuilderImpl2 extends AbstractBuilder {
         throw new IllegalStateException("not implemented");
     }
 
+    @Override
+    public RestClientBuilder virtualThreads(boolean enabled) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder contextPropagator(ContextPropagator contextPropagator) {
+        throw new IllegalStateException("not implemented");
+    }
+
     @Override
     public RestClientBuilder sslContext(SSLContext sslContext) {
         throw new IllegalStateException("not implemented");
@@ -95,6 +108,71 @@ public class BuilderImpl2 extends AbstractBuilder {
         throw new IllegalStateException("not implemented");
     }
 
+    @Override
+    public RestClientBuilder maxConnectionsPerHost(int max) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder maxConnections(int max) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder connectionIdleTimeout(long timeout, TimeUnit unit) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder connectionTimeToLive(long timeToLive, TimeUnit unit) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder connectionAcquireTimeout(long timeout, TimeUnit unit) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder httpVersion(HttpVersion version) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder maxConcurrentStreams(int max) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder compression(String... encodings) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder compressionThreshold(long minSize) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder responseCache(long maxSize) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder concurrencyLimit(ConcurrencyLimit algorithm, int initialLimit, int maxLimit) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder retryPolicy(int maxAttempts, long delay, long maxDelay, TimeUnit unit) {
+        throw new IllegalStateException("not implemented");
+    }
+
+    @Override
+    public RestClientBuilder retryBudget(double ratio, int minRetriesPerSecond) {
+        throw new IllegalStateException("not implemented");
+    }
+
     @Override
     public <T> T build(Class<T> clazz) {
         throw new IllegalStateException("not implemented");
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class RestClientBatchTest {
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterClass
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testResultsInSubmissionOrder() {
+        RestClientBatch<String, String> batch = RestClientBatch.<String, String>of("client").executor(executor);
+        for (int i = 0; i < 50; i++) {
+            int delay = 50 - i;
+            String expected = "client-" + i;
+            batch.submit(c -> {
+                sleep(delay);
+                return expected;
+            });
+        }
+        List<String> results = batch.parallelism(8).execute();
+        assertEquals(results.size(), 50);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(results.get(i), "client-" + i);
+        }
+    }
+
+    @Test
+    public void testAsyncResultsInSubmissionOrder() throws Exception {
+        List<CompletableFuture<String>> stages = new ArrayList<>();
+        RestClientBatch<Object, String> batch = RestClientBatch.of(new Object());
+        for (int i = 0; i < 10; i++) {
+            batch.submitAsync(c -> {
+                CompletableFuture<String> stage = new CompletableFuture<>();
+                stages.add(stage);
+                return stage;
+            });
+        }
+        CompletableFuture<List<String>> result = batch.parallelism(10).executeAsync().toCompletableFuture();
+        for (int i = stages.size() - 1; i >= 0; i--) {
+            stages.get(i).complete("result-" + i);
+        }
+        List<String> results = result.get(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(results.get(i), "result-" + i);
+        }
+    }
+
+    @Test
+    public void testParallelismIsCapped() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        RestClientBatch<Object, Integer> batch = RestClientBatch.<Object, Integer>of(new Object()).executor(executor);
+        for (int i = 0; i < 40; i++) {
+            batch.submit(c -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                sleep(10);
+                inFlight.decrementAndGet();
+                return 1;
+            });
+        }
+        batch.parallelism(4).execute();
+        assertTrue(maxInFlight.get() <= 4, "more than 4 invocations in flight: " + maxInFlight.get());
+    }
+
+    @Test
+    public void testAsyncParallelismIsCapped() throws Exception {
+        List<CompletableFuture<Integer>> stages = new ArrayList<>();
+        RestClientBatch<Object, Integer> batch = RestClientBatch.of(new Object());
+        for (int i = 0; i < 10; i++) {
+            int value = i;
+            batch.submitAsync(c -> {
+                CompletableFuture<Integer> stage = new CompletableFuture<>();
+                stages.add(stage);
+                return stage.thenApply(ignored -> value);
+            });
+        }
+        CompletableFuture<List<Integer>> result = batch.parallelism(4).executeAsync().toCompletableFuture();
+        assertEquals(stages.size(), 4, "invocations started before any completed");
+        stages.get(0).complete(0);
+        assertEquals(stages.size(), 5, "the completed invocation did not start the next one");
+        for (int i = 1; i < 10; i++) {
+            stages.get(i).complete(0);
+            assertEquals(stages.size(), Math.min(10, i + 5));
+        }
+        assertEquals(result.get(5, TimeUnit.SECONDS), Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void testAsyncInvocationsDoNotRequireAnExecutor() {
+        List<String> results = RestClientBatch.<String, String>of("client")
+                .submitAsync(c -> CompletableFuture.supplyAsync(() -> c + "-0"))
+                .submitAsync(c -> CompletableFuture.completedFuture(c + "-1"))
+                .execute();
+        assertEquals(results, Arrays.asList("client-0", "client-1"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testBlockingInvocationsRequireAnExecutor() {
+        RestClientBatch.<Object, String>of(new Object()).submit(c -> "ok").execute();
+    }
+
+    @Test(timeOut = 10000)
+    public void testSynchronouslyCompletedStages() {
+        RestClientBatch<Object, Integer> batch = RestClientBatch.of(new Object());
+        for (int i = 0; i < 100000; i++) {
+            int value = i;
+            batch.submitAsync(c -> CompletableFuture.completedFuture(value));
+        }
+        List<Integer> results = batch.parallelism(1).execute();
+        assertEquals(results.size(), 100000);
+        assertEquals((int) results.get(99999), 99999);
+    }
+
+    @Test
+    public void testFailuresAreReportedWithoutModification() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+        AtomicInteger invoked = new AtomicInteger();
+        RestClientBatch<Object, String> batch = RestClientBatch.<Object, String>of(new Object())
+                .executor(executor)
+                .submit(c -> {
+                    invoked.incrementAndGet();
+                    return "ok";
+                })
+                .submit(c -> {
+                    invoked.incrementAndGet();
+                    throw first;
+                })
+                .submitAsync(c -> {
+                    invoked.incrementAndGet();
+                    CompletableFuture<String> stage = new CompletableFuture<>();
+                    stage.completeExceptionally(second);
+                    return stage;
+                });
+        try {
+            batch.execute();
+            fail("Expected the batch to fail");
+        } catch (RestClientBatchException e) {
+            assertSame(e.getCause(), first);
+            assertEquals(new ArrayList<>(e.getFailures().keySet()), Arrays.asList(1, 2));
+            assertSame(e.getFailures().get(1), first);
+            assertSame(e.getFailures().get(2), second);
+        }
+        assertEquals(invoked.get(), 3);
+        assertEquals(first.getSuppressed().length, 0);
+        assertEquals(second.getSuppressed().length, 0);
+    }
+
+    @Test(timeOut = 10000)
+    public void testSameFailureReportedByManyInvocationsAndBatches() {
+        IllegalStateException failure = new IllegalStateException("shared");
+        for (int i = 0; i < 2; i++) {
+            RestClientBatch<Object, String> batch = RestClientBatch.<Object, String>of(new Object())
+                    .executor(executor)
+                    .submit(c -> {
+                        throw failure;
+                    })
+                    .submit(c -> {
+                        throw failure;
+                    });
+            try {
+                batch.execute();
+                fail("Expected the batch to fail");
+            } catch (RestClientBatchException e) {
+                assertSame(e.getCause(), failure);
+                assertEquals(e.getFailures().size(), 2);
+            }
+        }
+        assertEquals(failure.getSuppressed().length, 0);
+    }
+
+    @Test
+    public void testRejectedInvocationFails() {
+        RestClientBatch<Object, String> batch = RestClientBatch.<Object, String>of(new Object())
+                .executor(task -> {
+                    throw new RejectedExecutionException("rejected");
+                })
+                .submit(c -> "ok");
+        try {
+            batch.execute();
+            fail("Expected the batch to fail");
+        } catch (RestClientBatchException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException, "Unexpected cause: " + e.getCause());
+        }
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        assertTrue(RestClientBatch.of(new Object()).execute().isEmpty());
+    }
+
+    @Test
+    public void testCustomExecutor() throws Exception {
+        ExecutorService custom = Executors.newFixedThreadPool(2, r -> new Thread(r, "custom-executor"));
+        try {
+            List<String> threads = RestClientBatch.<Object, String>of(new Object())
+                    .executor(custom)
+                    .submit(c -> Thread.currentThread().getName())
+                    .submit(c -> Thread.currentThread().getName())
+                    .executeAsync()
+                    .toCompletableFuture()
+                    .get(5, TimeUnit.SECONDS);
+            assertEquals(threads, Arrays.asList("custom-executor", "custom-executor"));
+        } finally {
+            custom.shutdownNow();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testBatchCanOnlyBeExecutedOnce() {
+        RestClientBatch<Object, String> batch = RestClientBatch.<Object, String>of(new Object())
+                .submitAsync(c -> CompletableFuture.completedFuture("ok"));
+        batch.execute();
+        batch.execute();
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testSubmitAfterExecute() {
+        RestClientBatch<Object, String> batch = RestClientBatch.of(new Object());
+        batch.execute();
+        batch.submitAsync(c -> CompletableFuture.completedFuture("ok"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidParallelism() {
+        RestClientBatch.of(new Object()).parallelism(0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
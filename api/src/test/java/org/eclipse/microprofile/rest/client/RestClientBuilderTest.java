@@ -16,8 +16,18 @@
 
 package org.eclipse.microprofile.rest.client;
 
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.spi.CountingRestClientBuilderListener;
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilder1Resolver;
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
 import org.testng.annotations.BeforeMethod;
@@ -28,6 +38,7 @@ public class RestClientBuilderTest {
     @BeforeMethod
     public void cleanupResolver() {
         RestClientBuilderResolver.setInstance(null);
+        CountingRestClientBuilderListener.reset();
     }
 
     @Test
@@ -46,4 +57,112 @@ public class RestClientBuilderTest {
         assertTrue(builder instanceof BuilderImpl1);
     }
 
+    @Test
+    public void testResolverInstanceIsStable() {
+        RestClientBuilderResolver resolver = RestClientBuilderResolver.instance();
+        assertSame(RestClientBuilderResolver.instance(), resolver);
+    }
+
+    @Test
+    public void testListenersAreLoadedOnce() {
+        RestClientBuilder.newBuilder();
+        RestClientBuilder.newBuilder();
+        RestClientBuilder.newBuilder();
+
+        assertEquals(CountingRestClientBuilderListener.INSTANCES.get(), 1);
+        assertEquals(CountingRestClientBuilderListener.NOTIFICATIONS.get(), 3);
+    }
+
+    @Test
+    public void testListenersAreReloadedAfterSetInstance() {
+        RestClientBuilder.newBuilder();
+        RestClientBuilderResolver.setInstance(new RestClientBuilder1Resolver());
+        RestClientBuilder.newBuilder();
+
+        assertEquals(CountingRestClientBuilderListener.INSTANCES.get(), 2);
+        assertEquals(CountingRestClientBuilderListener.NOTIFICATIONS.get(), 2);
+    }
+
+    @Test
+    public void testListenersAreLoadedPerContextClassLoader() throws Exception {
+        RestClientBuilder.newBuilder();
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[0], original)) {
+            thread.setContextClassLoader(classLoader);
+            RestClientBuilder.newBuilder();
+            RestClientBuilder.newBuilder();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+        RestClientBuilder.newBuilder();
+
+        assertEquals(CountingRestClientBuilderListener.INSTANCES.get(), 2);
+        assertEquals(CountingRestClientBuilderListener.NOTIFICATIONS.get(), 4);
+    }
+
+    @Test
+    public void testListenersDefinedByContextClassLoaderAreLoadedOnce() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new ListenerClassLoader(original)) {
+            thread.setContextClassLoader(classLoader);
+            RestClientBuilder.newBuilder();
+            RestClientBuilder.newBuilder();
+
+            Class<?> listenerClass = classLoader.loadClass(CountingRestClientBuilderListener.class.getName());
+            assertNotSame(listenerClass, CountingRestClientBuilderListener.class);
+            assertEquals(((AtomicInteger) listenerClass.getField("INSTANCES").get(null)).get(), 1);
+            assertEquals(((AtomicInteger) listenerClass.getField("NOTIFICATIONS").get(null)).get(), 2);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    @Test
+    public void testDiscardedContextClassLoaderIsCollected() throws Exception {
+        WeakReference<ClassLoader> classLoader = newBuilderWithDiscardedContextClassLoader();
+        // the class loader was the most recently used one, make sure the listener cache does not pin it either
+        RestClientBuilder.newBuilder();
+
+        for (int i = 0; i < 50 && classLoader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertNull(classLoader.get(), "The context class loader should have been collected");
+    }
+
+    private static WeakReference<ClassLoader> newBuilderWithDiscardedContextClassLoader() throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        try (URLClassLoader classLoader = new ListenerClassLoader(original)) {
+            thread.setContextClassLoader(classLoader);
+            RestClientBuilder.newBuilder();
+            return new WeakReference<>(classLoader);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /**
+     * Defines its own copy of {@link CountingRestClientBuilderListener}, like a deployment that contains a listener.
+     */
+    private static final class ListenerClassLoader extends URLClassLoader {
+        private ListenerClassLoader(ClassLoader parent) {
+            super(new URL[]{
+                    CountingRestClientBuilderListener.class.getProtectionDomain().getCodeSource().getLocation()},
+                    parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(CountingRestClientBuilderListener.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                return loaded != null ? loaded : findClass(name);
+            }
+        }
+    }
 }
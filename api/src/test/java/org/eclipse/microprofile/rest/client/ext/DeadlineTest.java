@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.ext;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+public class DeadlineTest {
+
+    @Test
+    public void testRemaining() {
+        Deadline deadline = Deadline.after(10, TimeUnit.SECONDS);
+        long remaining = deadline.remaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining > 9000 && remaining <= 10000, "Unexpected remaining time " + remaining);
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    public void testExpired() {
+        Deadline deadline = Deadline.after(-5, TimeUnit.SECONDS);
+        assertTrue(deadline.isExpired());
+        assertEquals(deadline.remaining(TimeUnit.MILLISECONDS), 0L);
+        assertEquals(deadline.toHeader(), "0");
+    }
+
+    @Test
+    public void testHeaderRoundTrip() {
+        long remaining = Deadline.fromHeader(" 5000 ").get().remaining(TimeUnit.MILLISECONDS);
+        assertTrue(remaining > 4000 && remaining <= 5000, "Unexpected remaining time " + remaining);
+        long header = Long.parseLong(Deadline.after(5, TimeUnit.SECONDS).toHeader());
+        assertTrue(header > 4000 && header <= 5000, "Unexpected header value " + header);
+    }
+
+    @Test
+    public void testInvalidHeader() {
+        assertFalse(Deadline.fromHeader(null).isPresent());
+        assertFalse(Deadline.fromHeader("soon").isPresent());
+    }
+
+    @Test
+    public void testScopesRestorePreviousDeadline() {
+        assertFalse(Deadline.current().isPresent());
+        Deadline outer = Deadline.after(10, TimeUnit.SECONDS);
+        try (Deadline.Scope outerScope = outer.activate()) {
+            assertSame(Deadline.current().get(), outer);
+
+            Deadline inner = Deadline.after(1, TimeUnit.SECONDS);
+            try (Deadline.Scope innerScope = inner.activate()) {
+                assertSame(Deadline.current().get(), inner);
+            }
+            assertSame(Deadline.current().get(), outer);
+        }
+        assertFalse(Deadline.current().isPresent());
+    }
+
+    @Test
+    public void testEarlierDeadlineApplies() {
+        Deadline outer = Deadline.after(1, TimeUnit.SECONDS);
+        try (Deadline.Scope outerScope = outer.activate()) {
+            try (Deadline.Scope innerScope = Deadline.after(10, TimeUnit.SECONDS).activate()) {
+                assertSame(Deadline.current().get(), outer);
+            }
+            assertSame(Deadline.current().get(), outer);
+        }
+    }
+}
@@ -18,7 +18,13 @@ package org.eclipse.microprofile.rest.client.ext;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.testng.SkipException;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -32,6 +38,7 @@ public class DefaultClientHeadersFactoryImplTest {
     @BeforeMethod
     public void unsetPropagationProperty() {
         System.clearProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY);
+        impl.refresh();
     }
 
     private MultivaluedMap<String, String> mockIncomingHeaders() {
@@ -81,4 +88,79 @@ public class DefaultClientHeadersFactoryImplTest {
         assertEquals("Basic xyz123", updatedHeaders.getFirst("Authorization"));
         assertEquals("blue", updatedHeaders.getFirst("Favorite-Color"));
     }
+
+    @Test
+    public void testUpdateMatchesHeaderNamesCaseInsensitively() {
+        System.setProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, "authorization, FAVORITE-COLOR");
+        MultivaluedMap<String, String> incomingHeaders = mockIncomingHeaders();
+        MultivaluedMap<String, String> clientOutgoingHeaders = new MultivaluedHashMap<>();
+        MultivaluedMap<String, String> updatedHeaders = impl.update(incomingHeaders, clientOutgoingHeaders);
+        assertNotNull(updatedHeaders);
+        assertEquals(updatedHeaders.size(), 2);
+        assertEquals("Basic xyz123", updatedHeaders.getFirst("Authorization"));
+        assertEquals("blue", updatedHeaders.getFirst("Favorite-Color"));
+    }
+
+    @Test
+    public void testUpdateWithNothingToPropagateReturnsSharedReadOnlyMap() {
+        System.setProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, "Not-Present");
+        MultivaluedMap<String, String> first = impl.update(mockIncomingHeaders(), new MultivaluedHashMap<>());
+        MultivaluedMap<String, String> second = impl.update(mockIncomingHeaders(), mockOutgoingHeaders());
+        assertEquals(first.size(), 0);
+        assertSame(first, second);
+        try {
+            first.putSingle("Authorization", "Basic xyz123");
+        } catch (UnsupportedOperationException expected) {
+            return;
+        }
+        throw new AssertionError("Expected the shared empty map to be read-only");
+    }
+
+    @Test
+    public void testRefreshPicksUpChangedPropagationHeaders() {
+        System.setProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, "Authorization");
+        MultivaluedMap<String, String> updatedHeaders = impl.update(mockIncomingHeaders(), new MultivaluedHashMap<>());
+        assertEquals(updatedHeaders.size(), 1);
+        assertEquals("Basic xyz123", updatedHeaders.getFirst("Authorization"));
+
+        // the header names are cached per Config instance...
+        System.setProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, "Favorite-Color");
+        updatedHeaders = impl.update(mockIncomingHeaders(), new MultivaluedHashMap<>());
+        assertEquals(updatedHeaders.size(), 1);
+        assertEquals("Basic xyz123", updatedHeaders.getFirst("Authorization"));
+
+        // ...until refreshed
+        impl.refresh();
+        updatedHeaders = impl.update(mockIncomingHeaders(), new MultivaluedHashMap<>());
+        assertEquals(updatedHeaders.size(), 1);
+        assertEquals("blue", updatedHeaders.getFirst("Favorite-Color"));
+    }
+
+    @Test
+    public void testUpdateWithNothingToPropagateDoesNotAllocate() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            throw new SkipException("Thread allocation measurement is not supported by this JVM");
+        }
+        com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadMXBean;
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100_000;
+
+        MultivaluedMap<String, String> incomingHeaders = mockIncomingHeaders();
+        MultivaluedMap<String, String> clientOutgoingHeaders = mockOutgoingHeaders();
+        for (int i = 0; i < iterations; i++) {
+            impl.update(incomingHeaders, clientOutgoingHeaders);
+        }
+
+        long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            impl.update(incomingHeaders, clientOutgoingHeaders);
+        }
+        long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        // less than one byte per invocation leaves room for the measurement itself, but not for any per-call object
+        assertTrue(allocated < iterations, "Expected no allocation per invocation, but " + allocated
+                + " bytes were allocated by " + iterations + " invocations");
+    }
 }
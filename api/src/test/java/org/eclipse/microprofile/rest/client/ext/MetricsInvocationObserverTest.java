@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.ext;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.net.ConnectException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+public class MetricsInvocationObserverTest {
+
+    interface UserClient {
+    }
+
+    @Test
+    public void testCompletedInvocation() {
+        RecordingObserver observer = new RecordingObserver();
+        Invocation invocation = new Invocation(TimeUnit.MILLISECONDS.toNanos(5));
+
+        observer.onStart(invocation);
+        observer.onConnectionAcquired(invocation);
+        invocation.requestBytes = 0;
+        observer.onRequestSent(invocation);
+        invocation.status = 200;
+        invocation.responseBytes = 0;
+        observer.onFirstByte(invocation);
+        invocation.responseBytes = 42;
+        observer.onBodyRead(invocation);
+        observer.onCompleted(invocation);
+
+        assertEquals(observer.names(), List.of(MetricsInvocationObserver.CONNECTION_ACQUIRE,
+                MetricsInvocationObserver.FIRST_BYTE,
+                MetricsInvocationObserver.REQUESTS,
+                MetricsInvocationObserver.REQUEST_SIZE,
+                MetricsInvocationObserver.RESPONSE_SIZE));
+
+        Map<String, String> commonTags = new LinkedHashMap<>();
+        commonTags.put("client", UserClient.class.getName());
+        commonTags.put("method", "GET");
+        commonTags.put("uri", "/users/{id}");
+        assertEquals(observer.measurements.get(0).tags, commonTags);
+        assertTrue(observer.measurements.get(0).value >= TimeUnit.MILLISECONDS.toNanos(5));
+
+        Map<String, String> completionTags = new LinkedHashMap<>(commonTags);
+        completionTags.put("status", "200");
+        completionTags.put("outcome", "SUCCESS");
+        completionTags.put("exception", "none");
+        assertEquals(observer.measurements.get(2).tags, completionTags);
+        assertTrue(observer.measurements.get(2).value >= observer.measurements.get(1).value);
+        assertEquals(observer.measurements.get(3).value, 0L);
+        assertEquals(observer.measurements.get(4).value, 42L);
+    }
+
+    @Test
+    public void testFailedInvocationWithResponse() {
+        RecordingObserver observer = new RecordingObserver();
+        Invocation invocation = new Invocation(0);
+        invocation.status = 503;
+        invocation.requestBytes = 0;
+        invocation.responseBytes = 0;
+
+        observer.onFailed(invocation, new IllegalStateException());
+
+        Measurement requests = observer.measurements.get(0);
+        assertEquals(requests.name, MetricsInvocationObserver.REQUESTS);
+        assertEquals(requests.tags.get("status"), "503");
+        assertEquals(requests.tags.get("outcome"), "SERVER_ERROR");
+        assertEquals(requests.tags.get("exception"), "IllegalStateException");
+    }
+
+    @Test
+    public void testFailedInvocationWithoutResponse() {
+        RecordingObserver observer = new RecordingObserver();
+        Invocation invocation = new Invocation(0);
+
+        observer.onStart(invocation);
+        observer.onFailed(invocation, new ConnectException());
+
+        assertEquals(observer.names(), List.of(MetricsInvocationObserver.REQUESTS));
+        Measurement requests = observer.measurements.get(0);
+        assertEquals(requests.tags.get("status"), "NONE");
+        assertEquals(requests.tags.get("outcome"), "UNKNOWN");
+        assertEquals(requests.tags.get("exception"), "ConnectException");
+    }
+
+    @Test
+    public void testOutcome() {
+        assertEquals(MetricsInvocationObserver.outcome(101), "INFORMATIONAL");
+        assertEquals(MetricsInvocationObserver.outcome(204), "SUCCESS");
+        assertEquals(MetricsInvocationObserver.outcome(304), "REDIRECTION");
+        assertEquals(MetricsInvocationObserver.outcome(404), "CLIENT_ERROR");
+        assertEquals(MetricsInvocationObserver.outcome(500), "SERVER_ERROR");
+        assertEquals(MetricsInvocationObserver.outcome(-1), "UNKNOWN");
+        assertEquals(MetricsInvocationObserver.outcome(999), "UNKNOWN");
+    }
+
+    @Test
+    public void testAdditionalTags() {
+        RecordingObserver observer = new RecordingObserver() {
+            @Override
+            protected Map<String, String> tags(ObservedInvocation invocation) {
+                Map<String, String> tags = super.tags(invocation);
+                tags.put("region", "eu");
+                return tags;
+            }
+        };
+        Invocation invocation = new Invocation(0);
+
+        observer.onConnectionAcquired(invocation);
+        invocation.status = 200;
+        observer.onCompleted(invocation);
+
+        assertEquals(observer.measurements.get(0).tags.get("region"), "eu");
+        assertEquals(observer.measurements.get(1).tags.get("region"), "eu");
+    }
+
+    private static class Measurement {
+        private final String name;
+        private final Map<String, String> tags;
+        private final long value;
+
+        Measurement(String name, Map<String, String> tags, long value) {
+            this.name = name;
+            this.tags = tags;
+            this.value = value;
+        }
+    }
+
+    private static class RecordingObserver extends MetricsInvocationObserver {
+        private final List<Measurement> measurements = new ArrayList<>();
+
+        @Override
+        protected void recordTimer(String name, Map<String, String> tags, long durationNanos) {
+            measurements.add(new Measurement(name, new LinkedHashMap<>(tags), durationNanos));
+        }
+
+        @Override
+        protected void recordSize(String name, Map<String, String> tags, long bytes) {
+            measurements.add(new Measurement(name, new LinkedHashMap<>(tags), bytes));
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            measurements.forEach(m -> names.add(m.name));
+            return names;
+        }
+    }
+
+    private static class Invocation implements ObservedInvocation {
+        private final long startNanos;
+        private final Map<String, Object> properties = new HashMap<>();
+        private int status = -1;
+        private long requestBytes = -1;
+        private long responseBytes = -1;
+
+        Invocation(long elapsedNanos) {
+            this.startNanos = System.nanoTime() - elapsedNanos;
+        }
+
+        @Override
+        public Class<?> getClientInterface() {
+            return UserClient.class;
+        }
+
+        @Override
+        public Method getMethod() {
+            return null;
+        }
+
+        @Override
+        public String getHttpMethod() {
+            return "GET";
+        }
+
+        @Override
+        public String getTemplatePath() {
+            return "/users/{id}";
+        }
+
+        @Override
+        public URI getUri() {
+            return URI.create("http://localhost/users/1");
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public long getRequestBytes() {
+            return requestBytes;
+        }
+
+        @Override
+        public long getResponseBytes() {
+            return responseBytes;
+        }
+
+        @Override
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            return properties.get(name);
+        }
+
+        @Override
+        public void setProperty(String name, Object value) {
+            properties.put(name, value);
+        }
+    }
+}
@@ -31,8 +31,15 @@ import org.eclipse.microprofile.config.spi.Converter;
 
 public class MockConfigProviderResolver extends ConfigProviderResolver {
 
+    // like real MP Config implementations, return the same Config instance on each call
+    private final Config config = createConfig();
+
     @Override
     public Config getConfig() {
+        return config;
+    }
+
+    private static Config createConfig() {
         return new Config() {
             @Override
             @SuppressWarnings("unchecked")
@@ -54,6 +54,37 @@ public class ResponseExceptionMapperTest {
         assertEquals(ENTITY_CODER, mapper.getPriority());
     }
 
+    @Test
+    public void testHandlesWithHandlesStatus() {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+        final HandlesStatusResponseExceptionMapper mapper = new HandlesStatusResponseExceptionMapper();
+        assertTrue(mapper.handles(404, headers));
+        assertTrue(mapper.handles(409, headers));
+        assertTrue(mapper.handles(500, headers));
+        assertTrue(mapper.handles(599, headers));
+        assertFalse(mapper.handles(200, headers));
+        assertFalse(mapper.handles(400, headers));
+        assertFalse(mapper.handles(600, headers));
+    }
+
+    @Test
+    public void testHandlesWithEmptyRange() {
+        final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+        final EmptyRangeResponseExceptionMapper mapper = new EmptyRangeResponseExceptionMapper();
+        assertFalse(mapper.handles(400, headers));
+        assertFalse(mapper.handles(450, headers));
+        assertFalse(mapper.handles(500, headers));
+    }
+
+    @Test
+    public void testGetPriorityWithHandlesStatus() {
+        final HandlesStatusResponseExceptionMapper mapper = new HandlesStatusResponseExceptionMapper();
+        assertEquals(ENTITY_CODER, mapper.getPriority());
+        assertEquals(ENTITY_CODER, new HandlesStatusResponseExceptionMapper().getPriority());
+    }
+
     private static class DummyResponseExceptionMapper implements ResponseExceptionMapper<WebApplicationException> {
         @Override
         public WebApplicationException toThrowable(Response response) {
@@ -68,4 +99,23 @@ public class ResponseExceptionMapperTest {
             return new WebApplicationException(response);
         }
     }
+
+    @Priority(ENTITY_CODER)
+    @HandlesStatus(value = {409, 404}, ranges = @HandlesStatus.Range(from = 500, to = 599))
+    private static class HandlesStatusResponseExceptionMapper
+            implements
+                ResponseExceptionMapper<WebApplicationException> {
+        @Override
+        public WebApplicationException toThrowable(Response response) {
+            return new WebApplicationException(response);
+        }
+    }
+
+    @HandlesStatus(ranges = @HandlesStatus.Range(from = 500, to = 400))
+    private static class EmptyRangeResponseExceptionMapper implements ResponseExceptionMapper<WebApplicationException> {
+        @Override
+        public WebApplicationException toThrowable(Response response) {
+            return new WebApplicationException(response);
+        }
+    }
 }
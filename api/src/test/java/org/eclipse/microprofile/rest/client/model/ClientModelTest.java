@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.model;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.testng.annotations.Test;
+
+public class ClientModelTest {
+
+    private static ClientModel sampleModel() {
+        return ClientModel.builder(SampleClient.class.getName())
+                .path("/root")
+                .configKey("sample")
+                .produces("application/json")
+                .provider(new ProviderModel("org.example.SampleFilter", -1))
+                .header(new HeaderModel("Interface-Header", Collections.singletonList("{computeHeader}"), false,
+                        SampleClient.class.getName(), "computeHeader",
+                        Collections.singletonList(String.class.getTypeName()), ClientHeaderParam.Scope.PER_CLIENT,
+                        60000))
+                .method(MethodModel.builder("get")
+                        .returnType(String.class.getTypeName())
+                        .httpMethod("GET")
+                        .path("/{id}")
+                        .header(new HeaderModel("Method-Header", Arrays.asList(" leading space", "caf\u00e9 \\ 1"),
+                                true, null, null, Collections.emptyList(), ClientHeaderParam.Scope.PER_INVOCATION,
+                                -1))
+                        .parameter(new ParameterModel(String.class.getTypeName(), ParameterModel.Kind.PATH, "id",
+                                null))
+                        .parameter(new ParameterModel(int.class.getTypeName(), ParameterModel.Kind.QUERY, "size",
+                                "10"))
+                        .parameter(new ParameterModel(String[].class.getTypeName(), ParameterModel.Kind.ENTITY, null,
+                                null))
+                        .build())
+                .build();
+    }
+
+    private static byte[] write(ClientModel model) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        model.write(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        ClientModel model = sampleModel();
+        Optional<ClientModel> read = ClientModel.read(new ByteArrayInputStream(write(model)));
+
+        assertTrue(read.isPresent());
+        assertEquals(read.get(), model);
+        assertEquals(read.get().getMethods().get(0).getHeaders().get(0).getValues(),
+                Arrays.asList(" leading space", "caf\u00e9 \\ 1"));
+    }
+
+    @Test
+    public void testOutputIsReproducible() throws IOException {
+        assertEquals(write(sampleModel()), write(sampleModel()));
+    }
+
+    @Test
+    public void testUnsupportedVersionIsIgnored() throws IOException {
+        String content = "version=" + (ClientModel.FORMAT_VERSION + 1) + "\ninterface=org.example.Client\n";
+        Optional<ClientModel> read = ClientModel.read(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertFalse(read.isPresent());
+    }
+
+    @Test
+    public void testLoad() {
+        Optional<ClientModel> model = ClientModel.load(SampleClient.class);
+
+        assertTrue(model.isPresent());
+        assertEquals(model.get(), sampleModel());
+    }
+
+    @Test
+    public void testLoadWithoutModel() {
+        assertFalse(ClientModel.load(ClientModelTest.class).isPresent());
+    }
+
+    public interface SampleClient {
+        String get(String id, int size, String[] body);
+
+        default String computeHeader(String headerName) {
+            return headerName;
+        }
+    }
+}
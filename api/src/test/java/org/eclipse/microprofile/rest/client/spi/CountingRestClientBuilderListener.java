@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.spi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+
+/**
+ * A listener counting how many times it is loaded and notified
+ */
+public class CountingRestClientBuilderListener implements RestClientBuilderListener {
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+    public static final AtomicInteger NOTIFICATIONS = new AtomicInteger();
+
+    public CountingRestClientBuilderListener() {
+        INSTANCES.incrementAndGet();
+    }
+
+    @Override
+    public void onNewBuilder(RestClientBuilder builder) {
+        NOTIFICATIONS.incrementAndGet();
+    }
+
+    public static void reset() {
+        INSTANCES.set(0);
+        NOTIFICATIONS.set(0);
+    }
+}
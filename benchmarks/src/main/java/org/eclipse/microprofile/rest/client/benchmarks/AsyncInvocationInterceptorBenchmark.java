@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.benchmarks;
+
+import static org.eclipse.microprofile.rest.client.benchmarks.ClientInvocationBenchmark.BASE_URI;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.AsyncInvocationInterceptor;
+import org.eclipse.microprofile.rest.client.ext.AsyncInvocationInterceptorFactory;
+import org.eclipse.microprofile.rest.client.ext.StatelessAsyncInvocationInterceptor;
+import org.eclipse.microprofile.rest.client.tck.interfaces.StringResponseClientAsync;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWith200RequestFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares propagating a <code>ThreadLocal</code> value to the async thread of <code>StringResponseClientAsync</code>
+ * invocations with <code>AsyncInvocationInterceptorFactory</code> providers, which create an interceptor per
+ * invocation, and with <code>StatelessAsyncInvocationInterceptor</code> providers, which pass a shared snapshot. The
+ * number of registered propagators is the <code>propagators</code> parameter.
+ * <p>
+ * Each invocation is sampled and reported in microseconds, so that the extra work done per propagator shows in the
+ * percentiles as well as in the mean. Run with <code>-prof gc</code> to compare the allocation per invocation.
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncInvocationInterceptorBenchmark {
+
+    private static final ThreadLocal<String> CONTEXT = ThreadLocal.withInitial(() -> "benchmark");
+
+    // A provider class is only registered once per client, so every propagator needs a class of its own
+    private static final AsyncInvocationInterceptorFactory[] FACTORIES = {
+            new ContextInterceptorFactory() {
+            },
+            new ContextInterceptorFactory() {
+            },
+            new ContextInterceptorFactory() {
+            },
+            new ContextInterceptorFactory() {
+            }
+    };
+    private static final StatelessAsyncInvocationInterceptor<?>[] STATELESS_INTERCEPTORS = {
+            new StatelessContextInterceptor() {
+            },
+            new StatelessContextInterceptor() {
+            },
+            new StatelessContextInterceptor() {
+            },
+            new StatelessContextInterceptor() {
+            }
+    };
+
+    @Param({"1", "4"})
+    int propagators;
+
+    private StringResponseClientAsync interceptorFactoryClient;
+    private StringResponseClientAsync statelessInterceptorClient;
+
+    @Setup
+    public void setup() {
+        RestClientBuilder interceptorFactoryBuilder = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class);
+        RestClientBuilder statelessInterceptorBuilder = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class);
+        for (int i = 0; i < propagators; i++) {
+            interceptorFactoryBuilder.register(FACTORIES[i]);
+            statelessInterceptorBuilder.register(STATELESS_INTERCEPTORS[i]);
+        }
+        interceptorFactoryClient = interceptorFactoryBuilder.build(StringResponseClientAsync.class);
+        statelessInterceptorClient = statelessInterceptorBuilder.build(StringResponseClientAsync.class);
+    }
+
+    @Benchmark
+    public String interceptorFactories() throws Exception {
+        return interceptorFactoryClient.get().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public String statelessInterceptors() throws Exception {
+        return statelessInterceptorClient.get().toCompletableFuture().get();
+    }
+
+    static class ContextInterceptorFactory implements AsyncInvocationInterceptorFactory {
+
+        @Override
+        public AsyncInvocationInterceptor newInterceptor() {
+            return new ContextInterceptor();
+        }
+    }
+
+    static class ContextInterceptor implements AsyncInvocationInterceptor {
+
+        private volatile String context;
+
+        @Override
+        public void prepareContext() {
+            context = CONTEXT.get();
+        }
+
+        @Override
+        public void applyContext() {
+            CONTEXT.set(context);
+        }
+
+        @Override
+        public void removeContext() {
+            CONTEXT.remove();
+        }
+    }
+
+    static class StatelessContextInterceptor implements StatelessAsyncInvocationInterceptor<String> {
+
+        @Override
+        public String prepareContext() {
+            return CONTEXT.get();
+        }
+
+        @Override
+        public void applyContext(String snapshot) {
+            CONTEXT.set(snapshot);
+        }
+
+        @Override
+        public void removeContext(String snapshot) {
+            CONTEXT.remove();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.interfaces.ClientHeaderParamClient;
+import org.eclipse.microprofile.rest.client.tck.interfaces.JsonPClient;
+import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.eclipse.microprofile.rest.client.tck.interfaces.StringResponseClientAsync;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWith200RequestFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Measures the client-side cost of invoking a Rest Client interface method: proxy dispatch, header computation, request
+ * and response filter chains and entity handling. Every client registers a filter that aborts the request with a canned
+ * response, so no network I/O takes place.
+ * <p>
+ * Throughput is reported in operations per second. {@link ClientInvocationLatencyBenchmark} runs the same benchmarks in
+ * the <code>SampleTime</code> mode to report the latency distribution. Run with <code>-prof gc</code> to report the
+ * allocation per invocation.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientInvocationBenchmark {
+
+    static final URI BASE_URI = URI.create("http://localhost:8080/benchmark");
+
+    private SimpleGetApi simpleGetApi;
+    private JsonPClient jsonPClient;
+    private ClientHeaderParamClient clientHeaderParamClient;
+    private StringResponseClientAsync stringResponseClientAsync;
+
+    @Setup
+    public void setup() {
+        simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class)
+                .build(SimpleGetApi.class);
+        jsonPClient = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWithJsonObjectRequestFilter.class)
+                .build(JsonPClient.class);
+        clientHeaderParamClient = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class)
+                .build(ClientHeaderParamClient.class);
+        stringResponseClientAsync = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class)
+                .build(StringResponseClientAsync.class);
+    }
+
+    @Benchmark
+    public int simpleGet() {
+        try (Response response = simpleGetApi.executeGet()) {
+            return response.getStatus();
+        }
+    }
+
+    @Benchmark
+    public JsonObject jsonPGetWithPathParam() {
+        return jsonPClient.get("1");
+    }
+
+    @Benchmark
+    public String explicitClientHeaderParams() {
+        return clientHeaderParamClient.methodExplicit();
+    }
+
+    @Benchmark
+    public String computedClientHeaderParams() {
+        return clientHeaderParamClient.methodComputed();
+    }
+
+    @Benchmark
+    public String computedClientHeaderParamsFromOtherClass() {
+        return clientHeaderParamClient.methodComputeMultiValuedHeaderFromOtherClass();
+    }
+
+    @Benchmark
+    public String asyncGet() throws Exception {
+        return stringResponseClientAsync.get().toCompletableFuture().get();
+    }
+}
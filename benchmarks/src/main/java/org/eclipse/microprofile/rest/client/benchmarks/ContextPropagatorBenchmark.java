@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.benchmarks;
+
+import static org.eclipse.microprofile.rest.client.benchmarks.ClientInvocationBenchmark.BASE_URI;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.ContextPropagator;
+import org.eclipse.microprofile.rest.client.tck.interfaces.StringResponseClientAsync;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWith200RequestFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the per invocation overhead of a <code>ContextPropagator</code>, by comparing
+ * <code>StringResponseClientAsync</code> invocations without one and with one that propagates a
+ * <code>ThreadLocal</code> value to the async thread.
+ * <p>
+ * Each invocation is sampled and reported in microseconds, like {@link AsyncInvocationInterceptorBenchmark}, so the two
+ * ways of propagating context can be compared.
+ * </p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextPropagatorBenchmark {
+
+    private static final ThreadLocal<String> CONTEXT = ThreadLocal.withInitial(() -> "benchmark");
+
+    private StringResponseClientAsync plainClient;
+    private StringResponseClientAsync propagatingClient;
+
+    @Setup
+    public void setup() {
+        plainClient = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class)
+                .build(StringResponseClientAsync.class);
+        propagatingClient = RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .register(ReturnWith200RequestFilter.class)
+                .contextPropagator(new ThreadLocalPropagator())
+                .build(StringResponseClientAsync.class);
+    }
+
+    @Benchmark
+    public String withoutContextPropagator() throws Exception {
+        return plainClient.get().toCompletableFuture().get();
+    }
+
+    @Benchmark
+    public String withContextPropagator() throws Exception {
+        return propagatingClient.get().toCompletableFuture().get();
+    }
+
+    static class ThreadLocalPropagator implements ContextPropagator {
+
+        @Override
+        public Executor captureContext() {
+            String context = CONTEXT.get();
+            return task -> {
+                String previous = CONTEXT.get();
+                CONTEXT.set(context);
+                try {
+                    task.run();
+                } finally {
+                    CONTEXT.set(previous);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.ext.DefaultClientHeadersFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * Measures {@link DefaultClientHeadersFactoryImpl#update(MultivaluedMap, MultivaluedMap)} as invoked for each outbound
+ * request. Run with <code>-prof gc</code>: with nothing to propagate, <code>gc.alloc.rate.norm</code> is expected to be
+ * zero bytes per operation once warmed up.
+ * <p>
+ * The <code>org.eclipse.microprofile.rest.client.propagateHeaders</code> property is set as a system property, so it is
+ * only seen if a MicroProfile Config implementation is on the classpath - usually along with the Rest Client
+ * implementation. Without one, every case measures the path with nothing to propagate.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultClientHeadersFactoryBenchmark {
+
+    @Param({"", "Not-Present", "Authorization,Favorite-Color"})
+    public String propagateHeaders;
+
+    private DefaultClientHeadersFactoryImpl factory;
+    private MultivaluedMap<String, String> incomingHeaders;
+    private MultivaluedMap<String, String> clientOutgoingHeaders;
+
+    @Setup
+    public void setup() {
+        if (propagateHeaders.isEmpty()) {
+            System.clearProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY);
+        } else {
+            System.setProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, propagateHeaders);
+        }
+        factory = new DefaultClientHeadersFactoryImpl();
+
+        incomingHeaders = new MultivaluedHashMap<>();
+        incomingHeaders.putSingle("Authorization", "Basic xyz123");
+        incomingHeaders.putSingle("Content-Type", "application/json");
+        incomingHeaders.putSingle("Accept", "application/json");
+        incomingHeaders.putSingle("Favorite-Color", "blue");
+
+        clientOutgoingHeaders = new MultivaluedHashMap<>();
+        clientOutgoingHeaders.putSingle("Custom-Header", "my custom value");
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY);
+    }
+
+    @Benchmark
+    public MultivaluedMap<String, String> update() {
+        return factory.update(incomingHeaders, clientOutgoingHeaders);
+    }
+}
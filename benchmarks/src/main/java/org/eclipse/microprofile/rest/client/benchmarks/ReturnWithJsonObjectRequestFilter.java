@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.benchmarks;
+
+import java.io.IOException;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Like the TCK's <code>ReturnWith200RequestFilter</code>, short-circuits every request - but with a JSON entity, so
+ * that it can be used with clients returning JSON-P types.
+ */
+public class ReturnWithJsonObjectRequestFilter implements ClientRequestFilter {
+
+    private static final JsonObject ENTITY = Json.createObjectBuilder()
+            .add("id", "1")
+            .add("content", true)
+            .build();
+
+    @Override
+    public void filter(ClientRequestContext clientRequestContext) throws IOException {
+        clientRequestContext.abortWith(Response.ok(ENTITY, MediaType.APPLICATION_JSON_TYPE).build());
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.processor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.eclipse.microprofile.rest.client.model.ClientModel;
+import org.eclipse.microprofile.rest.client.model.HeaderModel;
+import org.eclipse.microprofile.rest.client.model.MethodModel;
+import org.eclipse.microprofile.rest.client.model.ParameterModel;
+import org.eclipse.microprofile.rest.client.model.ProviderModel;
+
+/**
+ * Generates the {@link ClientModel} of each interface annotated with
+ * {@link org.eclipse.microprofile.rest.client.inject.RegisterRestClient RegisterRestClient}, and of each interface
+ * listed by the {@value #INTERFACES_OPTION} option, and writes it to the class output as described by
+ * {@link ClientModel#resourceName(String)}.
+ * <p>
+ * Annotations are matched by name, so the processor does not need the Jakarta RESTful Web Services API on its own class
+ * path. The processor does not claim the annotations it processes.
+ */
+@SupportedAnnotationTypes(RestClientModelProcessor.REGISTER_REST_CLIENT)
+@SupportedOptions(RestClientModelProcessor.INTERFACES_OPTION)
+public class RestClientModelProcessor extends AbstractProcessor {
+
+    /**
+     * The processor option listing the canonical names, separated by commas, of further interfaces to generate the
+     * client model of, for interfaces used with the <code>RestClientBuilder</code> only and not annotated with
+     * <code>RegisterRestClient</code>.
+     */
+    public static final String INTERFACES_OPTION = "microprofile.rest.client.model.interfaces";
+
+    static final String REGISTER_REST_CLIENT = "org.eclipse.microprofile.rest.client.inject.RegisterRestClient";
+
+    private static final String ANNOTATION_PACKAGE = "org.eclipse.microprofile.rest.client.annotation.";
+    private static final String REGISTER_PROVIDER = ANNOTATION_PACKAGE + "RegisterProvider";
+    private static final String REGISTER_PROVIDERS = ANNOTATION_PACKAGE + "RegisterProviders";
+    private static final String REGISTER_CLIENT_HEADERS = ANNOTATION_PACKAGE + "RegisterClientHeaders";
+    private static final String CLIENT_HEADER_PARAM = ANNOTATION_PACKAGE + "ClientHeaderParam";
+    private static final String CLIENT_HEADER_PARAMS = ANNOTATION_PACKAGE + "ClientHeaderParams";
+
+    private static final String JAXRS_PACKAGE = "jakarta.ws.rs.";
+    private static final String PATH = JAXRS_PACKAGE + "Path";
+    private static final String CONSUMES = JAXRS_PACKAGE + "Consumes";
+    private static final String PRODUCES = JAXRS_PACKAGE + "Produces";
+    private static final String HTTP_METHOD = JAXRS_PACKAGE + "HttpMethod";
+    private static final String DEFAULT_VALUE = JAXRS_PACKAGE + "DefaultValue";
+    private static final String BEAN_PARAM = JAXRS_PACKAGE + "BeanParam";
+
+    private final Set<String> generated = new HashSet<>();
+    private boolean listedInterfacesGenerated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // the listed interfaces are generated even if no interface of the compilation is annotated
+        return !isInitialized() || listedInterfaces().isEmpty()
+                ? super.getSupportedAnnotationTypes()
+                : Collections.singleton("*");
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(REGISTER_REST_CLIENT)) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.INTERFACE) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        if (!listedInterfacesGenerated) {
+            listedInterfacesGenerated = true;
+            for (String name : listedInterfaces()) {
+                TypeElement clientInterface = processingEnv.getElementUtils().getTypeElement(name);
+                if (clientInterface == null || clientInterface.getKind() != ElementKind.INTERFACE) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            name + " listed by the " + INTERFACES_OPTION + " option is not an interface");
+                } else {
+                    generate(clientInterface);
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<String> listedInterfaces() {
+        List<String> names = new ArrayList<>();
+        String option = processingEnv.getOptions().get(INTERFACES_OPTION);
+        if (option != null) {
+            for (String name : option.split(",")) {
+                if (!name.trim().isEmpty()) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    private void generate(TypeElement clientInterface) {
+        if (!generated.add(binaryName(clientInterface))) {
+            // listed interfaces may also be annotated
+            return;
+        }
+        try {
+            write(clientInterface, model(clientInterface));
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unable to write the client model: " + e.getMessage(), clientInterface);
+        }
+    }
+
+    private void write(TypeElement clientInterface, ClientModel model) throws IOException {
+        FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                ClientModel.resourceName(model.getInterfaceName()), clientInterface);
+        try (OutputStream out = resource.openOutputStream()) {
+            model.write(out);
+        }
+    }
+
+    private ClientModel model(TypeElement clientInterface) {
+        AnnotationMirror registerRestClient = annotation(clientInterface, REGISTER_REST_CLIENT);
+        ClientModel.Builder builder = ClientModel.builder(binaryName(clientInterface))
+                .path(stringValue(annotation(clientInterface, PATH), "value"))
+                .baseUri(emptyToNull(stringValue(registerRestClient, "baseUri")))
+                .configKey(emptyToNull(stringValue(registerRestClient, "configKey")));
+        AnnotationMirror registerClientHeaders = annotation(clientInterface, REGISTER_CLIENT_HEADERS);
+        if (registerClientHeaders != null) {
+            builder.headersFactory(typeName((TypeMirror) value(registerClientHeaders, "value")));
+        }
+        stringValues(annotation(clientInterface, CONSUMES), "value").forEach(builder::consumes);
+        stringValues(annotation(clientInterface, PRODUCES), "value").forEach(builder::produces);
+        for (AnnotationMirror registerProvider : repeatable(clientInterface, REGISTER_PROVIDER, REGISTER_PROVIDERS)) {
+            builder.provider(new ProviderModel(typeName((TypeMirror) value(registerProvider, "value")),
+                    (Integer) value(registerProvider, "priority")));
+        }
+        headers(clientInterface, clientInterface).forEach(builder::header);
+
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(clientInterface))) {
+            if (method.getModifiers().contains(Modifier.ABSTRACT)
+                    && method.getEnclosingElement().getKind() == ElementKind.INTERFACE) {
+                methods.add(method);
+            }
+        }
+        methods.sort(Comparator.comparing(this::signature));
+        for (ExecutableElement method : methods) {
+            builder.method(method(clientInterface, method));
+        }
+        return builder.build();
+    }
+
+    private MethodModel method(TypeElement clientInterface, ExecutableElement method) {
+        MethodModel.Builder builder = MethodModel.builder(method.getSimpleName().toString())
+                .returnType(typeName(method.getReturnType()))
+                .httpMethod(httpMethod(method))
+                .path(stringValue(annotation(method, PATH), "value"));
+        stringValues(annotation(method, CONSUMES), "value").forEach(builder::consumes);
+        stringValues(annotation(method, PRODUCES), "value").forEach(builder::produces);
+        headers(clientInterface, method).forEach(builder::header);
+        for (VariableElement parameter : method.getParameters()) {
+            builder.parameter(parameter(parameter));
+        }
+        return builder.build();
+    }
+
+    private String httpMethod(ExecutableElement method) {
+        String httpMethod = null;
+        for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+            AnnotationMirror meta = annotation(annotation.getAnnotationType().asElement(), HTTP_METHOD);
+            if (meta == null) {
+                continue;
+            }
+            if (httpMethod != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Multiple HTTP method annotations are not allowed on a client interface method", method);
+            }
+            httpMethod = stringValue(meta, "value");
+        }
+        return httpMethod;
+    }
+
+    private ParameterModel parameter(VariableElement parameter) {
+        String type = typeName(parameter.asType());
+        String defaultValue = stringValue(annotation(parameter, DEFAULT_VALUE), "value");
+        if (annotation(parameter, BEAN_PARAM) != null) {
+            return new ParameterModel(type, ParameterModel.Kind.BEAN, null, defaultValue);
+        }
+        for (ParameterModel.Kind kind : ParameterModel.Kind.values()) {
+            AnnotationMirror annotation = annotation(parameter, JAXRS_PACKAGE + paramAnnotation(kind));
+            if (annotation != null) {
+                return new ParameterModel(type, kind, stringValue(annotation, "value"), defaultValue);
+            }
+        }
+        return new ParameterModel(type, ParameterModel.Kind.ENTITY, null, defaultValue);
+    }
+
+    private static String paramAnnotation(ParameterModel.Kind kind) {
+        String name = kind.name();
+        return name.charAt(0) + name.substring(1).toLowerCase() + "Param";
+    }
+
+    private List<HeaderModel> headers(TypeElement clientInterface, Element annotated) {
+        List<HeaderModel> headers = new ArrayList<>();
+        for (AnnotationMirror clientHeaderParam : repeatable(annotated, CLIENT_HEADER_PARAM, CLIENT_HEADER_PARAMS)) {
+            String name = stringValue(clientHeaderParam, "name");
+            List<String> values = stringValues(clientHeaderParam, "value");
+            boolean required = (Boolean) value(clientHeaderParam, "required");
+            ClientHeaderParam.Scope scope = ClientHeaderParam.Scope.valueOf(
+                    ((VariableElement) value(clientHeaderParam, "scope")).getSimpleName().toString());
+            long cacheFor = (Long) value(clientHeaderParam, "cacheFor");
+            ExecutableElement computeMethod = null;
+            if (values.size() == 1 && values.get(0).startsWith("{") && values.get(0).endsWith("}")) {
+                computeMethod = computeMethod(clientInterface, values.get(0));
+                if (computeMethod == null) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "Unable to resolve the compute method " + values.get(0) + " of the " + name
+                                    + " header, it will be resolved at runtime",
+                            annotated, clientHeaderParam);
+                }
+            }
+            if (computeMethod == null) {
+                headers.add(new HeaderModel(name, values, required, null, null, Collections.emptyList(), scope,
+                        cacheFor));
+            } else {
+                List<String> parameterTypes = new ArrayList<>();
+                for (VariableElement parameter : computeMethod.getParameters()) {
+                    parameterTypes.add(typeName(parameter.asType()));
+                }
+                headers.add(new HeaderModel(name, values, required,
+                        binaryName((TypeElement) computeMethod.getEnclosingElement()),
+                        computeMethod.getSimpleName().toString(), parameterTypes, scope, cacheFor));
+            }
+        }
+        return headers;
+    }
+
+    private ExecutableElement computeMethod(TypeElement clientInterface, String value) {
+        String reference = value.substring(1, value.length() - 1);
+        int lastDot = reference.lastIndexOf('.');
+        TypeElement owner = lastDot < 0
+                ? clientInterface
+                : processingEnv.getElementUtils().getTypeElement(reference.substring(0, lastDot));
+        if (owner == null) {
+            return null;
+        }
+        String methodName = reference.substring(lastDot + 1);
+        for (ExecutableElement method : ElementFilter.methodsIn(
+                processingEnv.getElementUtils().getAllMembers(owner))) {
+            if (!method.getSimpleName().contentEquals(methodName)) {
+                continue;
+            }
+            boolean invocable = lastDot < 0
+                    ? method.isDefault() || method.getModifiers().contains(Modifier.STATIC)
+                    : method.getModifiers().contains(Modifier.STATIC)
+                            && method.getModifiers().contains(Modifier.PUBLIC);
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (invocable && (parameters.isEmpty()
+                    || parameters.size() == 1 && typeName(parameters.get(0).asType()).equals("java.lang.String"))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private String signature(ExecutableElement method) {
+        StringBuilder signature = new StringBuilder(method.getSimpleName()).append('(');
+        for (VariableElement parameter : method.getParameters()) {
+            signature.append(typeName(parameter.asType())).append(',');
+        }
+        return signature.append(')').toString();
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Returns the name of the erasure of the given type, as returned by {@link Class#getTypeName()} at runtime.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return binaryName((TypeElement) processingEnv.getTypeUtils().asElement(erasure));
+        }
+        return erasure.toString();
+    }
+
+    private static AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static List<AnnotationMirror> repeatable(Element element, String annotationName, String containerName) {
+        List<AnnotationMirror> annotations = new ArrayList<>();
+        AnnotationMirror annotation = annotation(element, annotationName);
+        if (annotation != null) {
+            annotations.add(annotation);
+        }
+        AnnotationMirror container = annotation(element, containerName);
+        if (container != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : container.getElementValues()
+                    .entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    for (Object repeated : (List<?>) entry.getValue().getValue()) {
+                        annotations.add((AnnotationMirror) ((AnnotationValue) repeated).getValue());
+                    }
+                }
+            }
+        }
+        return annotations;
+    }
+
+    private Object value(AnnotationMirror annotation, String attribute) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+                .getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    private String stringValue(AnnotationMirror annotation, String attribute) {
+        return annotation == null ? null : (String) value(annotation, attribute);
+    }
+
+    private List<String> stringValues(AnnotationMirror annotation, String attribute) {
+        List<String> values = new ArrayList<>();
+        if (annotation != null) {
+            for (Object value : (List<?>) value(annotation, attribute)) {
+                values.add((String) ((AnnotationValue) value).getValue());
+            }
+        }
+        return values;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
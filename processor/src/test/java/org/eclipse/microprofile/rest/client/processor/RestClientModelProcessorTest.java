@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.processor;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.eclipse.microprofile.rest.client.model.ClientModel;
+import org.eclipse.microprofile.rest.client.model.HeaderModel;
+import org.eclipse.microprofile.rest.client.model.MethodModel;
+import org.eclipse.microprofile.rest.client.model.ParameterModel;
+import org.eclipse.microprofile.rest.client.model.ProviderModel;
+import org.testng.annotations.Test;
+
+public class RestClientModelProcessorTest {
+
+    private static final String SOURCE = String.join("\n",
+            "package org.example;",
+            "",
+            "import jakarta.ws.rs.*;",
+            "import org.eclipse.microprofile.rest.client.annotation.*;",
+            "import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;",
+            "",
+            "@RegisterRestClient(configKey = \"widgets\")",
+            "@RegisterProvider(value = WidgetClient.Filter.class, priority = 10)",
+            "@ClientHeaderParam(name = \"Interface-Header\", value = \"{computeHeader}\", required = false,",
+            "        scope = ClientHeaderParam.Scope.PER_CLIENT, cacheFor = 60000)",
+            "@Path(\"/widgets\")",
+            "@Produces(\"application/json\")",
+            "public interface WidgetClient {",
+            "    @GET",
+            "    @Path(\"/{id}\")",
+            "    @ClientHeaderParam(name = \"Method-Header\", value = {\"a\", \"b\"})",
+            "    String get(@PathParam(\"id\") String id, @QueryParam(\"size\") @DefaultValue(\"10\") int size);",
+            "",
+            "    @PUT",
+            "    void put(@HeaderParam(\"Version\") long version, String[] body);",
+            "",
+            "    default String computeHeader(String headerName) {",
+            "        return headerName;",
+            "    }",
+            "",
+            "    class Filter {",
+            "    }",
+            "}");
+
+    private static final String PLAIN_SOURCE = String.join("\n",
+            "package org.example;",
+            "",
+            "import jakarta.ws.rs.*;",
+            "",
+            "@Path(\"/plain\")",
+            "public interface PlainClient {",
+            "    @GET",
+            "    String get();",
+            "}");
+
+    private static Path compile(String interfaces, Source... sources) throws IOException {
+        Path output = Files.createTempDirectory("processor");
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = new ArrayList<>(Arrays.asList("-d", output.toString(),
+                "-classpath", System.getProperty("java.class.path")));
+        if (interfaces != null) {
+            options.add("-A" + RestClientModelProcessor.INTERFACES_OPTION + "=" + interfaces);
+        }
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new RestClientModelProcessor()));
+
+        assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        return output;
+    }
+
+    private static Optional<ClientModel> read(Path output, String interfaceName) throws IOException {
+        try (InputStream in = Files.newInputStream(output.resolve(ClientModel.resourceName(interfaceName)))) {
+            return ClientModel.read(in);
+        }
+    }
+
+    @Test
+    public void testModelIsGenerated() throws IOException {
+        Path output = compile(null, new Source("org/example/WidgetClient.java", SOURCE),
+                new Source("org/example/PlainClient.java", PLAIN_SOURCE));
+
+        Optional<ClientModel> model = read(output, "org.example.WidgetClient");
+        assertFalse(Files.exists(output.resolve(ClientModel.resourceName("org.example.PlainClient"))),
+                "A model was generated for an interface that is neither annotated nor listed");
+
+        ClientModel expected = ClientModel.builder("org.example.WidgetClient")
+                .path("/widgets")
+                .configKey("widgets")
+                .produces("application/json")
+                .provider(new ProviderModel("org.example.WidgetClient$Filter", 10))
+                .header(new HeaderModel("Interface-Header", Collections.singletonList("{computeHeader}"), false,
+                        "org.example.WidgetClient", "computeHeader", Collections.singletonList("java.lang.String"),
+                        ClientHeaderParam.Scope.PER_CLIENT, 60000))
+                .method(MethodModel.builder("get")
+                        .returnType("java.lang.String")
+                        .httpMethod("GET")
+                        .path("/{id}")
+                        .header(new HeaderModel("Method-Header", Arrays.asList("a", "b"), true, null, null,
+                                Collections.emptyList(), ClientHeaderParam.Scope.PER_INVOCATION, -1))
+                        .parameter(new ParameterModel("java.lang.String", ParameterModel.Kind.PATH, "id", null))
+                        .parameter(new ParameterModel("int", ParameterModel.Kind.QUERY, "size", "10"))
+                        .build())
+                .method(MethodModel.builder("put")
+                        .returnType("void")
+                        .httpMethod("PUT")
+                        .parameter(new ParameterModel("long", ParameterModel.Kind.HEADER, "Version", null))
+                        .parameter(new ParameterModel("java.lang.String[]", ParameterModel.Kind.ENTITY, null, null))
+                        .build())
+                .build();
+        assertEquals(model, Optional.of(expected));
+    }
+
+    @Test
+    public void testModelIsGeneratedForListedInterface() throws IOException {
+        Path output = compile("org.example.PlainClient, org.example.WidgetClient",
+                new Source("org/example/WidgetClient.java", SOURCE),
+                new Source("org/example/PlainClient.java", PLAIN_SOURCE));
+
+        ClientModel expected = ClientModel.builder("org.example.PlainClient")
+                .path("/plain")
+                .method(MethodModel.builder("get")
+                        .returnType("java.lang.String")
+                        .httpMethod("GET")
+                        .build())
+                .build();
+        assertEquals(read(output, "org.example.PlainClient"), Optional.of(expected));
+        assertTrue(read(output, "org.example.WidgetClient").isPresent());
+    }
+
+    @Test
+    public void testListedInterfaceMustExist() throws IOException {
+        Path output = Files.createTempDirectory("processor");
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = ToolProvider.getSystemJavaCompiler().getTask(null, null, diagnostics,
+                Arrays.asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path"),
+                        "-A" + RestClientModelProcessor.INTERFACES_OPTION + "=org.example.MissingClient"),
+                null, Collections.singletonList(new Source("org/example/PlainClient.java", PLAIN_SOURCE)));
+        task.setProcessors(Collections.singletonList(new RestClientModelProcessor()));
+
+        assertFalse(task.call(), "The compilation should fail for an unknown listed interface");
+        assertTrue(diagnostics.getDiagnostics().toString().contains("org.example.MissingClient"),
+                diagnostics.getDiagnostics().toString());
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String path, String content) {
+            super(URI.create("string:///" + path), JavaFileObject.Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
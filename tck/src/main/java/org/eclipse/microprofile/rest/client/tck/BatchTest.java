@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBatch;
+import org.eclipse.microprofile.rest.client.RestClientBatchException;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.HttpVersion;
+import org.eclipse.microprofile.rest.client.tck.interfaces.BatchClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies that a {@link RestClientBatch} runs the invocations of a Rest Client instance concurrently and returns their
+ * results in submission order.
+ */
+public class BatchTest extends WiremockArquillianTest {
+
+    private static final int CALLS = 20;
+    private static final int PARALLELISM = 10;
+    private static final int DELAY_MILLIS = 500;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, BatchTest.class.getSimpleName() + ".war")
+                .addClasses(BatchClient.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+        for (int i = 0; i < CALLS; i++) {
+            // later requests respond faster, so responses arrive out of submission order
+            stubFor(get(urlEqualTo("/batch/" + i)).willReturn(aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "text/plain")
+                    .withBody("result" + i)
+                    .withFixedDelay(DELAY_MILLIS - i * 10)));
+        }
+    }
+
+    private static BatchClient client(HttpVersion version) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .httpVersion(version)
+                .maxConnectionsPerHost(PARALLELISM)
+                .build(BatchClient.class);
+    }
+
+    private static List<String> executeBatch(BatchClient client) {
+        RestClientBatch<BatchClient, String> batch = RestClientBatch.of(client);
+        for (int i = 0; i < CALLS; i++) {
+            int id = i;
+            batch.submitAsync(c -> c.getAsync(id));
+        }
+        return batch.parallelism(PARALLELISM).execute();
+    }
+
+    private static void assertResultsInOrder(List<String> results) {
+        assertEquals(results.size(), CALLS);
+        for (int i = 0; i < CALLS; i++) {
+            assertEquals(results.get(i), "result" + i);
+        }
+        verify(CALLS, getRequestedFor(urlMatching("/batch/.*")));
+    }
+
+    @Test
+    public void testResultsInSubmissionOrder() {
+        long start = System.nanoTime();
+        List<String> results = executeBatch(client(HttpVersion.HTTP_1_1));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertResultsInOrder(results);
+        // sequential invocations would take about CALLS * DELAY_MILLIS
+        assertTrue(elapsed < CALLS * DELAY_MILLIS / 2,
+                "Expected the batch to run concurrently, but it took " + elapsed + " ms");
+    }
+
+    @Test
+    public void testResultsInSubmissionOrderOverHttp2() {
+        assertResultsInOrder(executeBatch(client(HttpVersion.HTTP_2)));
+    }
+
+    @Test
+    public void testBlockingInvocationsRunOnTheExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            BatchClient client = client(HttpVersion.HTTP_1_1);
+            RestClientBatch<BatchClient, String> batch = RestClientBatch.<BatchClient, String>of(client)
+                    .executor(executor);
+            for (int i = 0; i < CALLS; i++) {
+                int id = i;
+                batch.submit(c -> c.get(id));
+            }
+            long start = System.nanoTime();
+            List<String> results = batch.parallelism(PARALLELISM).execute();
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertResultsInOrder(results);
+            assertTrue(elapsed < CALLS * DELAY_MILLIS / 2,
+                    "Expected the batch to run concurrently, but it took " + elapsed + " ms");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedInvocation() {
+        stubFor(get(urlEqualTo("/batch/3")).willReturn(aResponse().withStatus(500)));
+        try {
+            executeBatch(client(HttpVersion.HTTP_1_1));
+            fail("Expected the batch to fail");
+        } catch (RestClientBatchException e) {
+            assertEquals(e.getFailures().size(), 1);
+            assertTrue(e.getCause() instanceof WebApplicationException, "Unexpected cause: " + e.getCause());
+            assertEquals(((WebApplicationException) e.getCause()).getResponse().getStatus(), 500);
+            assertTrue(e.getFailures().containsKey(3), "Unexpected failures: " + e.getFailures());
+        }
+        // the failure of one invocation does not prevent the others
+        verify(CALLS, getRequestedFor(urlMatching("/batch/.*")));
+    }
+}
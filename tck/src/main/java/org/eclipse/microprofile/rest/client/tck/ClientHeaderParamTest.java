@@ -28,6 +28,10 @@ import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.fail;
 
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
@@ -186,6 +190,66 @@ public class ClientHeaderParamTest extends WiremockArquillianTest {
                 "value1-value2");
     }
 
+    @Test
+    public void testPerInvocationComputeMethodInvokedForEachRequest() {
+        HeaderGenerator.resetTokens();
+        ClientHeaderParamClient client = client(ReturnWithAllClientHeadersFilter.class);
+
+        assertEquals(client.perInvocationToken().getString("Token"), "token1");
+        assertEquals(client.perInvocationToken().getString("Token"), "token2");
+        assertEquals(client.perInvocationToken().getString("Token"), "token3");
+        assertEquals(HeaderGenerator.generatedTokens(), 3);
+    }
+
+    @Test
+    public void testPerClientComputedValueReused() {
+        HeaderGenerator.resetTokens();
+        ClientHeaderParamClient client = client(ReturnWithAllClientHeadersFilter.class);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(client.perClientToken().getString("Token"), "token1");
+        }
+        assertEquals(HeaderGenerator.generatedTokens(), 1);
+
+        // each client instance has its own cache
+        assertEquals(client(ReturnWithAllClientHeadersFilter.class).perClientToken().getString("Token"), "token2");
+        assertEquals(HeaderGenerator.generatedTokens(), 2);
+    }
+
+    @Test
+    public void testPerClientComputedValueExpires() throws Exception {
+        HeaderGenerator.resetTokens();
+        ClientHeaderParamClient client = client(ReturnWithAllClientHeadersFilter.class);
+
+        assertEquals(client.perClientTokenWithTtl().getString("Token"), "token1");
+        assertEquals(client.perClientTokenWithTtl().getString("Token"), "token1");
+        assertEquals(HeaderGenerator.generatedTokens(), 1);
+
+        Thread.sleep(ClientHeaderParamClient.TOKEN_TTL + 500);
+        assertEquals(client.perClientTokenWithTtl().getString("Token"), "token2");
+        assertEquals(client.perClientTokenWithTtl().getString("Token"), "token2");
+        assertEquals(HeaderGenerator.generatedTokens(), 2);
+    }
+
+    @Test
+    public void testPerThreadComputedValueReusedOnSameThread() throws Exception {
+        HeaderGenerator.resetTokens();
+        ClientHeaderParamClient client = client(ReturnWithAllClientHeadersFilter.class);
+
+        assertEquals(client.perThreadToken().getString("Token"), "token1");
+        assertEquals(client.perThreadToken().getString("Token"), "token1");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> otherThread = executor.submit(() -> client.perThreadToken().getString("Token"));
+            assertEquals(otherThread.get(30, TimeUnit.SECONDS), "token2");
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(client.perThreadToken().getString("Token"), "token1");
+        assertEquals(HeaderGenerator.generatedTokens(), 2);
+    }
+
     @Test
     public void testMultivaluedHeaderInterfaceExplicit() {
         stub("InterfaceMultiValuedHeaderExplicit", "abc", "xyz");
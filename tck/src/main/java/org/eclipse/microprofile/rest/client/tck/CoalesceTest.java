@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.interfaces.CoalescingClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies that concurrent identical invocations of methods annotated with
+ * {@link org.eclipse.microprofile.rest.client.annotation.Coalesce} share a single request.
+ */
+public class CoalesceTest extends WiremockArquillianTest {
+
+    private static final int CALLERS = 10;
+    // long enough for every caller to be waiting on the first request
+    private static final int DELAY_MILLIS = 2000;
+
+    private static ExecutorService executor;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, CoalesceTest.class.getSimpleName() + ".war")
+                .addClasses(CoalescingClient.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeClass
+    public static void startExecutor() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterClass
+    public static void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+        stubFor(get(urlMatching("/coalesce/.*")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/octet-stream")
+                .withBody("payload".getBytes(StandardCharsets.UTF_8))
+                .withFixedDelay(DELAY_MILLIS)));
+    }
+
+    private static CoalescingClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .build(CoalescingClient.class);
+    }
+
+    /*
+     * Invokes the given call from CALLERS threads at once, and returns the results in caller order.
+     */
+    private static <T> List<T> concurrently(IntFunction<T> call) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(CALLERS);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            int caller = i;
+            Callable<T> task = () -> {
+                barrier.await(30, TimeUnit.SECONDS);
+                return call.apply(caller);
+            };
+            futures.add(executor.submit(task));
+        }
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    @Test
+    public void testConcurrentCallsShareOneRequest() throws Exception {
+        CoalescingClient client = client();
+
+        List<byte[]> results = concurrently(caller -> client.get("1"));
+
+        for (byte[] result : results) {
+            assertEquals(new String(result, StandardCharsets.UTF_8), "payload");
+            assertSame(result, results.get(0), "Coalesced invocations should share the same result by default");
+        }
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testCopyDelivery() throws Exception {
+        CoalescingClient client = client();
+
+        List<byte[]> results = concurrently(caller -> client.getCopy("1"));
+
+        for (int i = 1; i < results.size(); i++) {
+            assertEquals(results.get(i), results.get(0));
+            assertNotSame(results.get(i), results.get(0), "Each invocation should get its own copy of the result");
+        }
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testConcurrentAsyncCallsShareOneRequest() throws Exception {
+        CoalescingClient client = client();
+
+        List<CompletionStage<byte[]>> stages = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            stages.add(client.getAsync("1"));
+        }
+        for (CompletionStage<byte[]> stage : stages) {
+            byte[] result = stage.toCompletableFuture().get(60, TimeUnit.SECONDS);
+            assertEquals(new String(result, StandardCharsets.UTF_8), "payload");
+        }
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testCancellingOneAsyncCallDoesNotCancelSharedRequest() throws Exception {
+        CoalescingClient client = client();
+
+        CompletableFuture<byte[]> cancelled = client.getAsync("1").toCompletableFuture();
+        CompletableFuture<byte[]> other = client.getAsync("1").toCompletableFuture();
+        cancelled.cancel(true);
+
+        assertEquals(new String(other.get(60, TimeUnit.SECONDS), StandardCharsets.UTF_8), "payload");
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testDifferentUrisNotCoalesced() throws Exception {
+        CoalescingClient client = client();
+
+        concurrently(caller -> client.get(String.valueOf(caller % 2)));
+
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/0")));
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testDifferentHeadersNotCoalesced() throws Exception {
+        CoalescingClient client = client();
+
+        concurrently(caller -> client.getWithHeaders("1", "tenant" + caller % 2, "request" + caller));
+
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")).withHeader("X-Tenant", equalTo("tenant0")));
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/1")).withHeader("X-Tenant", equalTo("tenant1")));
+    }
+
+    @Test
+    public void testMethodWithoutAnnotationNotCoalesced() throws Exception {
+        CoalescingClient client = client();
+
+        concurrently(caller -> client.getNotCoalesced("1"));
+
+        verify(CALLERS, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testCompletedRequestNotReused() {
+        CoalescingClient client = client();
+
+        client.get("1");
+        client.get("1");
+
+        verify(2, getRequestedFor(urlEqualTo("/coalesce/1")));
+    }
+
+    @Test
+    public void testFailureDeliveredToEveryCaller() throws Exception {
+        stubFor(get(urlEqualTo("/coalesce/error")).willReturn(aResponse()
+                .withStatus(500)
+                .withFixedDelay(DELAY_MILLIS)));
+        CoalescingClient client = client();
+
+        List<WebApplicationException> failures = concurrently(caller -> {
+            try {
+                client.get("error");
+                return null;
+            } catch (WebApplicationException expected) {
+                return expected;
+            }
+        });
+
+        for (WebApplicationException failure : failures) {
+            if (failure == null) {
+                fail("Every coalesced invocation should throw the exception of the shared request");
+            }
+            assertEquals(failure.getResponse().getStatus(), 500);
+        }
+        verify(1, getRequestedFor(urlEqualTo("/coalesce/error")));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.interfaces.CompressionClient;
+import org.eclipse.microprofile.rest.client.tck.streaming.Payloads;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Verifies the negotiation and transparent decoding of compressed responses, and the compression of request bodies.
+ * <p>
+ * The large response decompresses to {@value #DEFAULT_SIZE} bytes by default, which can be changed with the
+ * {@code compression.size} system property. The TCK should be run with a maximum heap smaller than this size, so that
+ * an implementation buffering the decoded body fails with an {@link OutOfMemoryError}.
+ */
+public class CompressionTest extends WiremockArquillianTest {
+
+    private static final long DEFAULT_SIZE = 512L * 1024 * 1024;
+    private static final long SIZE = Long.getLong("compression.size", DEFAULT_SIZE);
+    private static final String TEXT = "The quick brown fox jumps over the lazy dog. ".repeat(100);
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, CompressionTest.class.getSimpleName() + ".war")
+                .addClasses(CompressionClient.class,
+                        Payloads.class,
+                        Payloads.Digest.class,
+                        WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static CompressionClient client(String... encodings) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .compression(encodings)
+                .compressionThreshold(128)
+                .build(CompressionClient.class);
+    }
+
+    @Test
+    public void testAcceptEncodingSent() {
+        stubFor(get(urlEqualTo("/compression/text")).willReturn(aResponse().withBody(TEXT)));
+
+        assertEquals(client("gzip", "deflate").text(), TEXT);
+
+        verify(1, getRequestedFor(urlEqualTo("/compression/text"))
+                .withHeader("Accept-Encoding", matching("(?i).*gzip.*deflate.*")));
+    }
+
+    @Test
+    public void testGzipResponseDecoded() throws IOException {
+        stubFor(get(urlEqualTo("/compression/text")).willReturn(aResponse()
+                .withHeader(CONTENT_ENCODING, "gzip")
+                .withBody(gzip(TEXT.getBytes(StandardCharsets.UTF_8)))));
+
+        assertEquals(client("gzip", "deflate").text(), TEXT);
+    }
+
+    @Test
+    public void testDeflateResponseDecoded() throws IOException {
+        stubFor(get(urlEqualTo("/compression/text")).willReturn(aResponse()
+                .withHeader(CONTENT_ENCODING, "deflate")
+                .withBody(deflate(TEXT.getBytes(StandardCharsets.UTF_8)))));
+
+        assertEquals(client("gzip", "deflate").text(), TEXT);
+    }
+
+    @Test
+    public void testDecodedResponseHasNoContentEncoding() throws IOException {
+        stubFor(get(urlEqualTo("/compression/text")).willReturn(aResponse()
+                .withHeader(CONTENT_ENCODING, "gzip")
+                .withBody(gzip(TEXT.getBytes(StandardCharsets.UTF_8)))));
+
+        try (Response response = client("gzip").textResponse()) {
+            assertEquals(response.getStatus(), 200);
+            assertNull(response.getHeaderString(CONTENT_ENCODING),
+                    "The Content-Encoding header should be removed from a decoded response");
+            assertEquals(response.readEntity(String.class), TEXT);
+        }
+    }
+
+    @Test
+    public void testLargeResponseDecodedWhileStreaming() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed, 64 * 1024)) {
+            Payloads.inputStream(SIZE, position -> {
+            }).transferTo(out);
+        }
+        stubFor(get(urlEqualTo("/compression/large")).willReturn(aResponse()
+                .withHeader(CONTENT_ENCODING, "gzip")
+                .withBody(compressed.toByteArray())));
+
+        Payloads.Digest digest = new Payloads.Digest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = client("gzip").large()) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        assertEquals(digest.size(), SIZE, "Unexpected size of the decoded body");
+        assertEquals(digest.checksum(), Payloads.checksum(SIZE), "Unexpected content of the decoded body");
+    }
+
+    @Test
+    public void testRequestBodyCompressed() {
+        stubFor(post(urlEqualTo("/compression/upload")).willReturn(aResponse().withStatus(204)));
+
+        try (Response response = client("gzip", "deflate").upload(TEXT)) {
+            assertEquals(response.getStatus(), 204);
+        }
+
+        // WireMock decodes gzip request bodies before matching them
+        verify(1, postRequestedFor(urlEqualTo("/compression/upload"))
+                .withHeader(CONTENT_ENCODING, equalTo("gzip"))
+                .withRequestBody(equalTo(TEXT)));
+    }
+
+    @Test
+    public void testRequestBodyCompressedWithAnnotatedEncoding() throws IOException {
+        stubFor(post(urlEqualTo("/compression/upload")).willReturn(aResponse().withStatus(204)));
+
+        try (Response response = client("gzip").uploadDeflate(TEXT)) {
+            assertEquals(response.getStatus(), 204);
+        }
+
+        List<LoggedRequest> requests = findAll(postRequestedFor(urlEqualTo("/compression/upload"))
+                .withHeader(CONTENT_ENCODING, equalTo("deflate")));
+        assertEquals(requests.size(), 1, "Expected one request with a deflate Content-Encoding");
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(requests.get(0).getBody()))) {
+            assertEquals(new String(in.readAllBytes(), StandardCharsets.UTF_8), TEXT);
+        }
+    }
+
+    @Test
+    public void testSmallRequestBodyNotCompressed() {
+        stubFor(post(urlEqualTo("/compression/upload")).willReturn(aResponse().withStatus(204)));
+        String body = "small";
+
+        try (Response response = client("gzip").upload(body)) {
+            assertEquals(response.getStatus(), 204);
+        }
+
+        verify(1, postRequestedFor(urlEqualTo("/compression/upload"))
+                .withHeader(CONTENT_ENCODING, absent())
+                .withRequestBody(equalTo(body)));
+    }
+
+    @Test
+    public void testRequestBodyNotCompressedWithoutAnnotation() {
+        stubFor(post(urlEqualTo("/compression/upload")).willReturn(aResponse().withStatus(204)));
+
+        try (Response response = client("gzip").uploadUncompressed(TEXT)) {
+            assertEquals(response.getStatus(), 204);
+        }
+
+        verify(1, postRequestedFor(urlEqualTo("/compression/upload"))
+                .withHeader(CONTENT_ENCODING, absent())
+                .withRequestBody(equalTo(TEXT)));
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(content);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] content) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream out = new DeflaterOutputStream(compressed)) {
+            out.write(content);
+        }
+        return compressed.toByteArray();
+    }
+}
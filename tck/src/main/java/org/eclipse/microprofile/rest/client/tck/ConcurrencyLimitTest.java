@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.ConcurrencyLimitExceededException;
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.ConcurrencyLimit;
+import org.eclipse.microprofile.rest.client.tck.interfaces.ConcurrencyLimitedClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies that requests exceeding the concurrency limit of a client instance fail fast, and that the adaptive
+ * algorithms lower the limit when the server is overloaded and raise it again once the server recovers.
+ */
+public class ConcurrencyLimitTest extends WiremockArquillianTest {
+
+    private static final int SLOW_MILLIS = 1000;
+    private static final int NORMAL_MILLIS = 100;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, ConcurrencyLimitTest.class.getSimpleName() + ".war")
+                .addClasses(ConcurrencyLimitedClient.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static void respondAfter(int delayMillis) {
+        stubFor(get(urlEqualTo("/limited")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/plain")
+                .withBody("ok")
+                .withFixedDelay(delayMillis)));
+    }
+
+    private static void respondWith(int status) {
+        stubFor(get(urlEqualTo("/limited")).willReturn(aResponse().withStatus(status)));
+    }
+
+    private static ConcurrencyLimitedClient client(ConcurrencyLimit algorithm, int initialLimit, int maxLimit) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .concurrencyLimit(algorithm, initialLimit, maxLimit)
+                .build(ConcurrencyLimitedClient.class);
+    }
+
+    /*
+     * Invokes the asynchronous method the given number of times without waiting, and returns the number of invocations
+     * that were rejected, checking that they were rejected with the given limit, if positive.
+     */
+    private static int invokeConcurrently(ConcurrencyLimitedClient client, int count, int expectedLimit)
+            throws Exception {
+        List<CompletionStage<String>> stages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            stages.add(client.getAsync());
+        }
+        int rejected = 0;
+        for (CompletionStage<String> stage : stages) {
+            try {
+                assertEquals(stage.toCompletableFuture().get(30, TimeUnit.SECONDS), "ok");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ConcurrencyLimitExceededException,
+                        "Expected a ConcurrencyLimitExceededException, but got " + e.getCause());
+                if (expectedLimit > 0) {
+                    assertEquals(((ConcurrencyLimitExceededException) e.getCause()).getLimit(), expectedLimit);
+                }
+                rejected++;
+            }
+        }
+        return rejected;
+    }
+
+    @Test
+    public void testFixedLimitRejectsExcessRequests() throws Exception {
+        respondAfter(SLOW_MILLIS);
+        ConcurrencyLimitedClient client = client(ConcurrencyLimit.FIXED, 2, 2);
+
+        assertEquals(invokeConcurrently(client, 5, 2), 3);
+        verify(2, getRequestedFor(urlEqualTo("/limited")));
+    }
+
+    @Test
+    public void testSynchronousMethodFailsFast() throws Exception {
+        respondAfter(SLOW_MILLIS);
+        ConcurrencyLimitedClient client = client(ConcurrencyLimit.FIXED, 1, 1);
+
+        CompletionStage<String> inFlight = client.getAsync();
+        long start = System.nanoTime();
+        try {
+            client.get();
+            fail("Expected a ConcurrencyLimitExceededException");
+        } catch (ConcurrencyLimitExceededException e) {
+            assertEquals(e.getLimit(), 1);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed < SLOW_MILLIS / 2, "Expected the rejection not to wait, but it took " + elapsed + " ms");
+
+        assertEquals(inFlight.toCompletableFuture().get(30, TimeUnit.SECONDS), "ok");
+        // the permit is released once the request completes
+        assertEquals(client.get(), "ok");
+        verify(2, getRequestedFor(urlEqualTo("/limited")));
+    }
+
+    @Test
+    public void testNoLimitByDefault() throws Exception {
+        respondAfter(NORMAL_MILLIS);
+        ConcurrencyLimitedClient client = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .build(ConcurrencyLimitedClient.class);
+
+        assertEquals(invokeConcurrently(client, 10, 0), 0);
+    }
+
+    @Test
+    public void testAimdLimitDecreasesOnDropsAndRecovers() throws Exception {
+        ConcurrencyLimitedClient client = client(ConcurrencyLimit.AIMD, 4, 4);
+
+        // each dropped request multiplies the limit by 0.9, rounding down: 4, 3, 2, 1
+        respondWith(503);
+        for (int i = 0; i < 3; i++) {
+            try {
+                client.get();
+                fail("Expected a WebApplicationException");
+            } catch (WebApplicationException e) {
+                assertEquals(e.getResponse().getStatus(), 503);
+            }
+        }
+        respondAfter(SLOW_MILLIS);
+        assertEquals(invokeConcurrently(client, 2, 1), 1);
+
+        // each successful request made while at least half of the limit is in use adds 1: 2, then 3
+        respondAfter(0);
+        assertEquals(client.get(), "ok");
+        respondAfter(SLOW_MILLIS);
+        assertEquals(invokeConcurrently(client, 4, 3), 1);
+    }
+
+    @Test
+    public void testGradientLimitShrinksWhenLatencyIncreasesAndRecovers() throws Exception {
+        ConcurrencyLimitedClient client = client(ConcurrencyLimit.GRADIENT, 10, 10);
+
+        respondAfter(NORMAL_MILLIS);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(client.get(), "ok");
+        }
+        // a tenfold latency increase shrinks the limit well below its maximum
+        respondAfter(SLOW_MILLIS);
+        assertEquals(client.get(), "ok");
+        int rejected = invokeConcurrently(client, 10, -1);
+        assertTrue(rejected > 0, "Expected the limit to shrink when latency increases");
+
+        // once latency is back to normal, the limit grows back to its maximum
+        respondAfter(NORMAL_MILLIS);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(client.get(), "ok");
+        }
+        assertEquals(invokeConcurrently(client, 10, -1), 0);
+    }
+}
@@ -23,12 +23,16 @@ import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.eclipse.microprofile.rest.client.tck.providers.ClientErrorResponseExceptionMapper;
 import org.eclipse.microprofile.rest.client.tck.providers.LowerPriorityTestResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.NotFoundResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.RecordingResponseExceptionMapper;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -48,12 +52,15 @@ public class DefaultExceptionMapperTest extends WiremockArquillianTest {
     public static Archive<?> createDeployment() {
         return ShrinkWrap.create(WebArchive.class, DefaultExceptionMapperTest.class.getSimpleName() + ".war")
                 .addClass(WiremockArquillianTest.class)
-                .addClasses(SimpleGetApi.class, LowerPriorityTestResponseExceptionMapper.class);
+                .addClasses(SimpleGetApi.class, LowerPriorityTestResponseExceptionMapper.class,
+                        NotFoundResponseExceptionMapper.class, ClientErrorResponseExceptionMapper.class,
+                        RecordingResponseExceptionMapper.class);
     }
 
     @BeforeTest
     public void resetHandlers() {
         LowerPriorityTestResponseExceptionMapper.reset();
+        RecordingResponseExceptionMapper.reset();
     }
 
     @Test
@@ -133,4 +140,66 @@ public class DefaultExceptionMapperTest extends WiremockArquillianTest {
                     LowerPriorityTestResponseExceptionMapper.class + " should be in the message");
         }
     }
+
+    @Test
+    public void testHandlesStatusMapperTakesPrecedenceFromDefault() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(STATUS).withBody(BODY)));
+
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(ClientErrorResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        try {
+            simpleGetApi.executeGet();
+            fail("A " + WebApplicationException.class + " should have been thrown automatically");
+        } catch (WebApplicationException w) {
+            assertTrue(RecordingResponseExceptionMapper.isThrowableCalled(ClientErrorResponseExceptionMapper.class),
+                    ClientErrorResponseExceptionMapper.class + " should handle this exception");
+            assertEquals(w.getMessage(), ClientErrorResponseExceptionMapper.class.getSimpleName(),
+                    ClientErrorResponseExceptionMapper.class + " should be in the message");
+        }
+    }
+
+    @Test
+    public void testDefaultMapperUsedForUndeclaredStatus() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(STATUS).withBody(BODY)));
+
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(NotFoundResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        try {
+            simpleGetApi.executeGet();
+            fail("A " + WebApplicationException.class + " should have been thrown automatically");
+        } catch (WebApplicationException w) {
+            assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(NotFoundResponseExceptionMapper.class),
+                    NotFoundResponseExceptionMapper.class + " should not be consulted for a " + STATUS);
+            assertEquals(w.getResponse().getStatus(), STATUS,
+                    "The 401 from the response should be propagated by the default mapper");
+        }
+    }
+
+    @Test
+    public void testSuccessfulResponseSkipsMapperLookup() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody(BODY)));
+
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(NotFoundResponseExceptionMapper.class)
+                .register(ClientErrorResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        Response response = simpleGetApi.executeGet();
+        assertEquals(response.getStatus(), 200);
+        assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(NotFoundResponseExceptionMapper.class),
+                NotFoundResponseExceptionMapper.class + " should not be consulted for a successful response");
+        assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(ClientErrorResponseExceptionMapper.class),
+                ClientErrorResponseExceptionMapper.class + " should not be consulted for a successful response");
+        response.close();
+    }
 }
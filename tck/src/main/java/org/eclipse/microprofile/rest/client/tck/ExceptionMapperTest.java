@@ -29,6 +29,10 @@ import static org.testng.Assert.fail;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.eclipse.microprofile.rest.client.tck.providers.ClientErrorResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.NotFoundResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.RecordingResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.ServerErrorResponseExceptionMapper;
 import org.eclipse.microprofile.rest.client.tck.providers.TestResponseExceptionMapper;
 import org.eclipse.microprofile.rest.client.tck.providers.TestResponseExceptionMapperOverridePriority;
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -39,6 +43,7 @@ import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.Response;
 
 public class ExceptionMapperTest extends WiremockArquillianTest {
 
@@ -49,13 +54,18 @@ public class ExceptionMapperTest extends WiremockArquillianTest {
                 .addClasses(WiremockArquillianTest.class,
                         SimpleGetApi.class,
                         TestResponseExceptionMapper.class,
-                        TestResponseExceptionMapperOverridePriority.class);
+                        TestResponseExceptionMapperOverridePriority.class,
+                        NotFoundResponseExceptionMapper.class,
+                        ClientErrorResponseExceptionMapper.class,
+                        ServerErrorResponseExceptionMapper.class,
+                        RecordingResponseExceptionMapper.class);
     }
 
     @BeforeTest
     public void resetHandlers() {
         TestResponseExceptionMapper.reset();
         TestResponseExceptionMapperOverridePriority.reset();
+        RecordingResponseExceptionMapper.reset();
     }
 
     @Test
@@ -112,4 +122,76 @@ public class ExceptionMapperTest extends WiremockArquillianTest {
                     "The toThrowable method should have been called on " + TestResponseExceptionMapper.class);
         }
     }
+
+    @Test
+    public void testSuccessfulResponseSkipsHandlesStatusMappers() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("OK")));
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(NotFoundResponseExceptionMapper.class)
+                .register(ClientErrorResponseExceptionMapper.class)
+                .register(ServerErrorResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        Response response = simpleGetApi.executeGet();
+        assertEquals(response.getStatus(), 200);
+        assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(NotFoundResponseExceptionMapper.class),
+                "The handles method should not have been called on " + NotFoundResponseExceptionMapper.class);
+        assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(ClientErrorResponseExceptionMapper.class),
+                "The handles method should not have been called on " + ClientErrorResponseExceptionMapper.class);
+        assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(ServerErrorResponseExceptionMapper.class),
+                "The handles method should not have been called on " + ServerErrorResponseExceptionMapper.class);
+    }
+
+    @Test
+    public void testHandlesStatusMappersAreSortedByPriority() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(404).withBody("Not found")));
+        // registered in reverse priority order, the runtime must still sort them ascending
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(NotFoundResponseExceptionMapper.class)
+                .register(ClientErrorResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        try {
+            simpleGetApi.executeGet();
+            fail("A " + WebApplicationException.class + " should have been thrown via the registered "
+                    + ClientErrorResponseExceptionMapper.class);
+        } catch (WebApplicationException w) {
+            assertEquals(w.getMessage(), ClientErrorResponseExceptionMapper.class.getSimpleName(),
+                    "The message should be sourced from " + ClientErrorResponseExceptionMapper.class);
+            assertTrue(RecordingResponseExceptionMapper.isThrowableCalled(ClientErrorResponseExceptionMapper.class),
+                    "The toThrowable method should have been called on " + ClientErrorResponseExceptionMapper.class);
+            assertFalse(RecordingResponseExceptionMapper.isThrowableCalled(NotFoundResponseExceptionMapper.class),
+                    "The toThrowable method should not have been called on " + NotFoundResponseExceptionMapper.class);
+        }
+    }
+
+    @Test
+    public void testHandlesStatusMappersOnlyConsultedForDeclaredStatus() throws Exception {
+        RecordingResponseExceptionMapper.reset();
+        stubFor(get(urlEqualTo("/")).willReturn(aResponse().withStatus(503).withBody("Unavailable")));
+        SimpleGetApi simpleGetApi = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .register(NotFoundResponseExceptionMapper.class)
+                .register(ClientErrorResponseExceptionMapper.class)
+                .register(ServerErrorResponseExceptionMapper.class)
+                .build(SimpleGetApi.class);
+
+        try {
+            simpleGetApi.executeGet();
+            fail("A " + WebApplicationException.class + " should have been thrown via the registered "
+                    + ServerErrorResponseExceptionMapper.class);
+        } catch (WebApplicationException w) {
+            assertEquals(w.getMessage(), ServerErrorResponseExceptionMapper.class.getSimpleName(),
+                    "The message should be sourced from " + ServerErrorResponseExceptionMapper.class);
+            assertEquals(w.getResponse().getStatus(), 503);
+            assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(NotFoundResponseExceptionMapper.class),
+                    "The handles method should not have been called on " + NotFoundResponseExceptionMapper.class);
+            assertFalse(RecordingResponseExceptionMapper.isHandlesCalled(ClientErrorResponseExceptionMapper.class),
+                    "The handles method should not have been called on " + ClientErrorResponseExceptionMapper.class);
+        }
+    }
 }
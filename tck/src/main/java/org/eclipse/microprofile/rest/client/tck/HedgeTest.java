@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.lessThanOrExactly;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.annotation.Hedge;
+import org.eclipse.microprofile.rest.client.tck.interfaces.HedgingClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * Verifies that the requests of methods annotated with {@link Hedge} are sent again when they are slow, that the
+ * fastest response wins, and that no more than the maximum number of attempts are sent.
+ */
+public class HedgeTest extends WiremockArquillianTest {
+
+    private static final int SLOW_MILLIS = 3000;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, HedgeTest.class.getSimpleName() + ".war")
+                .addClasses(HedgingClient.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static HedgingClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .build(HedgingClient.class);
+    }
+
+    private static void respondAfter(int delayMillis) {
+        stubFor(get(urlEqualTo("/hedge")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/plain")
+                .withBody("ok")
+                .withFixedDelay(delayMillis)));
+    }
+
+    /*
+     * The first request is answered after SLOW_MILLIS, any later request immediately.
+     */
+    private static void respondSlowlyToFirstRequestOnly() {
+        stubFor(get(urlEqualTo("/hedge")).inScenario("hedge")
+                .whenScenarioStateIs(STARTED)
+                .willSetStateTo("hedged")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("slow")
+                        .withFixedDelay(SLOW_MILLIS)));
+        stubFor(get(urlEqualTo("/hedge")).inScenario("hedge")
+                .whenScenarioStateIs("hedged")
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("fast")));
+    }
+
+    private static void assertFasterThanSlowResponse(long start) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertTrue(elapsed < SLOW_MILLIS / 2, "Expected the hedged request to win, but it took " + elapsed + " ms");
+    }
+
+    @Test
+    public void testSlowRequestIsHedged() {
+        respondSlowlyToFirstRequestOnly();
+        HedgingClient client = client();
+
+        long start = System.nanoTime();
+        assertEquals(client.get(), "fast");
+        assertFasterThanSlowResponse(start);
+        verify(2, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testSlowAsyncRequestIsHedged() throws Exception {
+        respondSlowlyToFirstRequestOnly();
+        HedgingClient client = client();
+
+        long start = System.nanoTime();
+        assertEquals(client.getAsync().toCompletableFuture().get(30, TimeUnit.SECONDS), "fast");
+        assertFasterThanSlowResponse(start);
+        verify(2, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testFastRequestIsNotHedged() {
+        respondAfter(0);
+        HedgingClient client = client();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(client.get(), "ok");
+        }
+        verify(5, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testMethodWithoutAnnotationIsNotHedged() {
+        respondSlowlyToFirstRequestOnly();
+        HedgingClient client = client();
+
+        assertEquals(client.getNotHedged(), "slow");
+        verify(1, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testAtMostMaxAttemptsRequestsAreSent() {
+        stubFor(get(urlEqualTo("/hedge")).willReturn(aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/plain")
+                .withBody("ok")
+                .withUniformRandomDelay(1000, 1500)));
+        HedgingClient client = client();
+
+        assertEquals(client.getWithThreeAttempts(), "ok");
+        verify(3, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testPercentileDelay() {
+        respondAfter(10);
+        HedgingClient client = client();
+
+        // no request is hedged until the latency percentile is known
+        for (int i = 0; i < Hedge.MIN_SAMPLES; i++) {
+            assertEquals(client.getWithPercentileDelay(), "ok");
+        }
+        verify(Hedge.MIN_SAMPLES, getRequestedFor(urlEqualTo("/hedge")));
+
+        WireMock.reset();
+        respondSlowlyToFirstRequestOnly();
+        long start = System.nanoTime();
+        assertEquals(client.getWithPercentileDelay(), "fast");
+        assertFasterThanSlowResponse(start);
+        verify(2, getRequestedFor(urlEqualTo("/hedge")));
+    }
+
+    @Test
+    public void testCancellingInvocationCancelsHedging() throws Exception {
+        respondAfter(SLOW_MILLIS);
+        HedgingClient client = client();
+
+        CompletableFuture<String> future = client.getAsync().toCompletableFuture();
+        future.cancel(true);
+        // wait well beyond the hedging delay
+        Thread.sleep(1000);
+        verify(lessThanOrExactly(1), getRequestedFor(urlEqualTo("/hedge")));
+    }
+}
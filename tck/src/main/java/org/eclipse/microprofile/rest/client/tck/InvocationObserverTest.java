@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.BODY_READ;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.COMPLETED;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.CONNECTION_ACQUIRED;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.FAILED;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.FIRST_BYTE;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.REQUEST_SENT;
+import static org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver.START;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.ObservedInvocation;
+import org.eclipse.microprofile.rest.client.tck.interfaces.ObservedClient;
+import org.eclipse.microprofile.rest.client.tck.providers.RecordingInvocationObserver;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies the order of the callbacks of a registered <code>InvocationObserver</code> for synchronous, asynchronous and
+ * server sent event methods, and the method, path template, status and byte counts they report.
+ */
+public class InvocationObserverTest extends WiremockArquillianTest {
+
+    private static final List<String> ALL_CALLBACKS =
+            Arrays.asList(START, CONNECTION_ACQUIRED, REQUEST_SENT, FIRST_BYTE, BODY_READ, COMPLETED);
+    private static final String BODY = "Hello, Observer!";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, InvocationObserverTest.class.getSimpleName() + ".war")
+                .addClasses(ObservedClient.class, RecordingInvocationObserver.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static ObservedClient client(Object observer) {
+        return client(getServerURI(), observer);
+    }
+
+    private static ObservedClient client(URI baseUri, Object observer) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(baseUri)
+                .register(observer)
+                .build(ObservedClient.class);
+    }
+
+    private static void stubText(String body) {
+        stubFor(get(urlEqualTo("/observed/1"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody(body)));
+    }
+
+    private static void assertInvocation(ObservedInvocation invocation, String methodName, String httpMethod,
+            String templatePath) {
+        assertEquals(invocation.getClientInterface(), ObservedClient.class);
+        assertEquals(invocation.getMethod().getName(), methodName);
+        assertEquals(invocation.getHttpMethod(), httpMethod);
+        assertEquals(invocation.getTemplatePath(), templatePath);
+        assertTrue(invocation.getStartNanos() <= System.nanoTime());
+    }
+
+    @Test
+    public void testSyncCallbackOrder() throws Exception {
+        stubText(BODY);
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+
+        assertEquals(client(observer).get(1), BODY);
+
+        assertEquals(observer.awaitCallbacks(), ALL_CALLBACKS);
+        assertEquals(observer.getStartThreadId(), Thread.currentThread().getId());
+        assertInvocation(observer.getInvocation(), "get", "GET", "/observed/{id}");
+        assertTrue(observer.getInvocation().getUri().getPath().endsWith("/observed/1"));
+        assertEquals(observer.getStatus(), 200);
+        assertEquals(observer.getRequestBytes(), 0L);
+        assertEquals(observer.getResponseBytes(), (long) BODY.getBytes(StandardCharsets.UTF_8).length);
+        assertNull(observer.getFailure());
+    }
+
+    @Test
+    public void testRequestBodyIsCounted() throws Exception {
+        String requestBody = "payload";
+        stubFor(post(urlEqualTo("/observed/2"))
+                .withRequestBody(equalTo(requestBody))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody(BODY)));
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+
+        assertEquals(client(observer).post(2, requestBody), BODY);
+
+        assertEquals(observer.awaitCallbacks(), ALL_CALLBACKS);
+        assertInvocation(observer.getInvocation(), "post", "POST", "/observed/{id}");
+        assertEquals(observer.getRequestBytes(), (long) requestBody.length());
+        verify(1, postRequestedFor(urlEqualTo("/observed/2")));
+    }
+
+    @Test
+    public void testAsyncCallbackOrder() throws Exception {
+        stubText(BODY);
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+
+        String body = client(observer).getAsync(1).toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        assertEquals(body, BODY);
+        assertEquals(observer.awaitCallbacks(), ALL_CALLBACKS);
+        assertEquals(observer.getStartThreadId(), Thread.currentThread().getId());
+        assertInvocation(observer.getInvocation(), "getAsync", "GET", "/observed/{id}");
+        assertEquals(observer.getStatus(), 200);
+        assertEquals(observer.getResponseBytes(), (long) BODY.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    public void testServerSentEventsCallbackOrder() throws Exception {
+        String events = "data: foo\n\ndata: bar\n\ndata: baz\n\n";
+        stubFor(get(urlEqualTo("/observed/events"))
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "text/event-stream")
+                        .withBody(events)));
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+
+        client(observer).events().subscribe(new Subscriber<String>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(String event) {
+                received.add(event);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(30, TimeUnit.SECONDS), "The event stream did not end");
+        assertEquals(received, Arrays.asList("foo", "bar", "baz"));
+        assertEquals(observer.awaitCallbacks(), ALL_CALLBACKS);
+        assertInvocation(observer.getInvocation(), "events", "GET", "/observed/events");
+        assertEquals(observer.getStatus(), 200);
+        assertEquals(observer.getResponseBytes(), (long) events.length());
+    }
+
+    @Test
+    public void testErrorResponseFailsInvocation() throws Exception {
+        stubFor(get(urlEqualTo("/observed/1"))
+                .willReturn(aResponse()
+                        .withStatus(500)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody("Oops")));
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+
+        try {
+            client(observer).get(1);
+            fail("Expected a WebApplicationException");
+        } catch (WebApplicationException expected) {
+            // expected
+        }
+
+        List<String> callbacks = observer.awaitCallbacks();
+        assertEquals(callbacks.subList(0, 4), Arrays.asList(START, CONNECTION_ACQUIRED, REQUEST_SENT, FIRST_BYTE));
+        assertEquals(callbacks.get(callbacks.size() - 1), FAILED);
+        assertFalse(callbacks.contains(COMPLETED));
+        assertEquals(observer.getStatus(), 500);
+        assertTrue(observer.getFailure() instanceof WebApplicationException,
+                "Unexpected failure " + observer.getFailure());
+    }
+
+    @Test
+    public void testConnectionFailureFailsInvocation() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        RecordingInvocationObserver observer = new RecordingInvocationObserver();
+
+        try {
+            client(URI.create("http://localhost:" + closedPort), observer).get(1);
+            fail("Expected a ProcessingException");
+        } catch (ProcessingException expected) {
+            // expected
+        }
+
+        assertEquals(observer.awaitCallbacks(), Arrays.asList(START, FAILED));
+        assertEquals(observer.getStatus(), -1);
+        assertEquals(observer.getResponseBytes(), -1L);
+        assertTrue(observer.getFailure() instanceof ProcessingException,
+                "Unexpected failure " + observer.getFailure());
+    }
+
+    @Test
+    public void testObserverExceptionsAreIgnored() throws Exception {
+        stubText(BODY);
+        RecordingInvocationObserver observer = new RecordingInvocationObserver(true);
+
+        assertEquals(client(observer).get(1), BODY);
+
+        assertEquals(observer.awaitCallbacks(), ALL_CALLBACKS);
+    }
+}
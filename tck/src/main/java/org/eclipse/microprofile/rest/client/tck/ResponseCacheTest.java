@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.put;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.interfaces.CachingClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * Verifies the freshness, revalidation and <code>Vary</code> handling of the response cache enabled with
+ * {@link RestClientBuilder#responseCache(long)}.
+ */
+public class ResponseCacheTest extends WiremockArquillianTest {
+
+    private static final String RESOURCE = "/cache/resource";
+    private static final String LANGUAGE = "/cache/language";
+    private static final long CACHE_SIZE = 64 * 1024;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, ResponseCacheTest.class.getSimpleName() + ".war")
+                .addClasses(CachingClient.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static CachingClient client(long cacheSize) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .responseCache(cacheSize)
+                .build(CachingClient.class);
+    }
+
+    private static ResponseDefinitionBuilder ok(String body, String cacheControl) {
+        ResponseDefinitionBuilder response = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "text/plain")
+                .withBody(body);
+        return cacheControl == null ? response : response.withHeader("Cache-Control", cacheControl);
+    }
+
+    @Test
+    public void testFreshResponseServedFromCache() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "max-age=60")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.get(), "v1");
+        assertEquals(client.get(), "v1");
+        assertEquals(client.get(), "v1");
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testMethodWithoutAnnotationNotCached() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "max-age=60")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.getNotCacheable(), "v1");
+        assertEquals(client.getNotCacheable(), "v1");
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testCacheNotEnabledByDefault() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "max-age=60")));
+        CachingClient client = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .build(CachingClient.class);
+
+        assertEquals(client.get(), "v1");
+        assertEquals(client.get(), "v1");
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testExpiredResponseRefetched() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "max-age=1")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.get(), "v1");
+        Thread.sleep(2000);
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v2", "max-age=1")));
+        assertEquals(client.get(), "v2");
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testNoStoreNotCached() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "no-store")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.get(), "v1");
+        assertEquals(client.get(), "v1");
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testDefaultMaxAgeAppliesWithoutFreshnessInformation() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", null)));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.getWithDefaultMaxAge(), "v1");
+        assertEquals(client.getWithDefaultMaxAge(), "v1");
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testStaleResponseRevalidatedWith304() {
+        stubFor(get(urlEqualTo(RESOURCE))
+                .willReturn(ok("v1", "no-cache").withHeader("ETag", "\"v1\"")));
+        stubFor(conditional("\"v1\"")
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"v1\"")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.get(), "v1");
+        assertEquals(client.get(), "v1", "A 304 response should be answered with the cached entity");
+        assertEquals(client.get(), "v1");
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE)).withHeader("If-None-Match", absent()));
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)).withHeader("If-None-Match", equalTo("\"v1\"")));
+    }
+
+    @Test
+    public void testRevalidationReplacesChangedResponse() {
+        stubFor(get(urlEqualTo(RESOURCE))
+                .willReturn(ok("v1", "no-cache").withHeader("ETag", "\"v1\"")));
+        CachingClient client = client(CACHE_SIZE);
+        assertEquals(client.get(), "v1");
+
+        stubFor(get(urlEqualTo(RESOURCE))
+                .willReturn(ok("v2", "no-cache").withHeader("ETag", "\"v2\"")));
+        stubFor(conditional("\"v2\"")
+                .willReturn(aResponse().withStatus(304).withHeader("ETag", "\"v2\"")));
+
+        assertEquals(client.get(), "v2", "A changed response should replace the cached one");
+        assertEquals(client.get(), "v2");
+
+        verify(getRequestedFor(urlEqualTo(RESOURCE)).withHeader("If-None-Match", equalTo("\"v1\"")));
+        verify(getRequestedFor(urlEqualTo(RESOURCE)).withHeader("If-None-Match", equalTo("\"v2\"")));
+    }
+
+    @Test
+    public void testVary() {
+        stubFor(get(urlEqualTo(LANGUAGE)).withHeader("Accept-Language", equalTo("en"))
+                .willReturn(ok("hello", "max-age=60").withHeader("Vary", "Accept-Language")));
+        stubFor(get(urlEqualTo(LANGUAGE)).withHeader("Accept-Language", equalTo("fr"))
+                .willReturn(ok("bonjour", "max-age=60").withHeader("Vary", "Accept-Language")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.getLanguage("en"), "hello");
+        assertEquals(client.getLanguage("fr"), "bonjour", "The Vary header should be part of the cache key");
+        assertEquals(client.getLanguage("en"), "hello");
+        assertEquals(client.getLanguage("fr"), "bonjour");
+
+        verify(1, getRequestedFor(urlEqualTo(LANGUAGE)).withHeader("Accept-Language", equalTo("en")));
+        verify(1, getRequestedFor(urlEqualTo(LANGUAGE)).withHeader("Accept-Language", equalTo("fr")));
+    }
+
+    @Test
+    public void testVaryStarNotCached() {
+        stubFor(get(urlEqualTo(LANGUAGE))
+                .willReturn(ok("hello", "max-age=60").withHeader("Vary", "*")));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.getLanguage("en"), "hello");
+        assertEquals(client.getLanguage("en"), "hello");
+
+        verify(2, getRequestedFor(urlEqualTo(LANGUAGE)));
+    }
+
+    @Test
+    public void testUnsafeMethodInvalidatesCachedResponse() {
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v1", "max-age=60")));
+        stubFor(put(urlEqualTo(RESOURCE)).willReturn(aResponse().withStatus(204)));
+        CachingClient client = client(CACHE_SIZE);
+
+        assertEquals(client.get(), "v1");
+        client.put("v2");
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok("v2", "max-age=60")));
+        assertEquals(client.get(), "v2", "A successful PUT should invalidate the cached response");
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    @Test
+    public void testResponseLargerThanCacheNotCached() {
+        String large = "x".repeat(8 * 1024);
+        stubFor(get(urlEqualTo(RESOURCE)).willReturn(ok(large, "max-age=60")));
+        CachingClient client = client(1024);
+
+        assertEquals(client.get(), large);
+        assertEquals(client.get(), large);
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE)));
+    }
+
+    private static MappingBuilder conditional(String etag) {
+        // higher priority than the unconditional stub
+        return get(urlEqualTo(RESOURCE)).atPriority(1).withHeader("If-None-Match", equalTo(etag));
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.annotation.RetryPolicy;
+import org.eclipse.microprofile.rest.client.tck.interfaces.RetryingClient;
+import org.eclipse.microprofile.rest.client.tck.providers.ConflictResponseExceptionMapper;
+import org.eclipse.microprofile.rest.client.tck.providers.RecordingResponseExceptionMapper;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.Fault;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies that failed requests of methods annotated with {@link RetryPolicy} are retried according to the status code,
+ * the exception and the idempotency of the method, with the expected delays, and within the retry budget.
+ */
+public class RetryTest extends WiremockArquillianTest {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, RetryTest.class.getSimpleName() + ".war")
+                .addClasses(RetryingClient.class, ConflictResponseExceptionMapper.class,
+                        RecordingResponseExceptionMapper.class, WiremockArquillianTest.class);
+    }
+
+    @BeforeMethod
+    public void reset() {
+        WireMock.reset();
+    }
+
+    private static RetryingClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .build(RetryingClient.class);
+    }
+
+    private static ResponseDefinitionBuilder ok() {
+        return aResponse().withStatus(200).withHeader("Content-Type", "text/plain").withBody("ok");
+    }
+
+    private static ResponseDefinitionBuilder status(int status) {
+        return aResponse().withStatus(status);
+    }
+
+    /*
+     * Answers the successive requests with the given responses, repeating the last one.
+     */
+    private static void respondInSequence(ResponseDefinitionBuilder... responses) {
+        for (int i = 0; i < responses.length; i++) {
+            String state = i == 0 ? STARTED : "attempt" + i;
+            String nextState = i == responses.length - 1 ? state : "attempt" + (i + 1);
+            stubFor(any(urlEqualTo("/retry")).inScenario("retry")
+                    .whenScenarioStateIs(state)
+                    .willSetStateTo(nextState)
+                    .willReturn(responses[i]));
+        }
+    }
+
+    private static void assertStatus(Runnable invocation, int status) {
+        try {
+            invocation.run();
+            fail("Expected a WebApplicationException with status " + status);
+        } catch (WebApplicationException e) {
+            assertEquals(e.getResponse().getStatus(), status);
+        }
+    }
+
+    @Test
+    public void testRetriesUntilSuccess() {
+        respondInSequence(status(503), status(503), ok());
+        RetryingClient client = client();
+
+        long start = System.nanoTime();
+        assertEquals(client.get(), "ok");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        verify(3, anyRequestedFor(urlEqualTo("/retry")));
+        // delays of 200 and 400 ms, each reduced by a random fraction of up to half
+        assertTrue(elapsed >= 300, "Expected the retries to be delayed, but they took " + elapsed + " ms");
+        assertTrue(elapsed < 5000, "Expected the retries not to wait longer than their delays, but they took "
+                + elapsed + " ms");
+    }
+
+    @Test
+    public void testAsyncRetriesUntilSuccess() throws Exception {
+        respondInSequence(status(502), ok());
+        RetryingClient client = client();
+
+        assertEquals(client.getAsync().toCompletableFuture().get(30, TimeUnit.SECONDS), "ok");
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() {
+        respondInSequence(status(503));
+        RetryingClient client = client();
+
+        assertStatus(client::get, 503);
+        verify(3, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testStatusNotRetried() {
+        respondInSequence(status(500), ok());
+        RetryingClient client = client();
+
+        assertStatus(client::get, 500);
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testMethodWithoutPolicyNotRetried() {
+        respondInSequence(status(503), ok());
+        RetryingClient client = client();
+
+        assertStatus(client::getNotRetried, 503);
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testConnectionResetRetried() {
+        respondInSequence(aResponse().withFault(Fault.CONNECTION_RESET_BY_PEER), ok());
+        RetryingClient client = client();
+
+        assertEquals(client.get(), "ok");
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testRetryAfterHonored() {
+        respondInSequence(status(503).withHeader("Retry-After", "1"), ok());
+        RetryingClient client = client();
+
+        long start = System.nanoTime();
+        assertEquals(client.getWithMaxDelay(), "ok");
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+        assertTrue(elapsed >= 1000, "Expected the retry to wait for the Retry-After delay, but it took "
+                + elapsed + " ms");
+    }
+
+    @Test
+    public void testRetryAfterBeyondMaxDelayNotRetried() {
+        respondInSequence(status(503).withHeader("Retry-After", "5"), ok());
+        RetryingClient client = client();
+
+        long start = System.nanoTime();
+        assertStatus(client::getWithMaxDelay, 503);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+        assertTrue(elapsed < 2000, "Expected the response not to be retried, but it took " + elapsed + " ms");
+    }
+
+    @Test
+    public void testExceptionFromResponseExceptionMapperRetried() {
+        respondInSequence(status(409), ok());
+        RetryingClient client = client();
+
+        assertEquals(client.getRetryingConflicts(), "ok");
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testExceptionFromResponseExceptionMapperNotRetriedUnlessListed() {
+        respondInSequence(status(409), ok());
+        RetryingClient client = client();
+
+        try {
+            client.get();
+            fail("Expected a ConflictException");
+        } catch (ConflictResponseExceptionMapper.ConflictException expected) {
+            // the mapper handles the last response
+        }
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testNonIdempotentMethodNotRetried() {
+        respondInSequence(status(503), ok());
+        RetryingClient client = client();
+
+        assertStatus(() -> client.post("body"), 503);
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testNonIdempotentMethodRetriedWhenEnabled() {
+        respondInSequence(status(503), ok());
+        RetryingClient client = client();
+
+        assertEquals(client.postRetryingNonIdempotent("body"), "ok");
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testBuilderPolicyAppliesToMethodsWithoutAnnotation() {
+        respondInSequence(status(503), ok());
+        RetryingClient client = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .retryPolicy(2, 10, 100, TimeUnit.MILLISECONDS)
+                .build(RetryingClient.class);
+
+        assertEquals(client.getNotRetried(), "ok");
+        verify(2, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testRetryBudget() {
+        respondInSequence(status(503));
+        // one retry per invocation on average, instead of the two allowed by the policy
+        RetryingClient client = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .retryBudget(1, 0)
+                .build(RetryingClient.class);
+
+        for (int i = 0; i < 4; i++) {
+            assertStatus(client::getWithShortDelay, 503);
+        }
+        verify(8, anyRequestedFor(urlEqualTo("/retry")));
+    }
+
+    @Test
+    public void testEmptyRetryBudget() {
+        respondInSequence(status(503), ok());
+        RetryingClient client = RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .retryBudget(0, 0)
+                .build(RetryingClient.class);
+
+        assertStatus(client::get, 503);
+        verify(1, anyRequestedFor(urlEqualTo("/retry")));
+    }
+}
@@ -43,10 +43,13 @@ import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApiAsync;
 import org.eclipse.microprofile.rest.client.tck.interfaces.StringResponseClientAsync;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWith200RequestFilter;
 import org.eclipse.microprofile.rest.client.tck.providers.TLAddPathClientRequestFilter;
 import org.eclipse.microprofile.rest.client.tck.providers.TLAsyncInvocationInterceptor;
 import org.eclipse.microprofile.rest.client.tck.providers.TLAsyncInvocationInterceptorFactory;
 import org.eclipse.microprofile.rest.client.tck.providers.TLClientResponseFilter;
+import org.eclipse.microprofile.rest.client.tck.providers.TLContextPropagator;
+import org.eclipse.microprofile.rest.client.tck.providers.TLStatelessAsyncInvocationInterceptor;
 import org.eclipse.microprofile.rest.client.tck.providers.ThreadedClientResponseFilter;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -73,7 +76,10 @@ public class AsyncMethodTest extends WiremockArquillianTest {
                         TLAsyncInvocationInterceptorFactory.class,
                         TLAsyncInvocationInterceptor.class,
                         TLAddPathClientRequestFilter.class,
-                        TLClientResponseFilter.class);
+                        TLClientResponseFilter.class,
+                        TLStatelessAsyncInvocationInterceptor.class,
+                        TLContextPropagator.class,
+                        ReturnWith200RequestFilter.class);
     }
 
     /**
@@ -267,6 +273,180 @@ public class AsyncMethodTest extends WiremockArquillianTest {
         verify(1, getRequestedFor(urlEqualTo("/" + threadLocalInt)));
     }
 
+    /**
+     * This test verifies that the snapshot returned by the <code>prepareContext</code> method of a
+     * <code>StatelessAsyncInvocationInterceptor</code> on the calling thread is passed to its <code>applyContext</code>
+     * and <code>removeContext</code> methods on the async thread, and that the propagated context is available to the
+     * providers on the outbound and inbound flows and removed afterwards.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testStatelessAsyncInvocationInterceptorProvider() throws Exception {
+        final String expectedBody = "Hello, Stateless Async Intercepted Client!!";
+        final Integer threadLocalInt = 909;
+        final long mainThreadId = Thread.currentThread().getId();
+
+        stubFor(get(urlEqualTo("/" + threadLocalInt))
+                .willReturn(aResponse()
+                        .withBody(expectedBody)));
+
+        ExecutorService testExecutorService = Executors.newSingleThreadExecutor();
+        final TLStatelessAsyncInvocationInterceptor interceptor =
+                new TLStatelessAsyncInvocationInterceptor(threadLocalInt);
+        final TLClientResponseFilter responseFilter = new TLClientResponseFilter();
+        SimpleGetApiAsync api = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(TLAddPathClientRequestFilter.class)
+                .register(interceptor)
+                .register(responseFilter)
+                .executorService(testExecutorService)
+                .build(SimpleGetApiAsync.class);
+
+        Response response = api.executeGet().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.getHeaderString("Sent-URI").endsWith("/" + threadLocalInt));
+        assertEquals(response.readEntity(String.class), expectedBody);
+        response.close();
+        assertEquals((long) responseFilter.getThreadLocalIntDuringResponse(), (long) threadLocalInt);
+
+        // runs after removeContext on the reused async thread and verifies that the thread local has been cleared
+        Integer recycledThreadLocalInt = testExecutorService.submit(TLAsyncInvocationInterceptorFactory::getTlInt)
+                .get(30, TimeUnit.SECONDS);
+        assertEquals((long) recycledThreadLocalInt, 0L);
+        testExecutorService.shutdown();
+
+        Map<String, Object> data = interceptor.getData();
+        assertEquals(interceptor.getApplyContextInvocations(), 1);
+        assertEquals(interceptor.getRemoveContextInvocations(), 1);
+        assertEquals(data.get("preThreadId"), mainThreadId);
+        assertNotEquals(data.get("postThreadId"), mainThreadId);
+        assertEquals(data.get("removeThreadId"), data.get("postThreadId"));
+        assertEquals(data.get("appliedSnapshot"), threadLocalInt);
+        assertEquals(data.get("removedSnapshot"), threadLocalInt);
+        assertEquals(data.get("AsyncThreadLocalPre"), threadLocalInt);
+        assertEquals(data.get("AsyncThreadLocalPost"), 0);
+
+        verify(1, getRequestedFor(urlEqualTo("/" + threadLocalInt)));
+    }
+
+    /**
+     * This test verifies that the <code>applyContext</code> and <code>removeContext</code> methods of a
+     * <code>StatelessAsyncInvocationInterceptor</code> are not invoked when its <code>prepareContext</code> method
+     * returns <code>null</code>.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testStatelessAsyncInvocationInterceptorWithNullSnapshot() throws Exception {
+        stubFor(get(urlEqualTo("/0"))
+                .willReturn(aResponse()
+                        .withBody("Nothing to propagate")));
+
+        ExecutorService testExecutorService = Executors.newSingleThreadExecutor();
+        final TLStatelessAsyncInvocationInterceptor interceptor = new TLStatelessAsyncInvocationInterceptor(0);
+        SimpleGetApiAsync api = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(TLAddPathClientRequestFilter.class)
+                .register(interceptor)
+                .executorService(testExecutorService)
+                .build(SimpleGetApiAsync.class);
+
+        Response response = api.executeGet().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(response.getStatus(), 200);
+        assertEquals(response.readEntity(String.class), "Nothing to propagate");
+        response.close();
+
+        // wait for the async thread to complete the invocation
+        testExecutorService.submit(() -> {
+        }).get(30, TimeUnit.SECONDS);
+        testExecutorService.shutdown();
+
+        assertEquals(interceptor.getData().get("preThreadId"), Thread.currentThread().getId());
+        assertEquals(interceptor.getApplyContextInvocations(), 0);
+        assertEquals(interceptor.getRemoveContextInvocations(), 0);
+
+        verify(1, getRequestedFor(urlEqualTo("/0")));
+    }
+
+    /**
+     * This test verifies that the context captured by the <code>ContextPropagator</code> specified via
+     * <code>RestClientBuilder.contextPropagator</code> is captured once, on the calling thread, is available to the
+     * providers on the outbound and inbound flows on the async thread, and is removed afterwards.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testContextPropagatorIsPropagated() throws Exception {
+        final String expectedBody = "Hello, Context Propagating Client!!";
+        final Integer threadLocalInt = 1010;
+        final long mainThreadId = Thread.currentThread().getId();
+
+        stubFor(get(urlEqualTo("/" + threadLocalInt))
+                .willReturn(aResponse()
+                        .withBody(expectedBody)));
+
+        ExecutorService testExecutorService = Executors.newSingleThreadExecutor();
+        final TLContextPropagator contextPropagator = new TLContextPropagator(threadLocalInt);
+        final TLClientResponseFilter responseFilter = new TLClientResponseFilter();
+        SimpleGetApiAsync api = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(TLAddPathClientRequestFilter.class)
+                .register(responseFilter)
+                .contextPropagator(contextPropagator)
+                .executorService(testExecutorService)
+                .build(SimpleGetApiAsync.class);
+
+        Response response = api.executeGet().toCompletableFuture().get(30, TimeUnit.SECONDS);
+        assertEquals(response.getStatus(), 200);
+        assertTrue(response.getHeaderString("Sent-URI").endsWith("/" + threadLocalInt));
+        assertEquals(response.readEntity(String.class), expectedBody);
+        response.close();
+        assertEquals((long) responseFilter.getThreadLocalIntDuringResponse(), (long) threadLocalInt);
+
+        // runs after the invocation on the reused async thread and verifies that the context has been removed
+        Integer recycledThreadLocalInt = testExecutorService.submit(TLAsyncInvocationInterceptorFactory::getTlInt)
+                .get(30, TimeUnit.SECONDS);
+        assertEquals((long) recycledThreadLocalInt, 0L);
+        testExecutorService.shutdown();
+
+        assertEquals(contextPropagator.getCaptures(), 1, "The context must be captured once per invocation");
+        assertTrue(contextPropagator.getApplications() > 0, "The captured context was never applied");
+        assertTrue(contextPropagator.getAppliedThreadIds().stream().anyMatch(id -> id != mainThreadId),
+                "The captured context was not applied on the async thread");
+
+        verify(1, getRequestedFor(urlEqualTo("/" + threadLocalInt)));
+    }
+
+    /**
+     * This test verifies that the context of a <code>ContextPropagator</code> is captured exactly once per invocation,
+     * however many threads the invocation takes part in. The invocations are aborted by a request filter, so no request
+     * is sent. The overhead of the propagation is measured by <code>ContextPropagatorBenchmark</code> in the benchmarks
+     * module.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testContextIsCapturedOncePerInvocation() throws Exception {
+        final int invocations = 100;
+        final TLContextPropagator contextPropagator = new TLContextPropagator(1111);
+        StringResponseClientAsync client = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(ReturnWith200RequestFilter.class)
+                .contextPropagator(contextPropagator)
+                .build(StringResponseClientAsync.class);
+
+        for (int i = 0; i < invocations; i++) {
+            assertEquals(client.get().toCompletableFuture().get(30, TimeUnit.SECONDS), "OK");
+        }
+
+        assertEquals(contextPropagator.getCaptures(), invocations, "The context must be captured once per invocation");
+    }
+
     /**
      * This test verifies that the <code>RestClientBuilder</code> implementation will throw an
      * <code>IllegalArgumentException</code> when a null value is passed to the <code>executorService</code> method.
@@ -279,4 +459,17 @@ public class AsyncMethodTest extends WiremockArquillianTest {
         RestClientBuilder.newBuilder().executorService(null);
         fail("Passing a null ExecutorService should result in an IllegalArgumentException");
     }
+
+    /**
+     * This test verifies that the <code>RestClientBuilder</code> implementation will throw an
+     * <code>IllegalArgumentException</code> when a null value is passed to the <code>contextPropagator</code> method.
+     *
+     * @throws IllegalArgumentException
+     *             - expected when passing null
+     */
+    @Test(expectedExceptions = {IllegalArgumentException.class})
+    public void testNullContextPropagatorThrowsIllegalArgumentException() {
+        RestClientBuilder.newBuilder().contextPropagator(null);
+        fail("Passing a null ContextPropagator should result in an IllegalArgumentException");
+    }
 }
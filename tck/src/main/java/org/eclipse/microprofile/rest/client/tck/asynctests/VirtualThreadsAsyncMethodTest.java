@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.asynctests;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.eclipse.microprofile.rest.client.tck.utils.TestUtils.assumeThat;
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.StringResponseClientAsync;
+import org.eclipse.microprofile.rest.client.tck.providers.VirtualThreadAsyncInvocationInterceptor;
+import org.eclipse.microprofile.rest.client.tck.providers.VirtualThreadAsyncInvocationInterceptorFactory;
+import org.eclipse.microprofile.rest.client.tck.providers.VirtualThreadClientResponseFilter;
+import org.eclipse.microprofile.rest.client.tck.utils.TestUtils;
+import org.eclipse.microprofile.rest.client.tck.utils.VirtualThreads;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+
+/**
+ * This test is a variant of {@link AsyncMethodTest} for clients built with <code>virtualThreads(true)</code>. It
+ * verifies that async invocations and their response processing run on virtual threads, also when many invocations are
+ * outstanding at the same time. It is skipped on Java runtimes that do not support virtual threads.
+ */
+public class VirtualThreadsAsyncMethodTest extends WiremockArquillianTest {
+
+    private static final int CONCURRENT_INVOCATIONS = 500;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        String simpleName = VirtualThreadsAsyncMethodTest.class.getSimpleName();
+        return ShrinkWrap.create(WebArchive.class, simpleName + ".war")
+                .addClasses(WiremockArquillianTest.class,
+                        StringResponseClientAsync.class,
+                        VirtualThreadAsyncInvocationInterceptor.class,
+                        VirtualThreadAsyncInvocationInterceptorFactory.class,
+                        VirtualThreadClientResponseFilter.class,
+                        TestUtils.class,
+                        VirtualThreads.class);
+    }
+
+    @BeforeMethod
+    public void skipWithoutVirtualThreads() {
+        assumeThat("Virtual threads are not supported by this Java runtime", VirtualThreads.isSupported());
+        WireMock.reset();
+    }
+
+    /**
+     * Tests that the response filters and the <code>applyContext</code>/<code>removeContext</code> methods of an
+     * <code>AsyncInvocationInterceptor</code> are invoked on a virtual thread.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testAsyncMethodIsInvokedOnVirtualThread() throws Exception {
+        final String expectedBody = "Hello, Virtual Async Client!";
+        stubFor(get(urlEqualTo("/string"))
+                .willReturn(aResponse()
+                        .withBody(expectedBody)));
+
+        VirtualThreadClientResponseFilter filter = new VirtualThreadClientResponseFilter();
+        VirtualThreadAsyncInvocationInterceptorFactory aiiFactory =
+                new VirtualThreadAsyncInvocationInterceptorFactory();
+        StringResponseClientAsync client = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(filter)
+                .register(aiiFactory)
+                .virtualThreads(true)
+                .build(StringResponseClientAsync.class);
+
+        String body = client.get().toCompletableFuture().get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(body, expectedBody);
+        assertEquals(filter.getInvocations(), 1);
+        assertEquals(filter.getVirtualThreadInvocations(), 1);
+        assertEquals(aiiFactory.getApplyContextOnVirtualThread(), 1);
+        assertEquals(aiiFactory.getRemoveContextOnVirtualThread(), 1);
+
+        verify(1, getRequestedFor(urlEqualTo("/string")));
+    }
+
+    /**
+     * Tests that a large number of concurrent async invocations all complete, with all of their response processing on
+     * virtual threads.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testHighConcurrencyOnVirtualThreads() throws Exception {
+        final String expectedBody = "Hello, Many Virtual Async Clients!";
+        stubFor(get(urlEqualTo("/string"))
+                .willReturn(aResponse()
+                        .withBody(expectedBody)));
+
+        VirtualThreadClientResponseFilter filter = new VirtualThreadClientResponseFilter();
+        VirtualThreadAsyncInvocationInterceptorFactory aiiFactory =
+                new VirtualThreadAsyncInvocationInterceptorFactory();
+        StringResponseClientAsync client = RestClientBuilder.newBuilder()
+                .baseUrl(getServerURL())
+                .register(filter)
+                .register(aiiFactory)
+                .virtualThreads(true)
+                .build(StringResponseClientAsync.class);
+
+        List<CompletableFuture<String>> futures = new ArrayList<>(CONCURRENT_INVOCATIONS);
+        for (int i = 0; i < CONCURRENT_INVOCATIONS; i++) {
+            futures.add(client.get().toCompletableFuture());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        for (CompletableFuture<String> future : futures) {
+            assertEquals(future.get(), expectedBody);
+        }
+        assertEquals(filter.getInvocations(), CONCURRENT_INVOCATIONS);
+        assertEquals(filter.getVirtualThreadInvocations(), CONCURRENT_INVOCATIONS);
+        assertEquals(aiiFactory.getApplyContextInvocations(), CONCURRENT_INVOCATIONS);
+        assertEquals(aiiFactory.getApplyContextOnVirtualThread(), CONCURRENT_INVOCATIONS);
+        assertEquals(aiiFactory.getRemoveContextInvocations(), CONCURRENT_INVOCATIONS);
+        assertEquals(aiiFactory.getRemoveContextOnVirtualThread(), CONCURRENT_INVOCATIONS);
+
+        verify(CONCURRENT_INVOCATIONS, getRequestedFor(urlEqualTo("/string")));
+    }
+}
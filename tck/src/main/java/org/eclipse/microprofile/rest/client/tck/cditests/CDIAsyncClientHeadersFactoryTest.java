@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.cditests;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.ext.CdiAsyncClientHeadersFactory;
+import org.eclipse.microprofile.rest.client.tck.ext.CdiAsyncClientHeadersFactory.PendingHeaders;
+import org.eclipse.microprofile.rest.client.tck.ext.Counter;
+import org.eclipse.microprofile.rest.client.tck.interfaces.CdiAsyncClientHeadersFactoryClient;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWithAllClientHeadersFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.json.JsonObject;
+
+/**
+ * Verifies that an <code>AsyncClientHeadersFactory</code> is composed into asynchronous invocations without blocking
+ * the invoking thread or a thread of the client's executor while the header stage is pending.
+ */
+public class CDIAsyncClientHeadersFactoryTest extends Arquillian {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final long PENDING_MILLIS = 500;
+
+    private ExecutorService caller;
+    private final List<ExecutorService> clientExecutors = new ArrayList<>();
+
+    @Deployment
+    public static Archive<?> createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, CDIAsyncClientHeadersFactoryTest.class.getSimpleName() + ".war")
+                .addClasses(CdiAsyncClientHeadersFactoryClient.class,
+                        CdiAsyncClientHeadersFactory.class,
+                        PendingHeaders.class,
+                        Counter.class,
+                        ReturnWithAllClientHeadersFilter.class)
+                .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    private static CdiAsyncClientHeadersFactoryClient client() {
+        return builder().build(CdiAsyncClientHeadersFactoryClient.class);
+    }
+
+    private CdiAsyncClientHeadersFactoryClient singleThreadedClient() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        clientExecutors.add(executor);
+        return builder().executorService(executor).build(CdiAsyncClientHeadersFactoryClient.class);
+    }
+
+    private static RestClientBuilder builder() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost:9080/notused"))
+                .register(ReturnWithAllClientHeadersFilter.class);
+    }
+
+    @BeforeMethod
+    public void setUp() {
+        CdiAsyncClientHeadersFactory.reset();
+        caller = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        // never leave an invocation waiting for headers
+        CdiAsyncClientHeadersFactory.PENDING.forEach(PendingHeaders::release);
+        caller.shutdownNow();
+        clientExecutors.forEach(ExecutorService::shutdownNow);
+        clientExecutors.clear();
+    }
+
+    private static PendingHeaders awaitPendingHeaders() throws InterruptedException {
+        PendingHeaders headers = CdiAsyncClientHeadersFactory.PENDING.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(headers, "updateAsync was not invoked");
+        return headers;
+    }
+
+    private CompletionStage<JsonObject> invokeAsync(CdiAsyncClientHeadersFactoryClient client) throws Exception {
+        return invokeAsync(client, "argValue");
+    }
+
+    private CompletionStage<JsonObject> invokeAsync(CdiAsyncClientHeadersFactoryClient client, String argHeader)
+            throws Exception {
+        Future<CompletionStage<JsonObject>> invocation = caller.submit(() -> client.delete(argHeader));
+        try {
+            return invocation.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            fail("The invoking thread was blocked while the headers were pending");
+            return null;
+        }
+    }
+
+    /**
+     * Tests that the invoking thread of an asynchronous method returns while the header stage is pending and that the
+     * headers are sent once the stage completes.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testAsyncHeadersDoNotBlock() throws Exception {
+        CompletableFuture<JsonObject> result = invokeAsync(client()).toCompletableFuture();
+        PendingHeaders pendingHeaders = awaitPendingHeaders();
+
+        Thread.sleep(PENDING_MILLIS);
+        assertFalse(result.isDone(), "The invocation completed before its headers");
+
+        pendingHeaders.release();
+        JsonObject headers = result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertFalse(CdiAsyncClientHeadersFactory.isIncomingHeadersMapNull);
+        assertFalse(CdiAsyncClientHeadersFactory.isOutgoingHeadersMapNull);
+        assertEquals(headers.getString("IntfHeader"), "intfValueModified");
+        assertEquals(headers.getString("MethodHeader"), "methodValueModified");
+        assertEquals(headers.getString("ArgHeader"), "argValueModified");
+        assertEquals(headers.getString("FactoryHeader"), "factoryValue");
+        assertEquals(headers.getString("CDI_INJECT_COUNT"), pendingHeaders.headers().getFirst("CDI_INJECT_COUNT"));
+    }
+
+    /**
+     * Tests that a pending header stage does not hold a thread of the client's executor: with a single threaded
+     * executor, an invocation whose headers complete later must not wait for an earlier invocation that is still
+     * pending.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testPendingAsyncHeadersDoNotHoldExecutorThread() throws Exception {
+        CdiAsyncClientHeadersFactoryClient client = singleThreadedClient();
+        CompletableFuture<JsonObject> first = invokeAsync(client, "first").toCompletableFuture();
+        PendingHeaders firstHeaders = awaitPendingHeaders();
+        CompletableFuture<JsonObject> second = invokeAsync(client, "second").toCompletableFuture();
+        PendingHeaders secondHeaders = awaitPendingHeaders();
+
+        secondHeaders.release();
+        assertEquals(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getString("ArgHeader"), "secondModified",
+                "The second invocation did not complete while the first was pending");
+        assertFalse(first.isDone(), "The first invocation completed before its headers");
+
+        firstHeaders.release();
+        assertEquals(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getString("ArgHeader"), "firstModified");
+    }
+
+    /**
+     * Tests that many concurrent asynchronous invocations of a client with a single threaded executor can wait for
+     * their headers at the same time, and that they complete in the order their headers do.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testManyPendingAsyncHeaders() throws Exception {
+        final int invocations = 200;
+        CdiAsyncClientHeadersFactoryClient client = singleThreadedClient();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<JsonObject>[] results = new CompletableFuture[invocations];
+        PendingHeaders[] pendingHeaders = new PendingHeaders[invocations];
+        for (int i = 0; i < invocations; i++) {
+            results[i] = invokeAsync(client).toCompletableFuture();
+            pendingHeaders[i] = awaitPendingHeaders();
+        }
+
+        for (CompletableFuture<JsonObject> result : results) {
+            assertFalse(result.isDone(), "The invocation completed before its headers");
+        }
+
+        for (int i = invocations - 1; i >= 0; i--) {
+            pendingHeaders[i].release();
+            assertEquals(results[i].get(TIMEOUT_SECONDS, TimeUnit.SECONDS).getString("FactoryHeader"),
+                    "factoryValue");
+            if (i > 0) {
+                assertFalse(results[i - 1].isDone(), "The invocation completed before its headers");
+            }
+        }
+    }
+
+    /**
+     * Tests that the stage returned by an asynchronous method completes exceptionally with the cause of an
+     * exceptionally completed header stage.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testFailedAsyncHeadersFailInvocation() throws Exception {
+        CompletableFuture<JsonObject> result = invokeAsync(client()).toCompletableFuture();
+        PendingHeaders pendingHeaders = awaitPendingHeaders();
+
+        pendingHeaders.completeExceptionally(new IllegalStateException("no token"));
+
+        try {
+            result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            fail("Expected the invocation to fail");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException, "Unexpected cause: " + e.getCause());
+            assertEquals(e.getCause().getMessage(), "no token");
+        }
+    }
+
+    /**
+     * Tests that a synchronous method waits for the header stage and sends the headers it completes with.
+     *
+     * @throws Exception
+     *             - indicates test failure
+     */
+    @Test
+    public void testSyncMethodWaitsForAsyncHeaders() throws Exception {
+        CdiAsyncClientHeadersFactoryClient client = client();
+        Future<JsonObject> result = caller.submit(() -> client.deleteSync("argValue"));
+        PendingHeaders pendingHeaders = awaitPendingHeaders();
+
+        Thread.sleep(PENDING_MILLIS);
+        assertFalse(result.isDone(), "The invocation completed before its headers");
+
+        pendingHeaders.release();
+        JsonObject headers = result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertEquals(headers.getString("IntfHeader"), "intfValueModified");
+        assertEquals(headers.getString("MethodHeader"), "methodValueModified");
+        assertEquals(headers.getString("ArgHeader"), "argValueModified");
+        assertEquals(headers.getString("FactoryHeader"), "factoryValue");
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.connectionpool;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.testng.log4testng.Logger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTP server recording the client ports requests arrived from, so that tests can tell how many connections a client
+ * opened. Responses are held for the configured response delay before being sent.
+ */
+public class ConnectionPoolServer implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(ConnectionPoolServer.class);
+
+    static final String RESPONSE_BODY = "pooled";
+
+    private final Server server = new Server();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long responseDelay;
+
+    public ConnectionPoolServer start(String host, int port) {
+        server.setHandler(
+                new AbstractHandler() {
+                    @Override
+                    public void handle(String path,
+                            Request request,
+                            HttpServletRequest httpRequest,
+                            HttpServletResponse response) throws IOException {
+                        clientPorts.add(httpRequest.getRemotePort());
+                        requestCount.incrementAndGet();
+                        delayResponse();
+                        response.setContentType("text/plain");
+                        try (PrintWriter writer = response.getWriter()) {
+                            writer.print(RESPONSE_BODY);
+                        }
+                        request.setHandled(true);
+                    }
+                });
+
+        ServerConnector connector = new ServerConnector(server);
+        connector.setHost(host);
+        connector.setPort(port);
+        server.addConnector(connector);
+
+        try {
+            server.start();
+            LOG.debug("started");
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to start connection pool server", e);
+        }
+        return this;
+    }
+
+    private void delayResponse() {
+        long delay = responseDelay;
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @param responseDelay
+     *            the number of milliseconds subsequent responses are held for
+     */
+    public void setResponseDelay(long responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    /**
+     * @return the number of distinct client connections requests arrived on
+     */
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public void reset() {
+        clientPorts.clear();
+        requestCount.set(0);
+        responseDelay = 0;
+    }
+
+    public void stop() {
+        try {
+            server.stop();
+            LOG.debug("stopped");
+        } catch (Exception e) {
+            LOG.error("Failed to stop", e);
+            throw new RuntimeException("Failed to stop connection pool server", e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+    }
+}
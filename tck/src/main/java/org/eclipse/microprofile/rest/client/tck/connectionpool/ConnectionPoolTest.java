@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.connectionpool;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+public class ConnectionPoolTest extends ConnectionPoolTestBase {
+
+    @Deployment
+    public static Archive<?> createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, ConnectionPoolTest.class.getSimpleName() + ".war")
+                .addClasses(ConnectionPoolTestBase.class,
+                        ConnectionPoolServer.class,
+                        SimpleGetApi.class);
+    }
+
+    @Override
+    protected SimpleGetApi getClient() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(SERVER_URI)
+                .maxConnectionsPerHost(MAX_CONNECTIONS_PER_HOST)
+                .maxConnections(MAX_CONNECTIONS_PER_HOST)
+                .connectionIdleTimeout(1, TimeUnit.MINUTES)
+                .connectionTimeToLive(5, TimeUnit.MINUTES)
+                .connectionAcquireTimeout(ACQUIRE_TIMEOUT, TimeUnit.MILLISECONDS)
+                .build(SimpleGetApi.class);
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.connectionpool;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.net.URI;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.jboss.arquillian.testng.Arquillian;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Verifies that the connection pool of a client built with a single connection per host reuses that connection for
+ * sequential requests and makes concurrent requests wait for it, at most for the acquire timeout.
+ */
+public abstract class ConnectionPoolTestBase extends Arquillian {
+    protected static final int MAX_CONNECTIONS_PER_HOST = 1;
+    protected static final int ACQUIRE_TIMEOUT = 2000;
+
+    protected static final String HOST = System.getProperty("connectionpool.server.host", "localhost");
+    protected static final int PORT = Integer.getInteger("connectionpool.server.port", 10014);
+    protected static final URI SERVER_URI = URI.create("http://" + HOST + ":" + PORT + "/");
+
+    private static final int SEQUENTIAL_REQUESTS = 20;
+    private static final int SLOW_RESPONSE_DELAY = 10000;
+
+    protected static final int TIMEOUT_CUSHION =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger(
+                    "org.eclipse.microprofile.rest.client.tck.timeoutCushion",
+                    1000));
+
+    protected static final int ROUNDING_FACTOR_CUSHION =
+            AccessController.doPrivileged((PrivilegedAction<Integer>) () -> Integer.getInteger(
+                    "org.eclipse.microprofile.rest.client.tck.roundingFactorCushion",
+                    300));
+
+    private static ConnectionPoolServer server;
+
+    @BeforeClass
+    public static void startServer() {
+        server = new ConnectionPoolServer().start(HOST, PORT);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.reset();
+    }
+
+    @Test
+    public void testConnectionIsReusedForSequentialRequests() {
+        SimpleGetApi client = getClient();
+        for (int i = 0; i < SEQUENTIAL_REQUESTS; i++) {
+            // with a single connection per host, each request can only acquire a connection if the previous
+            // one was released back to the pool when its response was closed
+            try (Response response = client.executeGet()) {
+                assertEquals(response.getStatus(), 200);
+                assertEquals(response.readEntity(String.class), ConnectionPoolServer.RESPONSE_BODY);
+            }
+        }
+
+        assertEquals(server.getRequestCount(), SEQUENTIAL_REQUESTS);
+        assertEquals(server.getConnectionCount(), 1,
+                "Expected all sequential requests to be sent over a single pooled connection");
+    }
+
+    @Test
+    public void testAcquireTimeoutWhenPoolIsExhausted() throws Exception {
+        server.setResponseDelay(SLOW_RESPONSE_DELAY);
+
+        SimpleGetApi client = getClient();
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> client.executeGet().close());
+        try {
+            awaitRequestReceived();
+
+            long startTime = System.nanoTime();
+            try {
+                client.executeGet().close();
+                fail("A ProcessingException should have been thrown as no pooled connection was available");
+            } catch (ProcessingException expected) {
+                long elapsedMs = TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                assertTrue(elapsedMs >= ACQUIRE_TIMEOUT - ROUNDING_FACTOR_CUSHION,
+                        "Expected to wait for the acquire timeout, but failed after " + elapsedMs + "ms.");
+                final long elapsedLimit = ACQUIRE_TIMEOUT + TIMEOUT_CUSHION;
+                assertTrue(elapsedMs < elapsedLimit,
+                        "Elapsed time expected under " + elapsedLimit + "ms, but was " + elapsedMs + "ms.");
+            }
+
+            // the second request must never have reached the server
+            assertEquals(server.getRequestCount(), 1);
+        } finally {
+            inFlight.get(SLOW_RESPONSE_DELAY + TIMEOUT_CUSHION, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void awaitRequestReceived() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SLOW_RESPONSE_DELAY);
+        while (server.getRequestCount() == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("The first request did not reach the server");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * @return a client for {@link #SERVER_URI}, configured with {@link #MAX_CONNECTIONS_PER_HOST} connections per host
+     *         and an acquire timeout of {@link #ACQUIRE_TIMEOUT} milliseconds.
+     */
+    protected abstract SimpleGetApi getClient();
+}
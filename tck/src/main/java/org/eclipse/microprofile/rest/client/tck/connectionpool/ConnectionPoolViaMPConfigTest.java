@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.connectionpool;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+
+import jakarta.inject.Inject;
+
+public class ConnectionPoolViaMPConfigTest extends ConnectionPoolTestBase {
+
+    @Inject
+    @RestClient
+    private SimpleGetApi api;
+
+    @Deployment
+    public static Archive<?> createDeployment() {
+        String clientName = SimpleGetApi.class.getName();
+        String poolProps =
+                clientName + "/mp-rest/uri=" + SERVER_URI + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/maxConnectionsPerHost=" + MAX_CONNECTIONS_PER_HOST
+                        + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/maxConnections=" + MAX_CONNECTIONS_PER_HOST
+                        + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/idleTimeout=60000" + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/timeToLive=300000" + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/acquireTimeout=" + ACQUIRE_TIMEOUT;
+        StringAsset mpConfig = new StringAsset(poolProps);
+        return ShrinkWrap.create(WebArchive.class, ConnectionPoolViaMPConfigTest.class.getSimpleName() + ".war")
+                .addAsWebInfResource(mpConfig, "classes/META-INF/microprofile-config.properties")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addClasses(SimpleGetApi.class,
+                        ConnectionPoolTestBase.class,
+                        ConnectionPoolServer.class);
+    }
+
+    @Override
+    protected SimpleGetApi getClient() {
+        return api;
+    }
+}
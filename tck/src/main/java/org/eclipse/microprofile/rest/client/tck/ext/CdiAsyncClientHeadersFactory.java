@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.rest.client.tck.ext;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.microprofile.rest.client.ext.AsyncClientHeadersFactory;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+/**
+ * An <code>AsyncClientHeadersFactory</code> whose header stages stay pending until the test completes them.
+ */
+@ApplicationScoped
+public class CdiAsyncClientHeadersFactory implements AsyncClientHeadersFactory {
+
+    // CHECKSTYLE:OFF
+    public static final BlockingQueue<PendingHeaders> PENDING = new LinkedBlockingQueue<>();
+    public static volatile boolean isIncomingHeadersMapNull;
+    public static volatile boolean isOutgoingHeadersMapNull;
+    // CHECKSTYLE:ON
+
+    @Inject
+    private Counter counter;
+
+    public static void reset() {
+        PENDING.clear();
+        isIncomingHeadersMapNull = true;
+        isOutgoingHeadersMapNull = true;
+    }
+
+    @Override
+    public CompletionStage<MultivaluedMap<String, String>> updateAsync(MultivaluedMap<String, String> incomingHeaders,
+            MultivaluedMap<String, String> clientOutgoingHeaders) {
+        isIncomingHeadersMapNull = incomingHeaders == null;
+        isOutgoingHeadersMapNull = clientOutgoingHeaders == null;
+
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.putSingle("FactoryHeader", "factoryValue");
+        if (clientOutgoingHeaders != null) {
+            clientOutgoingHeaders.forEach((k, v) -> headers.putSingle(k, v.get(0) + "Modified"));
+        }
+        if (counter != null) {
+            headers.putSingle("CDI_INJECT_COUNT", "" + counter.count());
+        }
+
+        PendingHeaders stage = new PendingHeaders(headers);
+        PENDING.add(stage);
+        return stage;
+    }
+
+    /**
+     * A header stage that is completed by the test.
+     */
+    public static class PendingHeaders extends CompletableFuture<MultivaluedMap<String, String>> {
+
+        private final MultivaluedMap<String, String> headers;
+
+        PendingHeaders(MultivaluedMap<String, String> headers) {
+            this.headers = headers;
+        }
+
+        public MultivaluedMap<String, String> headers() {
+            return headers;
+        }
+
+        public void release() {
+            complete(headers);
+        }
+    }
+}
@@ -17,12 +17,31 @@
  */
 package org.eclipse.microprofile.rest.client.tck.ext;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class HeaderGenerator {
 
+    private static final AtomicInteger TOKENS = new AtomicInteger();
+
     private HeaderGenerator() {
     }
 
     public static String[] generateHeader(String headerName) {
         return new String[]{"value1", "value2"};
     }
+
+    /**
+     * Stands for an expensive compute method, such as one minting a signed token. Each invocation returns a new value.
+     */
+    public static String generateToken() {
+        return "token" + TOKENS.incrementAndGet();
+    }
+
+    public static int generatedTokens() {
+        return TOKENS.get();
+    }
+
+    public static void resetTokens() {
+        TOKENS.set(0);
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.http2;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.testng.log4testng.Logger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ *
+ * HTTP server accepting HTTP/1.1 and HTTP/2 connections, both in cleartext (h2c, with prior knowledge or upgrade) and
+ * over TLS (h2, negotiated with ALPN). Each response contains the protocol of the request, as seen by the server.
+ *
+ * Requests to <code>/concurrent</code> are held for {@link #RESPONSE_DELAY} milliseconds, while the server records the
+ * client ports they arrived from and the maximum number of them in flight at the same time.
+ */
+public class Http2Server implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(Http2Server.class);
+
+    static final long RESPONSE_DELAY = 1000;
+
+    private final Server server = new Server();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public Http2Server start(String host, int cleartextPort, int tlsPort, String keyStore, String keyStorePassword) {
+        server.setHandler(
+                new AbstractHandler() {
+                    @Override
+                    public void handle(String path,
+                            Request request,
+                            HttpServletRequest httpRequest,
+                            HttpServletResponse response) throws IOException {
+                        if (path.endsWith("/concurrent")) {
+                            holdConcurrentRequest(httpRequest);
+                        }
+                        response.setContentType("text/plain");
+                        try (PrintWriter writer = response.getWriter()) {
+                            writer.print(httpRequest.getProtocol());
+                        }
+                        request.setHandled(true);
+                    }
+                });
+
+        HttpConfiguration httpConfig = new HttpConfiguration();
+        ServerConnector cleartextConnector = new ServerConnector(server,
+                new HttpConnectionFactory(httpConfig),
+                new HTTP2CServerConnectionFactory(httpConfig));
+        cleartextConnector.setHost(host);
+        cleartextConnector.setPort(cleartextPort);
+        server.addConnector(cleartextConnector);
+
+        HttpConfiguration httpsConfig = new HttpConfiguration(httpConfig);
+        httpsConfig.setSecureScheme("https");
+        httpsConfig.setSecurePort(tlsPort);
+        // We need to disable SNI checking as localhost is restricted.
+        SecureRequestCustomizer customizer = new SecureRequestCustomizer();
+        customizer.setSniRequired(false);
+        customizer.setSniHostCheck(false);
+        httpsConfig.addCustomizer(customizer);
+
+        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+        sslContextFactory.setKeyStorePath(keyStore);
+        sslContextFactory.setKeyStorePassword(keyStorePassword);
+        sslContextFactory.setKeyStoreType("pkcs12");
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+
+        ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
+        alpn.setDefaultProtocol(HttpVersion.HTTP_1_1.asString());
+        ServerConnector tlsConnector = new ServerConnector(server,
+                new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+                alpn,
+                new HTTP2ServerConnectionFactory(httpsConfig),
+                new HttpConnectionFactory(httpsConfig));
+        tlsConnector.setHost(host);
+        tlsConnector.setPort(tlsPort);
+        server.addConnector(tlsConnector);
+
+        try {
+            server.start();
+            LOG.debug("started");
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to start HTTP/2 server", e);
+        }
+        return this;
+    }
+
+    private void holdConcurrentRequest(HttpServletRequest request) {
+        clientPorts.add(request.getRemotePort());
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(RESPONSE_DELAY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * @return the number of distinct client connections <code>/concurrent</code> requests arrived on
+     */
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    /**
+     * @return the maximum number of <code>/concurrent</code> requests that were in flight at the same time
+     */
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public void reset() {
+        clientPorts.clear();
+        maxInFlight.set(0);
+    }
+
+    public void stop() {
+        try {
+            server.stop();
+            LOG.debug("stopped");
+        } catch (Exception e) {
+            LOG.error("Failed to stop", e);
+            throw new RuntimeException("Failed to stop HTTP/2 server", e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.http2;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.security.KeyStore;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.HttpVersion;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ClassLoaderAsset;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies the protocol negotiated for each {@link HttpVersion}, and that concurrent HTTP/2 requests are multiplexed
+ * over a single connection within the configured stream limit.
+ */
+public class Http2Test extends Http2TestBase {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, Http2Test.class.getSimpleName() + ".war")
+                .addClasses(Http2Client.class,
+                        Http2TestBase.class,
+                        Http2Server.class)
+                .addAsWebInfResource(new ClassLoaderAsset("ssl/server.keystore"), "classes/ssl/server.keystore")
+                .addAsWebInfResource(new ClassLoaderAsset("ssl/client.truststore"), "classes/ssl/client.truststore")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @Test
+    public void testHttp11() {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(CLEARTEXT_URI)
+                .httpVersion(HttpVersion.HTTP_1_1)
+                .build(Http2Client.class);
+
+        assertEquals(client.protocol(), HTTP_1_1);
+    }
+
+    @Test
+    public void testH2cWithPriorKnowledge() {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(CLEARTEXT_URI)
+                .httpVersion(HttpVersion.HTTP_2_PRIOR_KNOWLEDGE)
+                .build(Http2Client.class);
+
+        assertEquals(client.protocol(), HTTP_2);
+    }
+
+    @Test
+    public void testH2cWithUpgrade() {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(CLEARTEXT_URI)
+                .httpVersion(HttpVersion.HTTP_2)
+                .build(Http2Client.class);
+
+        // the request carrying the upgrade may still be answered over HTTP/1.1,
+        // but the connection must use HTTP/2 afterwards
+        client.protocol();
+        assertEquals(client.protocol(), HTTP_2);
+    }
+
+    @Test
+    public void testH2WithAlpn() throws Exception {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(TLS_URI)
+                .trustStore(loadTrustStore())
+                .httpVersion(HttpVersion.HTTP_2)
+                .build(Http2Client.class);
+
+        assertEquals(client.protocol(), HTTP_2);
+    }
+
+    @Test
+    public void testConcurrentRequestsAreMultiplexed() throws Exception {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(CLEARTEXT_URI)
+                .httpVersion(HttpVersion.HTTP_2_PRIOR_KNOWLEDGE)
+                .maxConnectionsPerHost(1)
+                .build(Http2Client.class);
+
+        invokeConcurrently(client);
+
+        assertEquals(server.getConnectionCount(), 1,
+                "Expected all requests to be multiplexed over a single connection");
+        assertTrue(server.getMaxInFlight() > 1,
+                "Expected requests to be in flight concurrently, but max was " + server.getMaxInFlight());
+    }
+
+    @Test
+    public void testMaxConcurrentStreams() throws Exception {
+        Http2Client client = RestClientBuilder.newBuilder()
+                .baseUri(CLEARTEXT_URI)
+                .httpVersion(HttpVersion.HTTP_2_PRIOR_KNOWLEDGE)
+                .maxConnectionsPerHost(1)
+                .maxConcurrentStreams(MAX_CONCURRENT_STREAMS)
+                .build(Http2Client.class);
+
+        invokeConcurrently(client);
+
+        assertEquals(server.getConnectionCount(), 1);
+        assertTrue(server.getMaxInFlight() <= MAX_CONCURRENT_STREAMS,
+                "Expected at most " + MAX_CONCURRENT_STREAMS + " concurrent streams, but there were "
+                        + server.getMaxInFlight());
+    }
+
+    private static KeyStore loadTrustStore() throws Exception {
+        KeyStore trustStore = KeyStore.getInstance("pkcs12");
+        try (InputStream input = Http2Test.class.getResourceAsStream("/ssl/client.truststore")) {
+            trustStore.load(input, PASSWORD.toCharArray());
+        }
+        return trustStore;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.http2;
+
+import static org.testng.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.arquillian.testng.Arquillian;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+/**
+ * Starts the HTTP/2 server shared by the HTTP/2 tests, which serves cleartext and TLS connections.
+ */
+public abstract class Http2TestBase extends Arquillian {
+
+    protected static final String HOST = System.getProperty("http2.server.host", "localhost");
+    protected static final int CLEARTEXT_PORT = Integer.getInteger("http2.server.port", 10010);
+    protected static final int TLS_PORT = Integer.getInteger("http2.server.tlsPort", 10011);
+    protected static final URI CLEARTEXT_URI = URI.create("http://" + HOST + ":" + CLEARTEXT_PORT);
+    protected static final URI TLS_URI = URI.create("https://" + HOST + ":" + TLS_PORT);
+    protected static final String PASSWORD = "password";
+
+    protected static final String HTTP_1_1 = "HTTP/1.1";
+    protected static final String HTTP_2 = "HTTP/2.0";
+    protected static final int CONCURRENT_REQUESTS = 8;
+    protected static final int MAX_CONCURRENT_STREAMS = 2;
+
+    protected static Http2Server server;
+
+    @BeforeClass
+    public static void startServer() {
+        String keyStore = Http2TestBase.class.getResource("/ssl/server.keystore").toExternalForm();
+        server = new Http2Server().start(HOST, CLEARTEXT_PORT, TLS_PORT, keyStore, PASSWORD);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.reset();
+    }
+
+    protected static void invokeConcurrently(Http2Client client) throws Exception {
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            responses.add(client.concurrent().toCompletableFuture());
+        }
+        long timeout = Http2Server.RESPONSE_DELAY * CONCURRENT_REQUESTS * 2;
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).get(timeout, TimeUnit.MILLISECONDS);
+        for (CompletableFuture<String> response : responses) {
+            assertEquals(response.get(), HTTP_2);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.http2;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ClassLoaderAsset;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.inject.Inject;
+
+/**
+ * Verifies that the <code>mp-rest/httpVersion</code> and <code>mp-rest/http2/maxConcurrentStreams</code> MicroProfile
+ * Config properties of a CDI injected client select HTTP/2 and limit the number of concurrent streams.
+ */
+public class Http2ViaMPConfigTest extends Http2TestBase {
+
+    @Inject
+    @RestClient
+    private Http2Client client;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        String clientName = Http2Client.class.getName();
+        String http2Props =
+                clientName + "/mp-rest/uri=" + CLEARTEXT_URI + System.lineSeparator() +
+                        clientName + "/mp-rest/httpVersion=HTTP_2_PRIOR_KNOWLEDGE" + System.lineSeparator() +
+                        clientName + "/mp-rest/http2/maxConcurrentStreams=" + MAX_CONCURRENT_STREAMS
+                        + System.lineSeparator() +
+                        clientName + "/mp-rest/connectionPool/maxConnectionsPerHost=1";
+        StringAsset mpConfig = new StringAsset(http2Props);
+        return ShrinkWrap.create(WebArchive.class, Http2ViaMPConfigTest.class.getSimpleName() + ".war")
+                .addAsWebInfResource(mpConfig, "classes/META-INF/microprofile-config.properties")
+                .addAsWebInfResource(new ClassLoaderAsset("ssl/server.keystore"), "classes/ssl/server.keystore")
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
+                .addClasses(Http2Client.class,
+                        Http2TestBase.class,
+                        Http2Server.class);
+    }
+
+    @Test
+    public void testHttpVersion() {
+        assertEquals(client.protocol(), HTTP_2);
+    }
+
+    @Test
+    public void testMaxConcurrentStreams() throws Exception {
+        invokeConcurrently(client);
+
+        assertEquals(server.getConnectionCount(), 1);
+        assertTrue(server.getMaxInFlight() <= MAX_CONCURRENT_STREAMS,
+                "Expected at most " + MAX_CONCURRENT_STREAMS + " concurrent streams, but there were "
+                        + server.getMaxInFlight());
+    }
+}
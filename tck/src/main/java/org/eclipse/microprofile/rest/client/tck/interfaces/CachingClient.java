@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import org.eclipse.microprofile.rest.client.annotation.Cacheable;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/cache")
+@Produces(MediaType.TEXT_PLAIN)
+public interface CachingClient {
+
+    @GET
+    @Path("resource")
+    @Cacheable
+    String get();
+
+    @GET
+    @Path("resource")
+    String getNotCacheable();
+
+    @GET
+    @Path("resource")
+    @Cacheable(maxAge = 60)
+    String getWithDefaultMaxAge();
+
+    @GET
+    @Path("language")
+    @Cacheable
+    String getLanguage(@HeaderParam("Accept-Language") String language);
+
+    @PUT
+    @Path("resource")
+    @Consumes(MediaType.TEXT_PLAIN)
+    void put(String value);
+}
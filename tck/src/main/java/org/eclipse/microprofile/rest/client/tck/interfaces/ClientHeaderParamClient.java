@@ -19,6 +19,8 @@
 package org.eclipse.microprofile.rest.client.tck.interfaces;
 
 import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam.Scope;
+import org.eclipse.microprofile.rest.client.tck.ext.HeaderGenerator;
 
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.GET;
@@ -33,6 +35,8 @@ import jakarta.ws.rs.Path;
 @ClientHeaderParam(name = "InterfaceMultiValuedHeaderExplicit", value = {"abc", "xyz"})
 @Path("/")
 public interface ClientHeaderParamClient {
+    long TOKEN_TTL = 1000;
+
     @GET
     String interfaceExplicit();
 
@@ -85,6 +89,22 @@ public interface ClientHeaderParamClient {
     // CHECKSTYLE:OFF
     String methodComputeMultiValuedHeaderFromOtherClass();
 
+    @GET
+    @ClientHeaderParam(name = "Token", value = "{computeToken}")
+    JsonObject perInvocationToken();
+
+    @GET
+    @ClientHeaderParam(name = "Token", value = "{computeToken}", scope = Scope.PER_CLIENT)
+    JsonObject perClientToken();
+
+    @GET
+    @ClientHeaderParam(name = "Token", value = "{computeToken}", scope = Scope.PER_CLIENT, cacheFor = TOKEN_TTL)
+    JsonObject perClientTokenWithTtl();
+
+    @GET
+    @ClientHeaderParam(name = "Token", value = "{computeToken}", scope = Scope.PER_THREAD)
+    JsonObject perThreadToken();
+
     default String computeForInterface() {
         return "interfaceComputed";
     }
@@ -105,6 +125,10 @@ public interface ClientHeaderParamClient {
         return "overriddenMethodComputed";
     }
 
+    default String computeToken() {
+        return HeaderGenerator.generateToken();
+    }
+
     default String fail() {
         throw new RuntimeException("intentional");
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.rest.client.annotation.Coalesce;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/coalesce/{id}")
+@Produces(MediaType.APPLICATION_OCTET_STREAM)
+public interface CoalescingClient {
+
+    @GET
+    @Coalesce
+    byte[] get(@PathParam("id") String id);
+
+    @GET
+    @Coalesce(Coalesce.Delivery.COPY)
+    byte[] getCopy(@PathParam("id") String id);
+
+    @GET
+    @Coalesce
+    CompletionStage<byte[]> getAsync(@PathParam("id") String id);
+
+    @GET
+    @Coalesce(ignoreHeaders = "X-Request-Id")
+    byte[] getWithHeaders(@PathParam("id") String id,
+            @HeaderParam("X-Tenant") String tenant,
+            @HeaderParam("X-Request-Id") String requestId);
+
+    @GET
+    byte[] getNotCoalesced(@PathParam("id") String id);
+}
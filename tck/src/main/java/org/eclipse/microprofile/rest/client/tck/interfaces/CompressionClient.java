@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import java.io.InputStream;
+
+import org.eclipse.microprofile.rest.client.annotation.Compressed;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+@Path("/compression")
+public interface CompressionClient {
+
+    @GET
+    @Path("text")
+    @Produces(MediaType.TEXT_PLAIN)
+    String text();
+
+    @GET
+    @Path("text")
+    @Produces(MediaType.TEXT_PLAIN)
+    Response textResponse();
+
+    @GET
+    @Path("large")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    InputStream large();
+
+    @POST
+    @Path("upload")
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Compressed
+    Response upload(String body);
+
+    @POST
+    @Path("upload")
+    @Consumes(MediaType.TEXT_PLAIN)
+    @Compressed("deflate")
+    Response uploadDeflate(String body);
+
+    @POST
+    @Path("upload")
+    @Consumes(MediaType.TEXT_PLAIN)
+    Response uploadUncompressed(String body);
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.rest.client.annotation.Hedge;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/hedge")
+@Produces(MediaType.TEXT_PLAIN)
+public interface HedgingClient {
+
+    @GET
+    @Hedge(delay = 200)
+    String get();
+
+    @GET
+    @Hedge(delay = 200)
+    CompletionStage<String> getAsync();
+
+    @GET
+    @Hedge(delay = 100, maxAttempts = 3)
+    String getWithThreeAttempts();
+
+    @GET
+    @Hedge
+    String getWithPercentileDelay();
+
+    @GET
+    String getNotHedged();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import org.eclipse.microprofile.rest.client.annotation.RequestTimeout;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.core.Response;
+
+@Path("/timeouts")
+@RegisterRestClient
+public interface MethodTimeoutApi {
+
+    int METHOD_TIMEOUT = 2000;
+
+    @GET
+    Response executeGet();
+
+    @GET
+    @RequestTimeout(read = METHOD_TIMEOUT)
+    Response executeGetWithReadTimeout();
+
+    @GET
+    @RequestTimeout(total = METHOD_TIMEOUT)
+    String executeGetWithTotalTimeout();
+}
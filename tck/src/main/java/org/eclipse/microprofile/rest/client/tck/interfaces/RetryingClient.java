@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.interfaces;
+
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.annotation.RetryPolicy;
+import org.eclipse.microprofile.rest.client.tck.providers.ConflictResponseExceptionMapper;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/retry")
+@Produces(MediaType.TEXT_PLAIN)
+@RegisterProvider(ConflictResponseExceptionMapper.class)
+public interface RetryingClient {
+
+    @GET
+    @RetryPolicy(delay = 200)
+    String get();
+
+    @GET
+    @RetryPolicy(delay = 200)
+    CompletionStage<String> getAsync();
+
+    @GET
+    @RetryPolicy(delay = 100, maxDelay = 2000)
+    String getWithMaxDelay();
+
+    @GET
+    @RetryPolicy(delay = 100, retryOnExceptions = ConflictResponseExceptionMapper.ConflictException.class)
+    String getRetryingConflicts();
+
+    @GET
+    @RetryPolicy(maxAttempts = 3, delay = 10, jitter = 0)
+    String getWithShortDelay();
+
+    @POST
+    @RetryPolicy(delay = 100)
+    String post(String body);
+
+    @POST
+    @RetryPolicy(delay = 100, retryNonIdempotent = true)
+    String postRetryingNonIdempotent(String body);
+
+    @GET
+    String getNotRetried();
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.model;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.StringReader;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam.Scope;
+import org.eclipse.microprofile.rest.client.model.ClientModel;
+import org.eclipse.microprofile.rest.client.model.HeaderModel;
+import org.eclipse.microprofile.rest.client.model.ParameterModel;
+import org.eclipse.microprofile.rest.client.tck.ext.HeaderGenerator;
+import org.eclipse.microprofile.rest.client.tck.interfaces.ClientHeaderParamClient;
+import org.eclipse.microprofile.rest.client.tck.interfaces.InterfaceUsingBeanParam;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MyBean;
+import org.eclipse.microprofile.rest.client.tck.providers.BeanParamFilter;
+import org.eclipse.microprofile.rest.client.tck.providers.ReturnWithAllClientHeadersFilter;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Verifies that client instances built from the client models generated at compile time behave the same as client
+ * instances built by reflecting on the client interfaces. The TCK generates the models of these interfaces with the
+ * <code>microprofile.rest.client.model.interfaces</code> processor option, as they are not annotated with
+ * <code>RegisterRestClient</code>.
+ */
+public class GeneratedClientModelTest extends Arquillian {
+
+    @Deployment
+    public static Archive<?> createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, GeneratedClientModelTest.class.getSimpleName() + ".war")
+                .addClasses(InterfaceUsingBeanParam.class,
+                        ClientHeaderParamClient.class,
+                        MyBean.class,
+                        BeanParamFilter.class,
+                        ReturnWithAllClientHeadersFilter.class,
+                        HeaderGenerator.class)
+                .addAsResource(ClientModel.resourceName(InterfaceUsingBeanParam.class.getName()))
+                .addAsResource(ClientModel.resourceName(ClientHeaderParamClient.class.getName()));
+    }
+
+    private static <T> T client(Class<T> clientInterface, Class<?> provider, boolean useGeneratedModel) {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost/stub"))
+                .register(provider)
+                .property(ClientModel.DISABLE_PROPERTY, !useGeneratedModel)
+                .build(clientInterface);
+    }
+
+    private static Set<String> reflectiveSignatures(Class<?> clientInterface) {
+        return Arrays.stream(clientInterface.getMethods())
+                .filter(method -> Modifier.isAbstract(method.getModifiers()))
+                .map(method -> method.getName() + Arrays.stream(method.getParameterTypes())
+                        .map(Class::getTypeName)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> modelSignatures(ClientModel model) {
+        return model.getMethods().stream()
+                .map(method -> method.getName() + method.getParameters().stream()
+                        .map(ParameterModel::getType)
+                        .collect(Collectors.toList()))
+                .collect(Collectors.toSet());
+    }
+
+    private static JsonObject json(String headers) {
+        return Json.createReader(new StringReader(headers)).readObject();
+    }
+
+    @Test
+    public void testModelsAreGenerated() {
+        for (Class<?> clientInterface : Arrays.asList(InterfaceUsingBeanParam.class,
+                ClientHeaderParamClient.class)) {
+            Optional<ClientModel> model = ClientModel.load(clientInterface);
+            assertTrue(model.isPresent(), "No client model was generated for " + clientInterface);
+            assertEquals(model.get().getInterfaceName(), clientInterface.getName());
+            assertEquals(modelSignatures(model.get()), reflectiveSignatures(clientInterface),
+                    "The generated model of " + clientInterface + " does not match its methods");
+        }
+    }
+
+    @Test
+    public void testBeanParamBehavesTheSame() {
+        InterfaceUsingBeanParam generated = client(InterfaceUsingBeanParam.class, BeanParamFilter.class, true);
+        InterfaceUsingBeanParam reflective = client(InterfaceUsingBeanParam.class, BeanParamFilter.class, false);
+
+        MyBean myBean = new MyBean("qParam", "123", "headerVal");
+        Response generatedResponse = generated.executePut(myBean, "body");
+        Response reflectiveResponse = reflective.executePut(myBean, "body");
+
+        assertEquals(generatedResponse.getStatus(), 200, "Unexpected response - filter not properly registered");
+        String generatedEntity = generatedResponse.readEntity(String.class);
+        assertEquals(generatedEntity, reflectiveResponse.readEntity(String.class),
+                "The generated and reflective models sent different requests");
+        assertTrue(generatedEntity.contains("qParam"), "QueryParam value not sent in request");
+        assertTrue(generatedEntity.contains("123"), "CookieParam value not sent in request");
+        assertTrue(generatedEntity.contains("headerVal"), "HeaderParam value not sent in request");
+        assertTrue(generatedEntity.contains("body"), "Body not sent in request");
+    }
+
+    @Test
+    public void testClientHeaderParamBehavesTheSame() {
+        ClientHeaderParamClient generated = client(ClientHeaderParamClient.class,
+                ReturnWithAllClientHeadersFilter.class, true);
+        ClientHeaderParamClient reflective = client(ClientHeaderParamClient.class,
+                ReturnWithAllClientHeadersFilter.class, false);
+
+        assertSameHeaders(generated, reflective, ClientHeaderParamClient::interfaceExplicit);
+        assertSameHeaders(generated, reflective, ClientHeaderParamClient::methodExplicit);
+        assertSameHeaders(generated, reflective,
+                ClientHeaderParamClient::methodClientHeaderParamOverridesInterfaceExplicit);
+        assertSameHeaders(generated, reflective, ClientHeaderParamClient::methodComputed);
+        assertSameHeaders(generated, reflective, client -> client.headerParamOverridesInterfaceComputed("override"));
+        assertSameHeaders(generated, reflective,
+                ClientHeaderParamClient::methodComputeMultiValuedHeaderFromOtherClass);
+        assertEquals(generated.methodOptionalMethodHeaderNotSentWhenComputeThrowsException(),
+                reflective.methodOptionalMethodHeaderNotSentWhenComputeThrowsException(),
+                "The generated and reflective models sent different headers");
+
+        JsonObject headers = json(generated.methodClientHeaderParamOverridesInterfaceExplicit());
+        assertEquals(headers.getString("OverrideableExplicit"), "overriddenMethodExplicit");
+        assertEquals(headers.getString("InterfaceHeaderComputed"), "interfaceComputed");
+        assertEquals(json(generated.methodComputed()).getString("MethodHeaderComputed"), "MethodHeaderComputed-X");
+        assertFalse(headers.containsKey("OptionalInterfaceHeader"),
+                "The optional header should not be sent when its compute method fails");
+    }
+
+    @Test
+    public void testClientHeaderParamScopeBehavesTheSame() {
+        HeaderModel header = ClientModel.load(ClientHeaderParamClient.class).get().getMethods().stream()
+                .filter(method -> method.getName().equals("perClientToken"))
+                .findFirst().get()
+                .getHeaders().get(0);
+        assertEquals(header.getScope(), Scope.PER_CLIENT, "The scope of the header is not in the generated model");
+
+        for (boolean useGeneratedModel : new boolean[]{true, false}) {
+            HeaderGenerator.resetTokens();
+            ClientHeaderParamClient client = client(ClientHeaderParamClient.class,
+                    ReturnWithAllClientHeadersFilter.class, useGeneratedModel);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(client.perClientToken().getString("Token"), "token1");
+            }
+            assertEquals(HeaderGenerator.generatedTokens(), 1,
+                    "The computed header value should be reused, useGeneratedModel=" + useGeneratedModel);
+        }
+    }
+
+    @Test
+    public void testRequiredComputeMethodFailureBehavesTheSame() {
+        ClientHeaderParamClient generated = client(ClientHeaderParamClient.class,
+                ReturnWithAllClientHeadersFilter.class, true);
+        ClientHeaderParamClient reflective = client(ClientHeaderParamClient.class,
+                ReturnWithAllClientHeadersFilter.class, false);
+
+        assertEquals(failure(generated), failure(reflective),
+                "The generated and reflective models should fail the same way");
+    }
+
+    private static Class<?> failure(ClientHeaderParamClient client) {
+        try {
+            client.methodRequiredComputeMethodFails();
+            fail("The request should have failed because the required compute method throws an exception");
+            return null;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private static void assertSameHeaders(ClientHeaderParamClient generated, ClientHeaderParamClient reflective,
+            Function<ClientHeaderParamClient, String> invocation) {
+        assertEquals(json(invocation.apply(generated)), json(invocation.apply(reflective)),
+                "The generated and reflective models sent different headers");
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import org.eclipse.microprofile.rest.client.ext.HandlesStatus;
+
+import jakarta.ws.rs.core.Response;
+
+@HandlesStatus(409)
+public class ConflictResponseExceptionMapper extends RecordingResponseExceptionMapper {
+
+    public ConflictResponseExceptionMapper() {
+        super(ConflictResponseExceptionMapper.class);
+    }
+
+    @Override
+    protected Throwable newThrowable(Response response) {
+        return new ConflictException();
+    }
+
+    public static class ConflictException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.rest.client.ext.InvocationObserver;
+import org.eclipse.microprofile.rest.client.ext.ObservedInvocation;
+
+/**
+ * Records the callbacks of the invocations it observes, together with the state of the invocation when the invocation
+ * completed or failed.
+ */
+public class RecordingInvocationObserver implements InvocationObserver {
+
+    public static final String START = "onStart";
+    public static final String CONNECTION_ACQUIRED = "onConnectionAcquired";
+    public static final String REQUEST_SENT = "onRequestSent";
+    public static final String FIRST_BYTE = "onFirstByte";
+    public static final String BODY_READ = "onBodyRead";
+    public static final String COMPLETED = "onCompleted";
+    public static final String FAILED = "onFailed";
+
+    private final List<String> callbacks = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final boolean throwing;
+
+    private volatile ObservedInvocation invocation;
+    private volatile long startThreadId;
+    private volatile int status;
+    private volatile long requestBytes;
+    private volatile long responseBytes;
+    private volatile Throwable failure;
+
+    public RecordingInvocationObserver() {
+        this(false);
+    }
+
+    /**
+     * @param throwing
+     *            - true if every callback should throw an exception after recording it
+     */
+    public RecordingInvocationObserver(boolean throwing) {
+        this.throwing = throwing;
+    }
+
+    public List<String> awaitCallbacks() throws InterruptedException {
+        if (!finished.await(30, TimeUnit.SECONDS)) {
+            throw new AssertionError("The invocation did not complete or fail, callbacks: " + callbacks);
+        }
+        synchronized (callbacks) {
+            return new ArrayList<>(callbacks);
+        }
+    }
+
+    public ObservedInvocation getInvocation() {
+        return invocation;
+    }
+
+    public long getStartThreadId() {
+        return startThreadId;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getRequestBytes() {
+        return requestBytes;
+    }
+
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void onStart(ObservedInvocation invocation) {
+        this.invocation = invocation;
+        this.startThreadId = Thread.currentThread().getId();
+        record(START);
+    }
+
+    @Override
+    public void onConnectionAcquired(ObservedInvocation invocation) {
+        record(CONNECTION_ACQUIRED);
+    }
+
+    @Override
+    public void onRequestSent(ObservedInvocation invocation) {
+        record(REQUEST_SENT);
+    }
+
+    @Override
+    public void onFirstByte(ObservedInvocation invocation) {
+        record(FIRST_BYTE);
+    }
+
+    @Override
+    public void onBodyRead(ObservedInvocation invocation) {
+        record(BODY_READ);
+    }
+
+    @Override
+    public void onCompleted(ObservedInvocation invocation) {
+        finish(invocation, null);
+        record(COMPLETED);
+    }
+
+    @Override
+    public void onFailed(ObservedInvocation invocation, Throwable failure) {
+        finish(invocation, failure);
+        record(FAILED);
+    }
+
+    private void finish(ObservedInvocation invocation, Throwable failure) {
+        this.status = invocation.getStatus();
+        this.requestBytes = invocation.getRequestBytes();
+        this.responseBytes = invocation.getResponseBytes();
+        this.failure = failure;
+    }
+
+    private void record(String callback) {
+        callbacks.add(callback);
+        if (COMPLETED.equals(callback) || FAILED.equals(callback)) {
+            finished.countDown();
+        }
+        if (throwing) {
+            throw new IllegalStateException("Thrown by " + callback);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Base class for the status-specific exception mappers, which only differ in their {@code @HandlesStatus} and
+ * {@code @Priority} annotations. Records which mapper classes had their {@link #handles(int, MultivaluedMap)} and
+ * {@link #toThrowable(Response)} methods called, and by default maps the response to a {@link WebApplicationException}
+ * whose message is the simple name of the mapper class.
+ */
+public abstract class RecordingResponseExceptionMapper implements ResponseExceptionMapper<Throwable> {
+    private static final Set<Class<?>> HANDLES_CALLED = ConcurrentHashMap.newKeySet();
+    private static final Set<Class<?>> THROWABLE_CALLED = ConcurrentHashMap.newKeySet();
+
+    private final Class<? extends RecordingResponseExceptionMapper> mapperClass;
+
+    protected RecordingResponseExceptionMapper(Class<? extends RecordingResponseExceptionMapper> mapperClass) {
+        this.mapperClass = mapperClass;
+    }
+
+    @Override
+    public Throwable toThrowable(Response response) {
+        THROWABLE_CALLED.add(mapperClass);
+        return newThrowable(response);
+    }
+
+    protected Throwable newThrowable(Response response) {
+        return new WebApplicationException(mapperClass.getSimpleName(), response);
+    }
+
+    @Override
+    public boolean handles(int status, MultivaluedMap<String, Object> headers) {
+        HANDLES_CALLED.add(mapperClass);
+        return ResponseExceptionMapper.super.handles(status, headers);
+    }
+
+    public static void reset() {
+        HANDLES_CALLED.clear();
+        THROWABLE_CALLED.clear();
+    }
+
+    public static boolean isHandlesCalled(Class<? extends RecordingResponseExceptionMapper> mapperClass) {
+        return HANDLES_CALLED.contains(mapperClass);
+    }
+
+    public static boolean isThrowableCalled(Class<? extends RecordingResponseExceptionMapper> mapperClass) {
+        return THROWABLE_CALLED.contains(mapperClass);
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import org.eclipse.microprofile.rest.client.ext.HandlesStatus;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+
+@Priority(Priorities.USER)
+@HandlesStatus(ranges = @HandlesStatus.Range(from = 500, to = 599))
+public class ServerErrorResponseExceptionMapper extends RecordingResponseExceptionMapper {
+
+    public ServerErrorResponseExceptionMapper() {
+        super(ServerErrorResponseExceptionMapper.class);
+    }
+}
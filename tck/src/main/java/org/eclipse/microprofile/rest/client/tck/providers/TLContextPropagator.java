@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.ext.ContextPropagator;
+
+/**
+ * A <code>ContextPropagator</code> that propagates the <code>ThreadLocal</code> of
+ * {@link TLAsyncInvocationInterceptorFactory}. It counts how often the context is captured and applied, so tests can
+ * check that the context of an invocation is captured once and applied on every thread taking part in it.
+ */
+public class TLContextPropagator implements ContextPropagator {
+
+    private final AtomicInteger captures = new AtomicInteger();
+    private final AtomicInteger applications = new AtomicInteger();
+    private final Set<Long> appliedThreadIds = ConcurrentHashMap.newKeySet();
+
+    public TLContextPropagator(Integer initialTlInt) {
+        TLAsyncInvocationInterceptorFactory.setTlInt(initialTlInt);
+    }
+
+    public int getCaptures() {
+        return captures.get();
+    }
+
+    public int getApplications() {
+        return applications.get();
+    }
+
+    public Set<Long> getAppliedThreadIds() {
+        return appliedThreadIds;
+    }
+
+    public void reset() {
+        captures.set(0);
+        applications.set(0);
+        appliedThreadIds.clear();
+    }
+
+    @Override
+    public Executor captureContext() {
+        captures.incrementAndGet();
+        Integer tlValue = TLAsyncInvocationInterceptorFactory.getTlInt();
+        return task -> {
+            applications.incrementAndGet();
+            appliedThreadIds.add(Thread.currentThread().getId());
+            Integer previous = TLAsyncInvocationInterceptorFactory.getTlInt();
+            TLAsyncInvocationInterceptorFactory.setTlInt(tlValue);
+            try {
+                task.run();
+            } finally {
+                TLAsyncInvocationInterceptorFactory.setTlInt(previous);
+            }
+        };
+    }
+}
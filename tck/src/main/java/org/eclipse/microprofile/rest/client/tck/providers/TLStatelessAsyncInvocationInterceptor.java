@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.ext.StatelessAsyncInvocationInterceptor;
+
+/**
+ * Propagates the <code>ThreadLocal</code> of {@link TLAsyncInvocationInterceptorFactory} using the snapshot returned by
+ * <code>prepareContext</code>, rather than the state of a per invocation interceptor.
+ */
+public class TLStatelessAsyncInvocationInterceptor implements StatelessAsyncInvocationInterceptor<Integer> {
+
+    private final Map<String, Object> data = new ConcurrentHashMap<>();
+    private final AtomicInteger applyContextInvocations = new AtomicInteger();
+    private final AtomicInteger removeContextInvocations = new AtomicInteger();
+
+    public TLStatelessAsyncInvocationInterceptor(Integer initialTlInt) {
+        TLAsyncInvocationInterceptorFactory.setTlInt(initialTlInt);
+    }
+
+    public Map<String, Object> getData() {
+        return data;
+    }
+
+    public int getApplyContextInvocations() {
+        return applyContextInvocations.get();
+    }
+
+    public int getRemoveContextInvocations() {
+        return removeContextInvocations.get();
+    }
+
+    @Override
+    public Integer prepareContext() {
+        data.put("preThreadId", Thread.currentThread().getId());
+        Integer tlValue = TLAsyncInvocationInterceptorFactory.getTlInt();
+        return tlValue == 0 ? null : tlValue;
+    }
+
+    @Override
+    public void applyContext(Integer snapshot) {
+        applyContextInvocations.incrementAndGet();
+        data.put("postThreadId", Thread.currentThread().getId());
+        data.put("appliedSnapshot", snapshot);
+        TLAsyncInvocationInterceptorFactory.setTlInt(snapshot);
+    }
+
+    @Override
+    public void removeContext(Integer snapshot) {
+        removeContextInvocations.incrementAndGet();
+        data.put("removeThreadId", Thread.currentThread().getId());
+        data.put("removedSnapshot", snapshot);
+        data.put("AsyncThreadLocalPre", TLAsyncInvocationInterceptorFactory.getTlInt());
+        TLAsyncInvocationInterceptorFactory.setTlInt(0);
+        data.put("AsyncThreadLocalPost", TLAsyncInvocationInterceptorFactory.getTlInt());
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import org.eclipse.microprofile.rest.client.ext.AsyncInvocationInterceptor;
+import org.eclipse.microprofile.rest.client.tck.utils.VirtualThreads;
+
+public class VirtualThreadAsyncInvocationInterceptor implements AsyncInvocationInterceptor {
+
+    private final VirtualThreadAsyncInvocationInterceptorFactory factory;
+
+    VirtualThreadAsyncInvocationInterceptor(VirtualThreadAsyncInvocationInterceptorFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    public void prepareContext() {
+    }
+
+    @Override
+    public void applyContext() {
+        factory.applyContextInvocations.incrementAndGet();
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            factory.applyContextOnVirtualThread.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void removeContext() {
+        factory.removeContextInvocations.incrementAndGet();
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            factory.removeContextOnVirtualThread.incrementAndGet();
+        }
+    }
+}
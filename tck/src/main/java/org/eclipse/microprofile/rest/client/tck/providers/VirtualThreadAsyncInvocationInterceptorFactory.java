@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.ext.AsyncInvocationInterceptor;
+import org.eclipse.microprofile.rest.client.ext.AsyncInvocationInterceptorFactory;
+
+public class VirtualThreadAsyncInvocationInterceptorFactory implements AsyncInvocationInterceptorFactory {
+
+    final AtomicInteger applyContextInvocations = new AtomicInteger();
+    final AtomicInteger applyContextOnVirtualThread = new AtomicInteger();
+    final AtomicInteger removeContextInvocations = new AtomicInteger();
+    final AtomicInteger removeContextOnVirtualThread = new AtomicInteger();
+
+    @Override
+    public AsyncInvocationInterceptor newInterceptor() {
+        return new VirtualThreadAsyncInvocationInterceptor(this);
+    }
+
+    public int getApplyContextInvocations() {
+        return applyContextInvocations.get();
+    }
+
+    public int getApplyContextOnVirtualThread() {
+        return applyContextOnVirtualThread.get();
+    }
+
+    public int getRemoveContextInvocations() {
+        return removeContextInvocations.get();
+    }
+
+    public int getRemoveContextOnVirtualThread() {
+        return removeContextOnVirtualThread.get();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.providers;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.rest.client.tck.utils.VirtualThreads;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+public class VirtualThreadClientResponseFilter implements ClientResponseFilter {
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final AtomicInteger virtualThreadInvocations = new AtomicInteger();
+
+    @Override
+    public void filter(ClientRequestContext clientRequestContext, ClientResponseContext clientResponseContext)
+            throws IOException {
+        invocations.incrementAndGet();
+        if (VirtualThreads.isCurrentThreadVirtual()) {
+            virtualThreadInvocations.incrementAndGet();
+        }
+    }
+
+    public int getInvocations() {
+        return invocations.get();
+    }
+
+    public int getVirtualThreadInvocations() {
+        return virtualThreadInvocations.get();
+    }
+}
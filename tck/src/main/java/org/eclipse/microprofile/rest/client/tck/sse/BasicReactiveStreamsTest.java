@@ -16,18 +16,25 @@
 package org.eclipse.microprofile.rest.client.tck.sse;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
 
 import java.net.URI;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -40,6 +47,7 @@ import org.reactivestreams.Subscription;
 import org.testng.annotations.Test;
 import org.testng.log4testng.Logger;
 
+import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.sse.InboundSseEvent;
 
 public class BasicReactiveStreamsTest extends AbstractSseTest {
@@ -55,6 +63,7 @@ public class BasicReactiveStreamsTest extends AbstractSseTest {
                         HttpSseServer.class,
                         MyEventSource.class,
                         MyEventSourceServlet.class,
+                        RsSseBufferClient.class,
                         RsSseClient.class,
                         RsWeatherEventClient.class,
                         WeatherEvent.class,
@@ -223,6 +232,178 @@ public class BasicReactiveStreamsTest extends AbstractSseTest {
         assertNull(subscriptionException.get());
     }
 
+    @Test
+    public void testSlowSubscriberPausesRead() throws Exception {
+        int events = 1000;
+        // large events, so that the emitted data exceeds what the transport can buffer
+        String padding = String.join("", Collections.nCopies(64 * 1024, "x"));
+        AtomicInteger emitted = new AtomicInteger();
+        CountDownLatch resultsLatch = new CountDownLatch(1);
+        AtomicReference<Throwable> serverException = launchServer(resultsLatch, es -> {
+            for (int i = 0; i < events; i++) {
+                es.emitData(i + ":" + padding);
+                emitted.incrementAndGet();
+            }
+        });
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(1);
+        bufferClient().pauseRead().subscribe(subscriber);
+        try {
+            assertTrue(subscriber.received(1, 30), "The first event was not received");
+            sleep(2000);
+            assertTrue(emitted.get() < events, "The server should have been blocked while the subscriber does not "
+                    + "request events, but it has emitted all " + events + " events");
+
+            subscriber.request(Long.MAX_VALUE);
+            assertTrue(subscriber.received(events, 60), "Only " + subscriber.items().size() + " of " + events
+                    + " events were received");
+            assertEquals(subscriber.items().stream().map(data -> data.substring(0, data.indexOf(':')))
+                    .collect(Collectors.toList()), numbers(0, events), "No event should be lost or reordered");
+            assertNull(subscriber.throwable);
+        } finally {
+            subscriber.close();
+            resultsLatch.countDown();
+        }
+        assertNull(serverException.get());
+    }
+
+    @Test
+    public void testSlowSubscriberDropOldest() throws Exception {
+        int events = 1000;
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        List<String> received = receiveAfterBurst(events, subscriber, bufferClient().dropOldest());
+
+        assertTrue(received.size() <= RsSseBufferClient.SIZE,
+                "At most " + RsSseBufferClient.SIZE + " events should have been buffered, but " + received.size()
+                        + " were received");
+        assertTrue(received.contains(String.valueOf(events - 1)), "The latest event should have been kept");
+        assertFalse(received.contains("0"), "The oldest event should have been dropped");
+        assertNull(subscriber.throwable);
+    }
+
+    @Test
+    public void testSlowSubscriberDropLatest() throws Exception {
+        int events = 1000;
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        List<String> received = receiveAfterBurst(events, subscriber, bufferClient().dropLatest());
+
+        assertTrue(received.size() <= RsSseBufferClient.SIZE,
+                "At most " + RsSseBufferClient.SIZE + " events should have been buffered, but " + received.size()
+                        + " were received");
+        assertTrue(received.contains("0"), "The oldest event should have been kept");
+        assertFalse(received.contains(String.valueOf(events - 1)), "The latest event should have been dropped");
+        assertNull(subscriber.throwable);
+    }
+
+    @Test
+    public void testSlowSubscriberError() throws Exception {
+        CountDownLatch resultsLatch = new CountDownLatch(1);
+        AtomicReference<Throwable> serverException = launchServer(resultsLatch, es -> {
+            for (int i = 0; i < 10 * RsSseBufferClient.SIZE; i++) {
+                es.emitData(String.valueOf(i));
+            }
+        });
+
+        RecordingSubscriber<String> subscriber = new RecordingSubscriber<>(0);
+        bufferClient().error().subscribe(subscriber);
+        try {
+            assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS),
+                    "The subscriber should have been signalled an error when the buffer overflowed");
+            assertTrue(subscriber.throwable instanceof ProcessingException,
+                    "Expected a " + ProcessingException.class.getName() + " but got " + subscriber.throwable);
+            assertTrue(subscriber.items().isEmpty(), "No event was requested, but received " + subscriber.items());
+        } finally {
+            resultsLatch.countDown();
+        }
+    }
+
+    @Test
+    public void testBatches() throws Exception {
+        int events = 100;
+        RecordingSubscriber<List<String>> subscriber = new RecordingSubscriber<>(0);
+        CountDownLatch resultsLatch = new CountDownLatch(1);
+        CountDownLatch emitted = new CountDownLatch(1);
+        AtomicReference<Throwable> serverException = launchServer(resultsLatch, es -> {
+            for (int i = 0; i < events; i++) {
+                es.emitData(String.valueOf(i));
+            }
+            emitted.countDown();
+        });
+
+        bufferClient().batches().subscribe(subscriber);
+        try {
+            assertTrue(emitted.await(30, TimeUnit.SECONDS), "The server did not emit all events");
+            // let the client read the burst into its buffer
+            sleep(1000);
+
+            subscriber.request(1);
+            assertTrue(subscriber.received(1, 30), "No batch was received");
+            List<String> first = subscriber.items().get(0);
+            assertTrue(first.size() > 1 && first.size() <= RsSseBufferClient.BATCH_SIZE,
+                    "The first batch should contain all buffered events, but contained " + first.size());
+
+            subscriber.request(Long.MAX_VALUE);
+            List<String> all = new ArrayList<>();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (all.size() < events && System.nanoTime() < deadline) {
+                all.clear();
+                subscriber.items().forEach(batch -> {
+                    assertFalse(batch.isEmpty(), "Batches must not be empty");
+                    all.addAll(batch);
+                });
+                sleep(100);
+            }
+            assertEquals(all, numbers(0, events), "No event should be lost or reordered");
+            assertNull(subscriber.throwable);
+        } finally {
+            subscriber.close();
+            resultsLatch.countDown();
+        }
+        assertNull(serverException.get());
+    }
+
+    private static RsSseBufferClient bufferClient() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost:" + PORT + "/string/sse"))
+                .build(RsSseBufferClient.class);
+    }
+
+    /*
+     * Emits a burst of events while the subscriber has no demand, waits for the client to read them, then requests all
+     * buffered events.
+     */
+    private static List<String> receiveAfterBurst(int events, RecordingSubscriber<String> subscriber,
+            Publisher<String> publisher) throws Exception {
+        CountDownLatch resultsLatch = new CountDownLatch(1);
+        CountDownLatch emitted = new CountDownLatch(1);
+        AtomicReference<Throwable> serverException = launchServer(resultsLatch, es -> {
+            for (int i = 0; i < events; i++) {
+                es.emitData(String.valueOf(i));
+            }
+            emitted.countDown();
+        });
+
+        publisher.subscribe(subscriber);
+        List<String> received;
+        try {
+            assertTrue(emitted.await(30, TimeUnit.SECONDS), "The server did not emit all events");
+            sleep(1000);
+            subscriber.request(Long.MAX_VALUE);
+            // buffered events are delivered without waiting for the server
+            sleep(1000);
+            received = subscriber.items();
+        } finally {
+            subscriber.close();
+            resultsLatch.countDown();
+        }
+        assertNull(serverException.get());
+        return received;
+    }
+
+    private static List<String> numbers(int from, int to) {
+        return IntStream.range(from, to).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
     /*
      * @Test public void testClientClosesConnection() throws Exception { AtomicBoolean clientClosedConnection = new
      * AtomicBoolean(false); CountDownLatch latch = new CountDownLatch(1); try (HttpSseServer server = new
@@ -374,4 +555,84 @@ public class BasicReactiveStreamsTest extends AbstractSseTest {
             subscription.cancel();
         }
     }
+
+    private static class RecordingSubscriber<T> implements Subscriber<T>, AutoCloseable {
+
+        private final List<T> items = new ArrayList<>();
+        private final long initialRequest;
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Throwable throwable;
+        volatile Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            LOG.debug("RecordingSubscriber onSubscribe " + s);
+            subscription = s;
+            if (initialRequest > 0) {
+                s.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            synchronized (items) {
+                items.add(item);
+                items.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOG.debug("RecordingSubscriber onError " + t);
+            throwable = t;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            LOG.debug("RecordingSubscriber onComplete");
+            terminated.countDown();
+        }
+
+        void request(long n) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (subscription == null && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertTrue(subscription != null, "The publisher did not call onSubscribe");
+            subscription.request(n);
+        }
+
+        List<T> items() {
+            synchronized (items) {
+                return new ArrayList<>(items);
+            }
+        }
+
+        boolean received(int count, long timeoutSeconds) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            synchronized (items) {
+                while (items.size() < count) {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    items.wait(remaining);
+                }
+                return true;
+            }
+        }
+
+        @Override
+        public void close() {
+            LOG.debug("RecordingSubscriber close");
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.eclipse.jetty.servlet.ServletHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.testng.log4testng.Logger;
 
+import jakarta.servlet.Servlet;
+
 /**
  *
  * HTTP server which fires server sent events.
@@ -33,9 +35,13 @@ public class HttpSseServer implements AutoCloseable {
     private Server server;
 
     public HttpSseServer start(int port, Consumer<MyEventSource> consumer) {
+        return start(port, new MyEventSourceServlet(consumer));
+    }
+
+    public HttpSseServer start(int port, Servlet servlet) {
         server = new Server(port);
         ServletHandler handler = new ServletHandler();
-        ServletHolder holder = new ServletHolder(new MyEventSourceServlet(consumer));
+        ServletHolder holder = new ServletHolder(servlet);
         handler.addServletWithMapping(holder, "/*");
         server.setHandler(handler);
 
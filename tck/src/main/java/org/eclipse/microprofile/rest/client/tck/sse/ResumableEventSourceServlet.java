@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.sse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Servlet sending a fixed sequence of identified server sent events, at most a given number per connection. A
+ * connection carrying a <code>Last-Event-ID</code> header resumes after the identified event, and a connection made
+ * once every event has been sent is answered with <code>204 No Content</code>, which ends the stream.
+ * <p>
+ * The events are written directly, since the Jetty <code>EventSource</code> emitter cannot send the <code>id</code> and
+ * <code>retry</code> fields.
+ */
+public class ResumableEventSourceServlet extends HttpServlet {
+    private static final long serialVersionUID = 4137650924611402839L;
+
+    private final int events;
+    private final int eventsPerConnection;
+    private final long retry;
+    private final boolean partialLastEvent;
+    private final List<String> lastEventIds = new ArrayList<>();
+    private final List<Long> connectionTimes = new ArrayList<>();
+
+    /**
+     * @param events
+     *            the total number of events
+     * @param eventsPerConnection
+     *            the number of events sent before the connection is closed
+     * @param retry
+     *            the reconnection time in milliseconds sent in the <code>retry</code> field, or a non-positive value to
+     *            not send it
+     * @param partialLastEvent
+     *            whether to send part of the next event before closing the connection, which the client must discard
+     */
+    public ResumableEventSourceServlet(int events, int eventsPerConnection, long retry, boolean partialLastEvent) {
+        this.events = events;
+        this.eventsPerConnection = eventsPerConnection;
+        this.retry = retry;
+        this.partialLastEvent = partialLastEvent;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String lastEventId = request.getHeader("Last-Event-ID");
+        synchronized (this) {
+            lastEventIds.add(lastEventId);
+            connectionTimes.add(System.nanoTime());
+        }
+
+        int first = lastEventId == null ? 0 : Integer.parseInt(lastEventId.trim()) + 1;
+        if (first >= events) {
+            response.setStatus(HttpServletResponse.SC_NO_CONTENT);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("text/event-stream");
+        response.setCharacterEncoding("UTF-8");
+        PrintWriter out = response.getWriter();
+        if (retry > 0) {
+            out.print("retry: " + retry + "\n\n");
+        }
+        int end = Math.min(events, first + eventsPerConnection);
+        for (int id = first; id < end; id++) {
+            out.print("id: " + id + "\ndata: " + data(id) + "\n\n");
+            out.flush();
+        }
+        if (partialLastEvent && end < events) {
+            // the event is not terminated by a blank line, so it is incomplete when the connection closes
+            out.print("id: " + end + "\ndata: " + data(end) + "\n");
+        }
+        out.flush();
+    }
+
+    static String data(int id) {
+        return "event-" + id;
+    }
+
+    /**
+     * @return the <code>Last-Event-ID</code> header of each connection, or <code>null</code> if it had none
+     */
+    public synchronized List<String> lastEventIds() {
+        return new ArrayList<>(lastEventIds);
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which each connection was made
+     */
+    public synchronized List<Long> connectionTimes() {
+        return new ArrayList<>(connectionTimes);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.sse;
+
+import java.util.List;
+
+import org.eclipse.microprofile.rest.client.annotation.SseBuffer;
+import org.reactivestreams.Publisher;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("ssePath")
+@Produces(MediaType.SERVER_SENT_EVENTS)
+@SseBuffer(size = RsSseBufferClient.SIZE)
+public interface RsSseBufferClient {
+
+    int SIZE = 16;
+    int BATCH_SIZE = 128;
+
+    @GET
+    Publisher<String> pauseRead();
+
+    @GET
+    @SseBuffer(size = SIZE, overflow = SseBuffer.Overflow.DROP_OLDEST)
+    Publisher<String> dropOldest();
+
+    @GET
+    @SseBuffer(size = SIZE, overflow = SseBuffer.Overflow.DROP_LATEST)
+    Publisher<String> dropLatest();
+
+    @GET
+    @SseBuffer(size = SIZE, overflow = SseBuffer.Overflow.ERROR)
+    Publisher<String> error();
+
+    @GET
+    @SseBuffer(size = BATCH_SIZE)
+    Publisher<List<String>> batches();
+}
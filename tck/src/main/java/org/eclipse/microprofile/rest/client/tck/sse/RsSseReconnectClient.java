@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.sse;
+
+import org.eclipse.microprofile.rest.client.annotation.SseReconnect;
+import org.reactivestreams.Publisher;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.sse.InboundSseEvent;
+
+@Path("ssePath")
+@Produces(MediaType.SERVER_SENT_EVENTS)
+public interface RsSseReconnectClient {
+
+    @GET
+    @SseReconnect(delay = 100)
+    Publisher<InboundSseEvent> reconnecting();
+
+    @GET
+    @SseReconnect(delay = 2000, maxAttempts = 2)
+    Publisher<InboundSseEvent> limitedAttempts();
+
+    @GET
+    Publisher<InboundSseEvent> notReconnecting();
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.sse;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import jakarta.ws.rs.sse.InboundSseEvent;
+
+/**
+ * Verifies that server sent event publishers annotated with
+ * {@link org.eclipse.microprofile.rest.client.annotation.SseReconnect} resume the stream after the connection ends,
+ * using the <code>Last-Event-ID</code> header and the server's <code>retry</code> field.
+ */
+public class SseReconnectTest extends Arquillian {
+
+    private static final Logger LOG = Logger.getLogger(SseReconnectTest.class);
+    private static final int PORT = Integer.getInteger("sse.reconnect.server.port", 10001);
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, SseReconnectTest.class.getSimpleName() + ".war")
+                .addClasses(HttpSseServer.class,
+                        MyEventSource.class,
+                        MyEventSourceServlet.class,
+                        ResumableEventSourceServlet.class,
+                        RsSseReconnectClient.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    private static RsSseReconnectClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(URI.create("http://localhost:" + PORT + "/string/sse"))
+                .build(RsSseReconnectClient.class);
+    }
+
+    @Test
+    public void testResumesWithLastEventId() throws Exception {
+        ResumableEventSourceServlet servlet = new ResumableEventSourceServlet(30, 10, 0, false);
+        EventSubscriber subscriber = new EventSubscriber();
+        try (HttpSseServer server = new HttpSseServer().start(PORT, servlet)) {
+            client().reconnecting().subscribe(subscriber);
+
+            assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS), "The stream did not complete");
+        }
+
+        assertNull(subscriber.throwable, "The stream should complete without error");
+        assertTrue(subscriber.completed, "The stream should complete once the server answers 204");
+        assertEquals(subscriber.ids(), ids(0, 30), "Each event should be received exactly once, in order");
+        assertEquals(subscriber.data(), ids(0, 30).stream()
+                .map(id -> ResumableEventSourceServlet.data(Integer.parseInt(id)))
+                .collect(Collectors.toList()));
+        assertEquals(servlet.lastEventIds(), Arrays.asList(null, "9", "19", "29"),
+                "Each reconnection should send the ID of the last event received");
+    }
+
+    @Test
+    public void testDiscardsIncompleteEvent() throws Exception {
+        ResumableEventSourceServlet servlet = new ResumableEventSourceServlet(20, 5, 0, true);
+        EventSubscriber subscriber = new EventSubscriber();
+        try (HttpSseServer server = new HttpSseServer().start(PORT, servlet)) {
+            client().reconnecting().subscribe(subscriber);
+
+            assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS), "The stream did not complete");
+        }
+
+        assertNull(subscriber.throwable, "The stream should complete without error");
+        assertEquals(subscriber.ids(), ids(0, 20),
+                "An event interrupted by the end of the connection should be discarded and received again");
+        assertEquals(servlet.lastEventIds(), Arrays.asList(null, "4", "9", "14", "19"));
+    }
+
+    @Test
+    public void testHonorsServerRetry() throws Exception {
+        long retry = 1500;
+        ResumableEventSourceServlet servlet = new ResumableEventSourceServlet(4, 2, retry, false);
+        EventSubscriber subscriber = new EventSubscriber();
+        try (HttpSseServer server = new HttpSseServer().start(PORT, servlet)) {
+            client().reconnecting().subscribe(subscriber);
+
+            assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS), "The stream did not complete");
+        }
+
+        assertEquals(subscriber.ids(), ids(0, 4));
+        List<Long> times = servlet.connectionTimes();
+        for (int i = 1; i < times.size(); i++) {
+            long delay = TimeUnit.NANOSECONDS.toMillis(times.get(i) - times.get(i - 1));
+            // the annotation asks for 100ms, the retry field for 1500ms
+            assertTrue(delay >= retry - 100,
+                    "The client reconnected after " + delay + "ms instead of waiting for the server's retry time");
+        }
+    }
+
+    @Test
+    public void testSignalsErrorAfterMaxAttempts() throws Exception {
+        ResumableEventSourceServlet servlet = new ResumableEventSourceServlet(100, 5, 0, false);
+        EventSubscriber subscriber = new EventSubscriber();
+        try (HttpSseServer server = new HttpSseServer().start(PORT, servlet)) {
+            client().limitedAttempts().subscribe(subscriber);
+
+            assertTrue(subscriber.received(5, 30), "The events of the first connection were not received");
+        }
+        // the server is stopped within the 2s reconnection delay, so every attempt to connect fails
+
+        assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS),
+                "The stream should fail once the maximum number of attempts is reached");
+        assertNotNull(subscriber.throwable, "The stream should fail once the maximum number of attempts is reached");
+        assertFalse(subscriber.completed);
+        assertEquals(subscriber.ids(), ids(0, 5));
+        assertEquals(servlet.lastEventIds().size(), 1);
+    }
+
+    @Test
+    public void testNoReconnectWithoutAnnotation() throws Exception {
+        ResumableEventSourceServlet servlet = new ResumableEventSourceServlet(30, 10, 0, false);
+        EventSubscriber subscriber = new EventSubscriber();
+        try (HttpSseServer server = new HttpSseServer().start(PORT, servlet)) {
+            client().notReconnecting().subscribe(subscriber);
+
+            assertTrue(subscriber.terminated.await(30, TimeUnit.SECONDS), "The stream did not end");
+            // leave time for an unexpected reconnection
+            Thread.sleep(1000);
+        }
+
+        assertTrue(subscriber.completed, "The stream should complete when the server closes the connection");
+        assertEquals(subscriber.ids(), ids(0, 10));
+        assertEquals(servlet.lastEventIds().size(), 1, "The client should not have reconnected");
+    }
+
+    private static List<String> ids(int from, int to) {
+        return IntStream.range(from, to).mapToObj(String::valueOf).collect(Collectors.toList());
+    }
+
+    private static class EventSubscriber implements Subscriber<InboundSseEvent> {
+
+        private final List<InboundSseEvent> events = new ArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        volatile Throwable throwable;
+        volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            LOG.debug("EventSubscriber onSubscribe " + s);
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(InboundSseEvent event) {
+            LOG.debug("EventSubscriber onNext " + event);
+            synchronized (events) {
+                events.add(event);
+                events.notifyAll();
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            LOG.debug("EventSubscriber onError " + t);
+            throwable = t;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            LOG.debug("EventSubscriber onComplete");
+            completed = true;
+            terminated.countDown();
+        }
+
+        List<String> ids() {
+            synchronized (events) {
+                return events.stream().map(InboundSseEvent::getId).collect(Collectors.toList());
+            }
+        }
+
+        List<String> data() {
+            synchronized (events) {
+                return events.stream().map(InboundSseEvent::readData).collect(Collectors.toList());
+            }
+        }
+
+        boolean received(int count, long timeoutSeconds) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            synchronized (events) {
+                while (events.size() < count) {
+                    long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    events.wait(remaining);
+                }
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+
+@Path("/")
+@Produces(MediaType.APPLICATION_OCTET_STREAM)
+public interface DownloadClient {
+
+    @GET
+    @Path("download")
+    ReadableByteChannel channel(@QueryParam("size") long size);
+
+    @GET
+    @Path("download")
+    java.nio.file.Path file(@QueryParam("size") long size);
+
+    @GET
+    @Path("download")
+    CompletionStage<java.nio.file.Path> fileAsync(@QueryParam("size") long size);
+
+    @GET
+    @Path("download")
+    Flow.Publisher<ByteBuffer> publisher(@QueryParam("size") long size);
+
+    @GET
+    @Path("missing")
+    java.nio.file.Path missingFile();
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.ws.rs.WebApplicationException;
+
+/**
+ * Verifies that response bodies returned as a {@link ReadableByteChannel}, a {@link java.nio.file.Path} or a
+ * {@link Flow.Publisher} of {@link ByteBuffer}s are streamed rather than buffered in memory.
+ * <p>
+ * The payloads are {@value #DEFAULT_SIZE} bytes by default, which can be changed with the {@code download.size} system
+ * property. The TCK should be run with a maximum heap smaller than the payload size, so that an implementation
+ * buffering the response body fails with an {@link OutOfMemoryError}.
+ */
+public class DownloadTest extends Arquillian {
+
+    private static final long DEFAULT_SIZE = 512L * 1024 * 1024;
+    private static final long SIZE = Long.getLong("download.size", DEFAULT_SIZE);
+    private static final String HOST = System.getProperty("download.server.host", "localhost");
+    private static final int PORT = Integer.getInteger("download.server.port", 10012);
+    private static final URI BASE_URI = URI.create("http://" + HOST + ":" + PORT);
+
+    private static StreamingServer server;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, DownloadTest.class.getSimpleName() + ".war")
+                .addClasses(DownloadClient.class,
+                        Payloads.class,
+                        Payloads.Digest.class,
+                        StreamingServer.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @BeforeClass
+    public static void startServer() {
+        server = new StreamingServer().start(HOST, PORT);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.reset();
+    }
+
+    private static DownloadClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .readTimeout(60, TimeUnit.SECONDS)
+                .build(DownloadClient.class);
+    }
+
+    private static void assertStillStreaming() {
+        assertTrue(server.bytesWritten() < SIZE,
+                "The response body should be returned while it is still being sent, but the server has already "
+                        + "written all " + SIZE + " bytes");
+    }
+
+    @Test
+    public void testReadableByteChannel() throws IOException {
+        Payloads.Digest digest = new Payloads.Digest();
+        try (ReadableByteChannel channel = client().channel(SIZE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            boolean first = true;
+            while (channel.read(buffer) >= 0) {
+                if (first) {
+                    assertStillStreaming();
+                    first = false;
+                }
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        assertEquals(digest.size(), SIZE, "Unexpected number of bytes read from the channel");
+        assertEquals(digest.checksum(), Payloads.checksum(SIZE), "Unexpected content read from the channel");
+    }
+
+    @Test
+    public void testClosingReadableByteChannelAbortsDownload() throws Exception {
+        try (ReadableByteChannel channel = client().channel(SIZE)) {
+            assertTrue(channel.read(ByteBuffer.allocate(1024)) > 0, "No content read from the channel");
+        }
+        assertTrue(server.aborted().await(30, TimeUnit.SECONDS),
+                "Closing the channel before the end of the body should close the connection");
+    }
+
+    @Test
+    public void testPath() throws IOException {
+        java.nio.file.Path file = client().file(SIZE);
+        try {
+            assertFileContent(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPathAsync() throws Exception {
+        java.nio.file.Path file = client().fileAsync(SIZE).toCompletableFuture().get(120, TimeUnit.SECONDS);
+        try {
+            assertFileContent(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPathWithErrorStatus() {
+        try {
+            java.nio.file.Path file = client().missingFile();
+            fail("A " + WebApplicationException.class + " should have been thrown instead of returning " + file);
+        } catch (WebApplicationException expected) {
+            assertEquals(expected.getResponse().getStatus(), 404);
+        }
+    }
+
+    private static void assertFileContent(java.nio.file.Path file) throws IOException {
+        assertTrue(Files.isRegularFile(file), file + " should be a regular file");
+        assertEquals(Files.size(file), SIZE, "Unexpected size of the downloaded file");
+
+        Payloads.Digest digest = new Payloads.Digest();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        assertEquals(digest.checksum(), Payloads.checksum(SIZE), "Unexpected content of the downloaded file");
+    }
+
+    @Test
+    public void testPublisher() throws Exception {
+        Payloads.Digest digest = new Payloads.Digest();
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean streamed = new AtomicBoolean();
+
+        client().publisher(SIZE).subscribe(new Flow.Subscriber<ByteBuffer>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                if (digest.size() == 0) {
+                    streamed.set(server.bytesWritten() < SIZE);
+                }
+                digest.update(item);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                failure.set(throwable);
+                completed.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        assertTrue(completed.await(120, TimeUnit.SECONDS), "The publisher did not complete");
+        assertNull(failure.get(), "The publisher failed");
+        assertTrue(streamed.get(), "The first buffer should be published while the body is still being sent");
+        assertEquals(digest.size(), SIZE, "Unexpected number of bytes published");
+        assertEquals(digest.checksum(), Payloads.checksum(SIZE), "Unexpected content published");
+    }
+
+    @Test
+    public void testCancellingPublisherAbortsDownload() throws Exception {
+        CountDownLatch received = new CountDownLatch(1);
+        AtomicBoolean terminated = new AtomicBoolean();
+
+        client().publisher(SIZE).subscribe(new Flow.Subscriber<ByteBuffer>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                subscription.cancel();
+                received.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                terminated.set(true);
+            }
+
+            @Override
+            public void onComplete() {
+                terminated.set(true);
+            }
+        });
+
+        assertTrue(received.await(30, TimeUnit.SECONDS), "No buffer was published");
+        assertTrue(server.aborted().await(30, TimeUnit.SECONDS),
+                "Cancelling the subscription before the end of the body should close the connection");
+        assertFalse(terminated.get(), "No signal should be sent after the subscription is cancelled");
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming parser for {@code multipart/form-data} bodies, computing the size and checksum of each part without holding
+ * its content in memory.
+ */
+public final class MultipartDigest {
+
+    private static final Pattern NAME = Pattern.compile("[; ]name=\"([^\"]*)\"", Pattern.CASE_INSENSITIVE);
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final int[] fallback;
+    private final byte[] buffer = new byte[64 * 1024];
+    private int position;
+    private int limit;
+
+    private MultipartDigest(InputStream in, String boundary) {
+        this.in = in;
+        // the delimiter of the first part is not preceded by CRLF, which is handled by starting in a matched state
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.fallback = fallback(delimiter);
+    }
+
+    /**
+     * Parses a multipart body.
+     *
+     * @param in
+     *            the body
+     * @param boundary
+     *            the boundary parameter of the {@code multipart/form-data} media type
+     * @return the name, size and checksum of each part, in order
+     * @throws IOException
+     *             if the body cannot be read or is malformed
+     */
+    public static List<Part> parse(InputStream in, String boundary) throws IOException {
+        return new MultipartDigest(in, boundary).parse();
+    }
+
+    private List<Part> parse() throws IOException {
+        List<Part> parts = new ArrayList<>();
+        String name = null;
+        Payloads.Digest digest = null;
+        int matched = 2;
+        while (true) {
+            if (!scan(matched, digest)) {
+                throw new IOException("Multipart body ended before its close delimiter");
+            }
+            if (digest != null) {
+                parts.add(new Part(name, digest.size(), digest.checksum()));
+            }
+            int first = read();
+            int second = read();
+            if (first == '-' && second == '-') {
+                return parts;
+            }
+            if (first != '\r' || second != '\n') {
+                throw new IOException("Malformed multipart delimiter");
+            }
+            name = readHeaders();
+            digest = new Payloads.Digest();
+            matched = 0;
+        }
+    }
+
+    // Knuth-Morris-Pratt search of the delimiter, passing the content preceding it to the digest
+    private boolean scan(int matched, Payloads.Digest digest) throws IOException {
+        byte[] content = new byte[8 * 1024];
+        int length = 0;
+        int j = matched;
+        int c;
+        while ((c = read()) >= 0) {
+            while (j > 0 && c != (delimiter[j] & 0xFF)) {
+                int k = fallback[j - 1];
+                for (int i = 0; i < j - k; i++) {
+                    if (length == content.length) {
+                        update(digest, content, length);
+                        length = 0;
+                    }
+                    content[length++] = delimiter[i];
+                }
+                j = k;
+            }
+            if (c == (delimiter[j] & 0xFF)) {
+                if (++j == delimiter.length) {
+                    update(digest, content, length);
+                    return true;
+                }
+            } else {
+                if (length == content.length) {
+                    update(digest, content, length);
+                    length = 0;
+                }
+                content[length++] = (byte) c;
+            }
+        }
+        return false;
+    }
+
+    private static void update(Payloads.Digest digest, byte[] content, int length) {
+        if (digest != null) {
+            digest.update(content, 0, length);
+        }
+    }
+
+    private String readHeaders() throws IOException {
+        String name = null;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            if (line.regionMatches(true, 0, "Content-Disposition:", 0, 20)) {
+                Matcher matcher = NAME.matcher(line);
+                if (matcher.find()) {
+                    name = matcher.group(1);
+                }
+            }
+        }
+        return name;
+    }
+
+    private String readLine() throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int c;
+        while ((c = read()) != '\n') {
+            if (c < 0) {
+                throw new IOException("Multipart body ended in part headers");
+            }
+            if (c != '\r') {
+                line.write(c);
+            }
+        }
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    private static int[] fallback(byte[] pattern) {
+        int[] fallback = new int[pattern.length];
+        for (int i = 1, k = 0; i < pattern.length; i++) {
+            while (k > 0 && pattern[i] != pattern[k]) {
+                k = fallback[k - 1];
+            }
+            if (pattern[i] == pattern[k]) {
+                k++;
+            }
+            fallback[i] = k;
+        }
+        return fallback;
+    }
+
+    /**
+     * The name, size and checksum of a part.
+     */
+    public static final class Part {
+        private final String name;
+        private final long size;
+        private final long checksum;
+
+        Part(String name, long size, long checksum) {
+            this.name = name;
+            this.size = size;
+            this.checksum = checksum;
+        }
+
+        /**
+         * @param line
+         *            a line formatted by {@link #toString()}
+         * @return the part
+         */
+        public static Part parse(String line) {
+            int last = line.lastIndexOf(':');
+            int previous = line.lastIndexOf(':', last - 1);
+            return new Part(line.substring(0, previous),
+                    Long.parseLong(line.substring(previous + 1, last)),
+                    Long.parseLong(line.substring(last + 1)));
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long checksum() {
+            return checksum;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + size + ":" + checksum;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * Generates the deterministic payloads streamed by {@link StreamingServer} and by the upload tests, without holding
+ * them in memory.
+ */
+public final class Payloads {
+
+    /**
+     * A chunk of the payload. Its length is a multiple of the pattern length, so every full chunk is identical.
+     */
+    static final byte[] CHUNK = new byte[251 * 261];
+
+    static {
+        for (int i = 0; i < CHUNK.length; i++) {
+            CHUNK[i] = (byte) (i % 251);
+        }
+    }
+
+    private Payloads() {
+    }
+
+    /**
+     * @param size
+     *            the size of the payload
+     * @return the CRC32 checksum of a payload of the given size
+     */
+    public static long checksum(long size) {
+        CRC32 crc = new CRC32();
+        long remaining = size;
+        while (remaining > 0) {
+            int length = (int) Math.min(CHUNK.length, remaining);
+            crc.update(CHUNK, 0, length);
+            remaining -= length;
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * @param size
+     *            the size of the payload
+     * @param progress
+     *            notified of the number of bytes read so far after each read
+     * @return a stream generating a payload of the given size
+     */
+    public static InputStream inputStream(long size, LongConsumer progress) {
+        return new InputStream() {
+            private long position;
+
+            @Override
+            public int read() {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (position == size) {
+                    return -1;
+                }
+                int start = (int) (position % CHUNK.length);
+                int read = (int) Math.min(Math.min(length, CHUNK.length - start), size - position);
+                System.arraycopy(CHUNK, start, bytes, offset, read);
+                position += read;
+                progress.accept(position);
+                return read;
+            }
+        };
+    }
+
+    /**
+     * @param size
+     *            the size of the payload
+     * @param progress
+     *            notified of the number of bytes published so far after each buffer is generated
+     * @return a single-subscriber publisher generating a payload of the given size, one buffer per request
+     */
+    public static Flow.Publisher<ByteBuffer> publisher(long size, LongConsumer progress) {
+        return new IteratorPublisher<>(new Iterator<ByteBuffer>() {
+            private long position;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public ByteBuffer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int length = (int) Math.min(CHUNK.length, size - position);
+                position += length;
+                progress.accept(position);
+                return ByteBuffer.wrap(CHUNK, 0, length).asReadOnlyBuffer();
+            }
+        });
+    }
+
+    /**
+     * Accumulates the size and checksum of a payload read in pieces.
+     */
+    public static final class Digest {
+        private final CRC32 crc = new CRC32();
+        private long size;
+
+        public void update(ByteBuffer buffer) {
+            size += buffer.remaining();
+            crc.update(buffer);
+        }
+
+        public void update(byte[] bytes, int offset, int length) {
+            size += length;
+            crc.update(bytes, offset, length);
+        }
+
+        public long size() {
+            return size;
+        }
+
+        public long checksum() {
+            return crc.getValue();
+        }
+    }
+}
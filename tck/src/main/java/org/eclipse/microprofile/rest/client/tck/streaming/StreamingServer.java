@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.testng.log4testng.Logger;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTP server streaming large payloads generated on the fly, so that neither the server nor the client can hold them in
+ * memory. The server records how many bytes it has written, so tests can check that the client consumes the response
+ * body while it is still being sent.
+ * <p>
+ * It also accepts {@code multipart/form-data} uploads, replying with the name, size and checksum of each part, one per
+ * line. The number of bytes received is recorded, so tests can check that the client sends the request body while it is
+ * still being produced.
+ */
+public class StreamingServer implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(StreamingServer.class);
+
+    private final Server server = new Server();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+    private volatile boolean chunked;
+    private volatile CountDownLatch aborted = new CountDownLatch(1);
+
+    public StreamingServer start(String host, int port) {
+        server.setHandler(
+                new AbstractHandler() {
+                    @Override
+                    public void handle(String path,
+                            Request request,
+                            HttpServletRequest httpRequest,
+                            HttpServletResponse response) throws IOException {
+                        request.setHandled(true);
+                        if (path.startsWith("/download")) {
+                            download(Long.parseLong(httpRequest.getParameter("size")), response);
+                        } else if (path.startsWith("/upload")) {
+                            upload(httpRequest, response);
+                        } else {
+                            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+                        }
+                    }
+                });
+
+        ServerConnector connector = new ServerConnector(server);
+        connector.setHost(host);
+        connector.setPort(port);
+        server.addConnector(connector);
+
+        try {
+            server.start();
+            LOG.debug("started");
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to start streaming HTTP server", e);
+        }
+        return this;
+    }
+
+    private void download(long size, HttpServletResponse response) throws IOException {
+        response.setContentType("application/octet-stream");
+        response.setContentLengthLong(size);
+        try (OutputStream out = response.getOutputStream()) {
+            long remaining = size;
+            while (remaining > 0) {
+                int length = (int) Math.min(Payloads.CHUNK.length, remaining);
+                out.write(Payloads.CHUNK, 0, length);
+                bytesWritten.addAndGet(length);
+                remaining -= length;
+            }
+        } catch (IOException e) {
+            LOG.debug("download aborted by the client after " + bytesWritten.get() + " bytes");
+            aborted.countDown();
+            throw e;
+        }
+    }
+
+    private void upload(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = boundary(request.getContentType());
+        if (boundary == null) {
+            response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+            return;
+        }
+        chunked = "chunked".equalsIgnoreCase(request.getHeader("Transfer-Encoding"));
+        InputStream in = new FilterInputStream(request.getInputStream()) {
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                int read = super.read(bytes, offset, length);
+                if (read > 0) {
+                    bytesReceived.addAndGet(read);
+                }
+                return read;
+            }
+        };
+        List<MultipartDigest.Part> parts = MultipartDigest.parse(in, boundary);
+        response.setContentType("text/plain");
+        try (PrintWriter out = response.getWriter()) {
+            parts.forEach(out::println);
+        }
+    }
+
+    private static String boundary(String contentType) {
+        if (contentType == null || !contentType.regionMatches(true, 0, "multipart/form-data", 0, 19)) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].equalsIgnoreCase("boundary")) {
+                String value = pair[1].trim();
+                return value.startsWith("\"") ? value.substring(1, value.length() - 1) : value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of payload bytes written since the last {@link #reset()}
+     */
+    public long bytesWritten() {
+        return bytesWritten.get();
+    }
+
+    /**
+     * @return a latch released when the client aborts a download
+     */
+    public CountDownLatch aborted() {
+        return aborted;
+    }
+
+    /**
+     * @return the number of request body bytes received since the last {@link #reset()}
+     */
+    public long bytesReceived() {
+        return bytesReceived.get();
+    }
+
+    /**
+     * @return whether the last upload was sent with chunked transfer encoding
+     */
+    public boolean chunked() {
+        return chunked;
+    }
+
+    public void reset() {
+        bytesWritten.set(0);
+        bytesReceived.set(0);
+        chunked = false;
+        aborted = new CountDownLatch(1);
+    }
+
+    public void stop() {
+        try {
+            server.stop();
+            LOG.debug("stopped");
+        } catch (Exception e) {
+            LOG.error("Failed to stop", e);
+            throw new RuntimeException("Failed to stop streaming HTTP server", e);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        stop();
+    }
+}
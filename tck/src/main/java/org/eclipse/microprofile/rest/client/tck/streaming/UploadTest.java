@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or
+ * implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.rest.client.tck.streaming;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.testng.Arquillian;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Verifies that {@link EntityPart} content read from an {@link java.io.InputStream}, a {@link java.nio.file.Path} or a
+ * {@link Flow.Publisher} of {@link ByteBuffer}s, and parts produced lazily by a {@link java.util.stream.Stream} or a
+ * {@link Flow.Publisher}, are streamed rather than buffered in memory.
+ * <p>
+ * The payloads are {@value #DEFAULT_SIZE} bytes by default, which can be changed with the {@code upload.size} system
+ * property. The TCK should be run with a maximum heap smaller than the payload size, so that an implementation
+ * buffering the request body fails with an {@link OutOfMemoryError}.
+ */
+public class UploadTest extends Arquillian {
+
+    private static final long DEFAULT_SIZE = 512L * 1024 * 1024;
+    private static final long SIZE = Long.getLong("upload.size", DEFAULT_SIZE);
+    private static final int PARTS = 4;
+    private static final String HOST = System.getProperty("upload.server.host", "localhost");
+    private static final int PORT = Integer.getInteger("upload.server.port", 10013);
+    private static final URI BASE_URI = URI.create("http://" + HOST + ":" + PORT);
+
+    private static StreamingServer server;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, UploadTest.class.getSimpleName() + ".war")
+                .addClasses(UploadClient.class,
+                        IteratorPublisher.class,
+                        MultipartDigest.class,
+                        MultipartDigest.Part.class,
+                        Payloads.class,
+                        Payloads.Digest.class,
+                        StreamingServer.class)
+                .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml");
+    }
+
+    @BeforeClass
+    public static void startServer() {
+        server = new StreamingServer().start(HOST, PORT);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @BeforeMethod
+    public void resetServer() {
+        server.reset();
+    }
+
+    private static UploadClient client() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(BASE_URI)
+                .readTimeout(120, TimeUnit.SECONDS)
+                .build(UploadClient.class);
+    }
+
+    @Test
+    public void testInputStreamContent() throws IOException {
+        AtomicLong receivedHalfway = new AtomicLong(-1);
+        EntityPart part = EntityPart.withName("stream")
+                .fileName("stream.bin")
+                .content(Payloads.inputStream(SIZE, halfway(SIZE, receivedHalfway)))
+                .mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .build();
+
+        String reply = client().upload(List.of(part));
+
+        assertParts(reply, "stream");
+        assertStreamed(receivedHalfway);
+        assertTrue(server.chunked(), "A part of unknown length should be sent with chunked transfer encoding");
+    }
+
+    @Test
+    public void testPathContent() throws IOException {
+        java.nio.file.Path file = Files.createTempFile("mp-rest-client-upload", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                long remaining = SIZE;
+                while (remaining > 0) {
+                    int length = (int) Math.min(Payloads.CHUNK.length, remaining);
+                    ByteBuffer buffer = ByteBuffer.wrap(Payloads.CHUNK, 0, length);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    remaining -= length;
+                }
+            }
+            EntityPart part = EntityPart.withName("file")
+                    .fileName("file.bin")
+                    .content(file, java.nio.file.Path.class)
+                    .mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                    .build();
+
+            assertParts(client().upload(List.of(part)), "file");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testPublisherContent() throws IOException {
+        AtomicLong receivedHalfway = new AtomicLong(-1);
+        EntityPart part = EntityPart.withName("publisher")
+                .fileName("publisher.bin")
+                .content(Payloads.publisher(SIZE, halfway(SIZE, receivedHalfway)),
+                        new GenericType<Flow.Publisher<ByteBuffer>>() {
+                        })
+                .mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                .build();
+
+        String reply = client().upload(List.of(part));
+
+        assertParts(reply, "publisher");
+        assertStreamed(receivedHalfway);
+        assertTrue(server.chunked(), "A part of unknown length should be sent with chunked transfer encoding");
+    }
+
+    @Test
+    public void testStreamOfParts() {
+        AtomicLong receivedBeforeLastPart = new AtomicLong(-1);
+
+        String reply = client().upload(IntStream.range(0, PARTS)
+                .mapToObj(index -> lazyPart(index, receivedBeforeLastPart)));
+
+        assertParts(reply, partNames());
+        assertTrue(receivedBeforeLastPart.get() > 0,
+                "The first parts should be sent before the last part of the stream is produced");
+        assertTrue(server.chunked(), "A stream of parts should be sent with chunked transfer encoding");
+    }
+
+    @Test
+    public void testPublisherOfParts() {
+        AtomicLong receivedBeforeLastPart = new AtomicLong(-1);
+
+        String reply = client().upload(new IteratorPublisher<>(IntStream.range(0, PARTS)
+                .mapToObj(index -> lazyPart(index, receivedBeforeLastPart))
+                .iterator()));
+
+        assertParts(reply, partNames());
+        assertTrue(receivedBeforeLastPart.get() > 0,
+                "The first parts should be sent before the last part is requested from the publisher");
+        assertTrue(server.chunked(), "A publisher of parts should be sent with chunked transfer encoding");
+    }
+
+    private static EntityPart lazyPart(int index, AtomicLong receivedBeforeLastPart) {
+        if (index == PARTS - 1) {
+            receivedBeforeLastPart.set(server.bytesReceived());
+        }
+        try {
+            return EntityPart.withName("part" + index)
+                    .fileName("part" + index + ".bin")
+                    .content(Payloads.inputStream(SIZE / PARTS, position -> {
+                    }))
+                    .mediaType(MediaType.APPLICATION_OCTET_STREAM_TYPE)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String[] partNames() {
+        return IntStream.range(0, PARTS).mapToObj(index -> "part" + index).toArray(String[]::new);
+    }
+
+    private static LongConsumer halfway(long size, AtomicLong receivedHalfway) {
+        return position -> {
+            if (position >= size / 2) {
+                receivedHalfway.compareAndSet(-1, server.bytesReceived());
+            }
+        };
+    }
+
+    private static void assertStreamed(AtomicLong receivedHalfway) {
+        assertTrue(receivedHalfway.get() > 0,
+                "The request body should be sent while its content is still being read, but nothing was received "
+                        + "by the server when half of the content had been read");
+    }
+
+    private static void assertParts(String reply, String... names) {
+        List<MultipartDigest.Part> parts = Arrays.stream(reply.split("\\R"))
+                .filter(line -> !line.isEmpty())
+                .map(MultipartDigest.Part::parse)
+                .collect(Collectors.toList());
+        assertEquals(parts.stream().map(MultipartDigest.Part::name).collect(Collectors.toList()), List.of(names),
+                "Unexpected parts received by the server");
+
+        long size = names.length == 1 ? SIZE : SIZE / PARTS;
+        for (MultipartDigest.Part part : parts) {
+            assertEquals(part.size(), size, "Unexpected size of part " + part.name());
+            assertEquals(part.checksum(), Payloads.checksum(size), "Unexpected content of part " + part.name());
+        }
+    }
+}
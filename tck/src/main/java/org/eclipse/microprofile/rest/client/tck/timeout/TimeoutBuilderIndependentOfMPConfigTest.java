@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MethodTimeoutApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
@@ -53,6 +54,7 @@ public class TimeoutBuilderIndependentOfMPConfigTest extends TimeoutTestBase {
                 .addAsWebInfResource(mpConfig, "classes/META-INF/microprofile-config.properties")
                 .addClasses(SimpleGetApi.class,
                         TimeoutTestBase.class,
+                        MethodTimeoutApi.class,
                         WiremockArquillianTest.class);
     }
 
@@ -25,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MethodTimeoutApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
@@ -40,6 +41,7 @@ public class TimeoutTest extends TimeoutTestBase {
         return ShrinkWrap.create(WebArchive.class, simpleName + ".war")
                 .addClasses(WiremockArquillianTest.class,
                         TimeoutTestBase.class,
+                        MethodTimeoutApi.class,
                         SimpleGetApi.class);
     }
 
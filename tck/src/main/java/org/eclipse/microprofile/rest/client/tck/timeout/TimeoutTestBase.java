@@ -19,21 +19,34 @@
 package org.eclipse.microprofile.rest.client.tck.timeout;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.ext.Deadline;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MethodTimeoutApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
 import org.testng.annotations.Test;
 import org.testng.log4testng.Logger;
 
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
 import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.core.Response;
 
 public abstract class TimeoutTestBase extends WiremockArquillianTest {
     private static final Logger LOG = Logger.getLogger(TimeoutTestBase.class);
@@ -90,6 +103,117 @@ public abstract class TimeoutTestBase extends WiremockArquillianTest {
         }
     }
 
+    @Test
+    public void testMethodReadTimeoutOverridesClientTimeout() throws Exception {
+        stubFor(get(urlEqualTo("/timeouts")).willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(30000)));
+
+        MethodTimeoutApi client = getClientWithMethodTimeouts();
+        assertMethodTimeout(() -> client.executeGetWithReadTimeout().close(), getMethodTimeout());
+    }
+
+    @Test
+    public void testTotalTimeout() throws Exception {
+        // no read exceeds the read timeout, but the whole response takes longer than the total timeout
+        stubFor(get(urlEqualTo("/timeouts")).willReturn(aResponse()
+                .withStatus(200)
+                .withBody("0123456789abcdefghij")
+                .withChunkedDribbleDelay(20, 20000)));
+
+        MethodTimeoutApi client = getClientWithMethodTimeouts();
+        ProcessingException e = assertMethodTimeout(client::executeGetWithTotalTimeout,
+                MethodTimeoutApi.METHOD_TIMEOUT);
+        assertTrue(e.getCause() instanceof TimeoutException,
+                "Expected a ProcessingException caused by a TimeoutException, but the cause was " + e.getCause());
+    }
+
+    @Test
+    public void testDeadline() throws Exception {
+        stubFor(get(urlEqualTo("/timeouts")).willReturn(aResponse()
+                .withStatus(200)
+                .withFixedDelay(30000)));
+
+        MethodTimeoutApi client = getClientWithMethodTimeouts();
+        try (Deadline.Scope scope = Deadline.after(MethodTimeoutApi.METHOD_TIMEOUT, TimeUnit.MILLISECONDS).activate()) {
+            ProcessingException e = assertMethodTimeout(() -> client.executeGet().close(),
+                    MethodTimeoutApi.METHOD_TIMEOUT);
+            assertTrue(e.getCause() instanceof TimeoutException,
+                    "Expected a ProcessingException caused by a TimeoutException, but the cause was " + e.getCause());
+        }
+    }
+
+    @Test
+    public void testDeadlinePropagated() throws Exception {
+        stubFor(get(urlEqualTo("/timeouts")).willReturn(aResponse().withStatus(200)));
+
+        try (Deadline.Scope scope = Deadline.after(30, TimeUnit.SECONDS).activate();
+                Response response = getClientWithMethodTimeouts().executeGet()) {
+            assertEquals(response.getStatus(), 200);
+        }
+
+        List<LoggedRequest> requests = findAll(getRequestedFor(urlEqualTo("/timeouts")));
+        assertEquals(requests.size(), 1);
+        String header = requests.get(0).getHeader(Deadline.HEADER);
+        long remaining = Long.parseLong(header);
+        // the deadline shrinks by the time elapsed before the request is sent
+        assertTrue(remaining > 0 && remaining <= 30000,
+                "Expected the remaining time before the deadline, but the header was " + header);
+    }
+
+    @Test
+    public void testExpiredDeadlineFailsWithoutRequest() throws Exception {
+        stubFor(get(urlEqualTo("/timeouts")).willReturn(aResponse().withStatus(200)));
+
+        try (Deadline.Scope scope = Deadline.after(0, TimeUnit.MILLISECONDS).activate()) {
+            getClientWithMethodTimeouts().executeGet().close();
+            fail("A ProcessingException should have been thrown as the deadline has passed");
+        } catch (ProcessingException expected) {
+            assertTrue(expected.getCause() instanceof TimeoutException,
+                    "Expected a ProcessingException caused by a TimeoutException, but the cause was "
+                            + expected.getCause());
+        }
+        verify(0, getRequestedFor(urlEqualTo("/timeouts")));
+    }
+
+    private ProcessingException assertMethodTimeout(Runnable invocation, long timeout) {
+        long startTime = System.nanoTime();
+        ProcessingException exception = null;
+        try {
+            invocation.run();
+        } catch (ProcessingException e) {
+            exception = e;
+        }
+        long elapsedMs = TimeUnit.MILLISECONDS.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        if (exception == null) {
+            fail("A ProcessingException should have been thrown due to the method timeout");
+        }
+        assertTrue(elapsedMs >= timeout - ROUNDING_FACTOR_CUSHION,
+                "Elapsed time expected over " + timeout + "ms, but was " + elapsedMs + "ms.");
+        long elapsedLimit = timeout + TIMEOUT_CUSHION;
+        assertTrue(elapsedMs < elapsedLimit,
+                "Elapsed time expected under " + elapsedLimit + "ms, but was " + elapsedMs + "ms.");
+        return exception;
+    }
+
+    /**
+     * Returns a client whose methods without {@code RequestTimeout} annotation have a read timeout well above the
+     * method timeouts.
+     */
+    protected MethodTimeoutApi getClientWithMethodTimeouts() {
+        return RestClientBuilder.newBuilder()
+                .baseUri(getServerURI())
+                .readTimeout(30, TimeUnit.SECONDS)
+                .build(MethodTimeoutApi.class);
+    }
+
+    /**
+     * Returns the read timeout expected for the {@code executeGetWithReadTimeout} method.
+     */
+    protected long getMethodTimeout() {
+        return MethodTimeoutApi.METHOD_TIMEOUT;
+    }
+
     protected abstract SimpleGetApi getClientWithReadTimeout();
     protected abstract SimpleGetApi getClientWithConnectTimeout();
 
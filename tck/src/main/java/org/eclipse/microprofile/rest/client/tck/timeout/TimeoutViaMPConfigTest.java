@@ -22,6 +22,7 @@ import static org.testng.Assert.assertTrue;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MethodTimeoutApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.Archive;
@@ -34,24 +35,35 @@ import jakarta.inject.Inject;
 
 public class TimeoutViaMPConfigTest extends TimeoutTestBase {
     private static final int TIMEOUT = 7000;
+    private static final int METHOD_TIMEOUT = 3000;
 
     @Inject
     @RestClient
     private SimpleGetApi api;
 
+    @Inject
+    @RestClient
+    private MethodTimeoutApi methodTimeoutApi;
+
     @Deployment
     public static Archive<?> createDeployment() {
         String clientName = SimpleGetApi.class.getName();
+        String methodClientName = MethodTimeoutApi.class.getName();
+        // the method level read timeout overrides the @RequestTimeout annotation of the method
         String timeoutProps =
                 clientName + "/mp-rest/uri=" + UNUSED_URL + System.lineSeparator() +
                         clientName + "/mp-rest/connectTimeout=" + TIMEOUT + System.lineSeparator() +
-                        clientName + "/mp-rest/readTimeout=" + TIMEOUT;
+                        clientName + "/mp-rest/readTimeout=" + TIMEOUT + System.lineSeparator() +
+                        methodClientName + "/mp-rest/uri=" + getStringURL() + System.lineSeparator() +
+                        methodClientName + "/mp-rest/readTimeout=30000" + System.lineSeparator() +
+                        methodClientName + "/mp-rest/executeGetWithReadTimeout/readTimeout=" + METHOD_TIMEOUT;
         StringAsset mpConfig = new StringAsset(timeoutProps);
         return ShrinkWrap.create(WebArchive.class, TimeoutViaMPConfigTest.class.getSimpleName() + ".war")
                 .addAsWebInfResource(mpConfig, "classes/META-INF/microprofile-config.properties")
                 .addAsWebInfResource(EmptyAsset.INSTANCE, "beans.xml")
                 .addClasses(SimpleGetApi.class,
                         TimeoutTestBase.class,
+                        MethodTimeoutApi.class,
                         WiremockArquillianTest.class);
     }
 
@@ -65,6 +77,16 @@ public class TimeoutViaMPConfigTest extends TimeoutTestBase {
         return api;
     }
 
+    @Override
+    protected MethodTimeoutApi getClientWithMethodTimeouts() {
+        return methodTimeoutApi;
+    }
+
+    @Override
+    protected long getMethodTimeout() {
+        return METHOD_TIMEOUT;
+    }
+
     @Override
     protected void checkTimeElapsed(long elapsed) {
         assertTrue(elapsed >= TIMEOUT - ROUNDING_FACTOR_CUSHION);
@@ -22,6 +22,7 @@ import static org.testng.Assert.assertTrue;
 
 import org.eclipse.microprofile.rest.client.inject.RestClient;
 import org.eclipse.microprofile.rest.client.tck.WiremockArquillianTest;
+import org.eclipse.microprofile.rest.client.tck.interfaces.MethodTimeoutApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApi;
 import org.eclipse.microprofile.rest.client.tck.interfaces.SimpleGetApiWithConfigKey;
 import org.jboss.arquillian.container.test.api.Deployment;
@@ -53,6 +54,7 @@ public class TimeoutViaMPConfigWithConfigKeyTest extends TimeoutTestBase {
                 .addClasses(SimpleGetApi.class,
                         SimpleGetApiWithConfigKey.class,
                         TimeoutTestBase.class,
+                        MethodTimeoutApi.class,
                         WiremockArquillianTest.class);
     }
 